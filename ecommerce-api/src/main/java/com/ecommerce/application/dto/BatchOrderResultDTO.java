@@ -0,0 +1,19 @@
+package com.ecommerce.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * BatchOrderResultDTO - Data Transfer Object for batch order results
+ * 一括注文の1件分の結果（index は入力の位置、成功時は order、失敗時は error を持つ）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOrderResultDTO {
+    private int index;
+    private boolean success;
+    private OrderDTO order;
+    private String error;
+}
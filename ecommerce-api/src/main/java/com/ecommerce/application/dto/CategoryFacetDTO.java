@@ -0,0 +1,16 @@
+package com.ecommerce.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * CategoryFacetDTO - カテゴリごとの絞り込み件数
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryFacetDTO {
+    private Long categoryId;
+    private long count;
+}
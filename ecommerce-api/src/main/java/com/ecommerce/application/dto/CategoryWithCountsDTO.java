@@ -0,0 +1,23 @@
+package com.ecommerce.application.dto;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * CategoryWithCountsDTO - 商品数を含むカテゴリの Data Transfer Object
+ * カテゴリ（CategoryDTO）に、属する商品数と在庫のある商品数を加えたもの
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+public class CategoryWithCountsDTO extends CategoryDTO {
+    private long productCount;
+    private long inStockCount;
+
+    public CategoryWithCountsDTO(Long id, String name, String description, long productCount, long inStockCount) {
+        super(id, name, description);
+        this.productCount = productCount;
+        this.inStockCount = inStockCount;
+    }
+}
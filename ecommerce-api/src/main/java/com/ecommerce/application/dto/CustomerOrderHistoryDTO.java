@@ -0,0 +1,27 @@
+package com.ecommerce.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CustomerOrderHistoryDTO - 顧客の注文履歴の集計の Data Transfer Object
+ * orderCount はキャンセルを含む注文数、lifetimeSpend はキャンセルを除く注文の合計金額
+ * recentOrders は新しい順の直近の注文（すべての注文は顧客の注文一覧をページ単位で取得する）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerOrderHistoryDTO {
+    private Long customerId;
+    private long orderCount;
+    private long cancelledCount;
+    private BigDecimal lifetimeSpend;
+    private LocalDateTime lastOrderedAt;
+    private List<RecentOrderDTO> recentOrders = new ArrayList<>();
+}
@@ -0,0 +1,29 @@
+package com.ecommerce.application.dto;
+
+import com.ecommerce.domain.repository.PageResult;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PageDTO - ページング結果の Data Transfer Object
+ * 次ページは nextCursor を after パラメータに指定して取得する
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageDTO<T> {
+    private List<T> items = new ArrayList<>();
+    private boolean hasNext;
+    private Long nextCursor;
+
+    /**
+     * ページング結果から DTO を生成（要素は変換済みであること）
+     */
+    public static <T> PageDTO<T> from(PageResult<T> result) {
+        return new PageDTO<>(new ArrayList<>(result.getItems()), result.hasNext(), result.getNextCursor());
+    }
+}
@@ -0,0 +1,20 @@
+package com.ecommerce.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * PriceRangeFacetDTO - 価格帯ごとの絞り込み件数
+ * min 以上 max 未満（max が null の場合は上限なし）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceRangeFacetDTO {
+    private BigDecimal min;
+    private BigDecimal max;
+    private long count;
+}
@@ -0,0 +1,26 @@
+package com.ecommerce.application.dto;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * ProductFacetPageDTO - 絞り込みを指定した商品一覧の Data Transfer Object
+ * 通常の一覧（PageDTO）に、条件に一致した件数と絞り込み項目ごとの件数を加えたもの
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+public class ProductFacetPageDTO extends PageDTO<ProductDTO> {
+    private long total;
+    private ProductFacetsDTO facets;
+
+    public ProductFacetPageDTO(List<ProductDTO> items, boolean hasNext, Long nextCursor,
+                               long total, ProductFacetsDTO facets) {
+        super(items, hasNext, nextCursor);
+        this.total = total;
+        this.facets = facets;
+    }
+}
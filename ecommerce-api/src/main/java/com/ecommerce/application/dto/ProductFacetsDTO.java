@@ -0,0 +1,22 @@
+package com.ecommerce.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ProductFacetsDTO - 絞り込み項目ごとの件数
+ * 各項目の件数は、その項目以外の条件を適用した件数
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFacetsDTO {
+    private List<CategoryFacetDTO> categories = new ArrayList<>();
+    private List<PriceRangeFacetDTO> priceRanges = new ArrayList<>();
+    private long inStock;
+    private long outOfStock;
+}
@@ -0,0 +1,34 @@
+package com.ecommerce.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ProductImportEventDTO - 商品フィード取り込みの経過（NDJSON の1行）
+ * type が "error" の場合は line と message、"progress" / "summary" の場合は件数を持つ
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProductImportEventDTO {
+    private String type;
+    private Long line;
+    private String message;
+    private Long processed;
+    private Long created;
+    private Long updated;
+    private Long failed;
+    private Long elapsedMs;
+
+    public static ProductImportEventDTO error(long line, String message) {
+        return new ProductImportEventDTO("error", line, message, null, null, null, null, null);
+    }
+
+    public static ProductImportEventDTO progress(String type, long processed, long created, long updated,
+                                                 long failed, long elapsedMs) {
+        return new ProductImportEventDTO(type, null, null, processed, created, updated, failed, elapsedMs);
+    }
+}
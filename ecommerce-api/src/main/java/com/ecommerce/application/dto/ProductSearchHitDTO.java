@@ -0,0 +1,22 @@
+package com.ecommerce.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * ProductSearchHitDTO - 商品検索結果の1件
+ * 検索索引に保持している項目のみを返す（在庫や説明は商品詳細で取得する）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchHitDTO {
+    private Long id;
+    private String name;
+    private BigDecimal price;
+    private Long categoryId;
+    private double score;
+}
@@ -0,0 +1,20 @@
+package com.ecommerce.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ProductSearchResultDTO - 商品検索結果の Data Transfer Object
+ * total は条件に一致した件数、items は関連度の高い順に offset から limit 件
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchResultDTO {
+    private long total;
+    private List<ProductSearchHitDTO> items = new ArrayList<>();
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * RecentOrderDTO - 注文履歴に表示する注文の概要（明細を含まない）
+ * 明細を含む注文は OrderDTO で取得する
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecentOrderDTO {
+    private Long id;
+    private String status;
+    private BigDecimal totalPrice;
+    private LocalDateTime createdAt;
+}
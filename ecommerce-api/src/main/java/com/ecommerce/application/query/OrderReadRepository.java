@@ -0,0 +1,43 @@
+package com.ecommerce.application.query;
+
+import com.ecommerce.application.dto.CustomerOrderHistoryDTO;
+import com.ecommerce.application.dto.OrderDTO;
+import com.ecommerce.domain.model.OrderStatus;
+import com.ecommerce.domain.repository.PageQuery;
+import com.ecommerce.domain.repository.PageResult;
+
+import java.util.Optional;
+
+/**
+ * OrderReadRepository - 注文の読み取り専用リポジトリ
+ * 一覧・詳細・注文履歴の表示用に DTO を直接返す（集約を組み立てない）
+ * 実装はインフラ層で行う
+ */
+public interface OrderReadRepository {
+    /**
+     * 注文履歴に含める直近の注文数の上限
+     */
+    int MAX_RECENT_ORDERS = 50;
+
+    Optional<OrderDTO> findById(Long id);
+
+    /**
+     * 注文を明細付きでページ単位に取得（ID 昇順）
+     */
+    PageResult<OrderDTO> findPage(PageQuery query);
+
+    /**
+     * 顧客の注文を明細付きでページ単位に取得（ID 昇順）
+     */
+    PageResult<OrderDTO> findPageByCustomerId(Long customerId, PageQuery query);
+
+    /**
+     * ステータスごとの注文を明細付きでページ単位に取得（ID 昇順）
+     */
+    PageResult<OrderDTO> findPageByStatus(OrderStatus status, PageQuery query);
+
+    /**
+     * 顧客の注文履歴の集計と新しい順の直近 recent 件の注文（顧客が存在しない場合は空）
+     */
+    Optional<CustomerOrderHistoryDTO> findHistoryByCustomerId(Long customerId, int recent);
+}
@@ -0,0 +1,33 @@
+package com.ecommerce.application.query;
+
+import com.ecommerce.application.dto.ProductDTO;
+import com.ecommerce.domain.repository.PageQuery;
+import com.ecommerce.domain.repository.PageResult;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ProductReadRepository - 商品の読み取り専用リポジトリ
+ * 一覧・詳細の表示用に ProductDTO を直接返す（集約を組み立てない）
+ * 実装はインフラ層で行う
+ */
+public interface ProductReadRepository {
+    Optional<ProductDTO> findById(Long id);
+
+    /**
+     * 指定IDの商品（ID 昇順、存在しないIDは含まれない）
+     */
+    List<ProductDTO> findAllByIds(Collection<Long> ids);
+
+    /**
+     * 商品をページ単位で取得（ID 昇順）
+     */
+    PageResult<ProductDTO> findPage(PageQuery query);
+
+    /**
+     * カテゴリの商品をページ単位で取得（ID 昇順）
+     */
+    PageResult<ProductDTO> findPageByCategoryId(Long categoryId, PageQuery query);
+}
@@ -2,9 +2,15 @@ package com.ecommerce.application.service;
 
 import com.ecommerce.domain.model.Category;
 import com.ecommerce.domain.model.CategoryId;
+import com.ecommerce.domain.repository.CategoryProductCount;
 import com.ecommerce.domain.repository.CategoryRepository;
+import com.ecommerce.domain.repository.PageQuery;
+import com.ecommerce.domain.repository.PageResult;
+import com.ecommerce.domain.repository.ProductFacetIndex;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -13,14 +19,17 @@ import java.util.Optional;
  */
 public class CategoryApplicationService {
     private final CategoryRepository categoryRepository;
+    private final ProductFacetIndex facetIndex;
 
-    public CategoryApplicationService(CategoryRepository categoryRepository) {
+    public CategoryApplicationService(CategoryRepository categoryRepository, ProductFacetIndex facetIndex) {
         this.categoryRepository = categoryRepository;
+        this.facetIndex = facetIndex;
     }
 
     /**
      * カテゴリを作成
      */
+    @Transactional
     public void createCategory(String name, String description) {
         // 同じ名前のカテゴリが既に存在するかチェック
         if (categoryRepository.findByName(name).isPresent()) {
@@ -37,6 +46,7 @@ public class CategoryApplicationService {
     /**
      * IDでカテゴリを取得
      */
+    @Transactional(readOnly = true)
     public Optional<Category> getCategory(Long id) {
         return categoryRepository.findById(new CategoryId(id));
     }
@@ -44,6 +54,7 @@ public class CategoryApplicationService {
     /**
      * 名前でカテゴリを取得
      */
+    @Transactional(readOnly = true)
     public Optional<Category> getCategoryByName(String name) {
         return categoryRepository.findByName(name);
     }
@@ -51,13 +62,31 @@ public class CategoryApplicationService {
     /**
      * すべてのカテゴリを取得
      */
+    @Transactional(readOnly = true)
     public List<Category> getAllCategories() {
         return categoryRepository.findAll();
     }
 
+    /**
+     * カテゴリをページ単位で取得
+     */
+    @Transactional(readOnly = true)
+    public PageResult<Category> getCategoriesPage(PageQuery query) {
+        return categoryRepository.findPage(query);
+    }
+
+    /**
+     * カテゴリごとの商品数と在庫のある商品数（商品のないカテゴリは含まない）
+     * 商品の保存・削除・在庫の増減のたびに更新される絞り込み索引の件数を返すため、商品テーブルは集計しない
+     */
+    public Map<CategoryId, CategoryProductCount> getProductCounts() {
+        return facetIndex.countByCategory();
+    }
+
     /**
      * カテゴリを更新
      */
+    @Transactional
     public void updateCategory(Long id, String name, String description) {
         CategoryId categoryId = new CategoryId(id);
 
@@ -83,6 +112,7 @@ public class CategoryApplicationService {
     /**
      * カテゴリを削除
      */
+    @Transactional
     public void deleteCategory(Long id) {
         CategoryId categoryId = new CategoryId(id);
 
@@ -1,8 +1,13 @@
 package com.ecommerce.application.service;
 
+import com.ecommerce.application.dto.CustomerOrderHistoryDTO;
+import com.ecommerce.application.query.OrderReadRepository;
 import com.ecommerce.domain.model.Customer;
 import com.ecommerce.domain.model.CustomerId;
 import com.ecommerce.domain.repository.CustomerRepository;
+import com.ecommerce.domain.repository.PageQuery;
+import com.ecommerce.domain.repository.PageResult;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,14 +18,18 @@ import java.util.Optional;
  */
 public class CustomerApplicationService {
     private final CustomerRepository customerRepository;
+    private final OrderReadRepository orderReadRepository;
 
-    public CustomerApplicationService(CustomerRepository customerRepository) {
+    public CustomerApplicationService(CustomerRepository customerRepository,
+                                      OrderReadRepository orderReadRepository) {
         this.customerRepository = customerRepository;
+        this.orderReadRepository = orderReadRepository;
     }
 
     /**
      * 顧客を作成
      */
+    @Transactional
     public void createCustomer(String firstName, String lastName, String email,
                               String phoneNumber, String address, String city,
                               String state, String zipCode) {
@@ -45,6 +54,7 @@ public class CustomerApplicationService {
     /**
      * IDで顧客を取得
      */
+    @Transactional(readOnly = true)
     public Optional<Customer> getCustomer(Long id) {
         return customerRepository.findById(new CustomerId(id));
     }
@@ -52,6 +62,7 @@ public class CustomerApplicationService {
     /**
      * メールアドレスで顧客を取得
      */
+    @Transactional(readOnly = true)
     public Optional<Customer> getCustomerByEmail(String email) {
         return customerRepository.findByEmail(email);
     }
@@ -59,6 +70,7 @@ public class CustomerApplicationService {
     /**
      * 電話番号で顧客を取得
      */
+    @Transactional(readOnly = true)
     public Optional<Customer> getCustomerByPhoneNumber(String phoneNumber) {
         return customerRepository.findByPhoneNumber(phoneNumber);
     }
@@ -66,13 +78,31 @@ public class CustomerApplicationService {
     /**
      * すべての顧客を取得
      */
+    @Transactional(readOnly = true)
     public List<Customer> getAllCustomers() {
         return customerRepository.findAll();
     }
 
+    /**
+     * 顧客をページ単位で取得
+     */
+    @Transactional(readOnly = true)
+    public PageResult<Customer> getCustomersPage(PageQuery query) {
+        return customerRepository.findPage(query);
+    }
+
+    /**
+     * 顧客の注文履歴の集計と直近 recent 件の注文を取得（顧客が存在しない場合は空）
+     */
+    @Transactional(readOnly = true)
+    public Optional<CustomerOrderHistoryDTO> getOrderHistory(Long customerId, int recent) {
+        return orderReadRepository.findHistoryByCustomerId(customerId, recent);
+    }
+
     /**
      * 顧客を更新
      */
+    @Transactional
     public void updateCustomer(Long id, String firstName, String lastName,
                               String phoneNumber, String address, String city,
                               String state, String zipCode) {
@@ -99,6 +129,7 @@ public class CustomerApplicationService {
     /**
      * メールアドレスを更新
      */
+    @Transactional
     public void updateEmail(Long id, String newEmail) {
         CustomerId customerId = new CustomerId(id);
 
@@ -123,6 +154,7 @@ public class CustomerApplicationService {
     /**
      * 顧客を削除
      */
+    @Transactional
     public void deleteCustomer(Long id) {
         CustomerId customerId = new CustomerId(id);
 
@@ -1,5 +1,7 @@
 package com.ecommerce.application.service;
 
+import com.ecommerce.application.dto.OrderDTO;
+import com.ecommerce.application.query.OrderReadRepository;
 import com.ecommerce.domain.model.CustomerId;
 import com.ecommerce.domain.model.Money;
 import com.ecommerce.domain.model.Order;
@@ -10,33 +12,60 @@ import com.ecommerce.domain.model.Product;
 import com.ecommerce.domain.model.ProductId;
 import com.ecommerce.domain.repository.CustomerRepository;
 import com.ecommerce.domain.repository.OrderRepository;
+import com.ecommerce.domain.repository.PageQuery;
+import com.ecommerce.domain.repository.PageResult;
+import com.ecommerce.domain.repository.ProductFacetIndex;
 import com.ecommerce.domain.repository.ProductRepository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * OrderApplicationService - アプリケーションサービス
  * 注文に関するユースケースを集約
  */
 public class OrderApplicationService {
+    /**
+     * 一括注文で1回に受け付ける注文数の上限
+     */
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    private static final Comparator<ProductId> PRODUCT_ID_ORDER = Comparator.comparing(ProductId::getValue);
+
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
     private final CustomerRepository customerRepository;
+    private final ProductFacetIndex facetIndex;
+    private final OrderReadRepository orderReadRepository;
 
     public OrderApplicationService(OrderRepository orderRepository,
                                   ProductRepository productRepository,
-                                  CustomerRepository customerRepository) {
+                                  CustomerRepository customerRepository,
+                                  ProductFacetIndex facetIndex,
+                                  OrderReadRepository orderReadRepository) {
         this.orderRepository = orderRepository;
         this.productRepository = productRepository;
         this.customerRepository = customerRepository;
+        this.facetIndex = facetIndex;
+        this.orderReadRepository = orderReadRepository;
     }
 
     /**
      * 注文を作成
+     * 採番済みのIDを含む作成後の注文を返す
      */
-    public void createOrder(Long customerId, List<OrderItemInput> items) {
+    @Transactional
+    public Order createOrder(Long customerId, List<OrderItemInput> items) {
         CustomerId cId = new CustomerId(customerId);
 
         // 顧客が存在するかチェック
@@ -44,16 +73,25 @@ public class OrderApplicationService {
             throw new IllegalArgumentException("Customer not found with id: " + customerId);
         }
 
+        // 注文対象の商品を一括で取得
+        Set<ProductId> productIds = new LinkedHashSet<>();
+        for (OrderItemInput item : items) {
+            productIds.add(new ProductId(item.productId));
+        }
+        Map<ProductId, Product> products = productRepository.findAllByIds(productIds);
+
         // 注文明細を作成
         List<OrderItem> orderItems = new ArrayList<>();
         for (OrderItemInput item : items) {
             ProductId pId = new ProductId(item.productId);
 
             // 商品が存在するかチェック
-            Product product = productRepository.findById(pId)
-                .orElseThrow(() -> new IllegalArgumentException("Product not found with id: " + item.productId));
+            Product product = products.get(pId);
+            if (product == null) {
+                throw new IllegalArgumentException("Product not found with id: " + item.productId);
+            }
 
-            // 在庫が十分かチェック
+            // 在庫が十分かチェック（確定判定は下の条件付き UPDATE で行う）
             if (!product.hasEnoughStock(item.quantity)) {
                 throw new IllegalStateException(
                     String.format("Insufficient stock for product '%s'. Available: %d, Requested: %d",
@@ -69,23 +107,142 @@ public class OrderApplicationService {
         // 注文を作成
         Order order = Order.create(cId, orderItems);
 
-        // 商品の在庫を減らす
-        for (int i = 0; i < orderItems.size(); i++) {
-            OrderItem orderItem = orderItems.get(i);
-            ProductId pId = orderItem.getProductId();
-            Product product = productRepository.findById(pId)
-                .orElseThrow(() -> new IllegalArgumentException("Product not found"));
-            product.decreaseStock(orderItem.getQuantity());
-            productRepository.save(product);
+        // 商品の在庫を原子的に減らす（失敗時は確保済みの在庫を戻す）
+        Map<ProductId, Integer> quantities = sumQuantitiesByProduct(orderItems);
+        Map<ProductId, Integer> reserved = new LinkedHashMap<>();
+        for (Map.Entry<ProductId, Integer> entry : quantities.entrySet()) {
+            if (!tryDecreaseStock(entry.getKey(), entry.getValue())) {
+                reserved.forEach(this::increaseStock);
+                throw new IllegalStateException(
+                    String.format("Insufficient stock for product '%s'. Requested: %d",
+                        products.get(entry.getKey()).getName(), entry.getValue())
+                );
+            }
+            reserved.put(entry.getKey(), entry.getValue());
         }
 
-        // リポジトリに保存
-        orderRepository.save(order);
+        // リポジトリに保存（失敗時は確保した在庫を戻す）
+        try {
+            return orderRepository.save(order);
+        } catch (RuntimeException e) {
+            quantities.forEach(this::increaseStock);
+            throw e;
+        }
+    }
+
+    /**
+     * 注文を一括で作成
+     * 顧客・商品の存在確認は集合単位の問い合わせで行い、在庫は商品ごとの合計数量で1回ずつ確保する。
+     * 検証や在庫確保に失敗した注文だけを失敗とし、残りの注文はまとめて保存する。
+     * 結果は入力と同じ順序で返す
+     */
+    @Transactional
+    public List<BatchOrderResult> createOrders(List<OrderInput> inputs) {
+        if (inputs == null || inputs.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one order");
+        }
+        if (inputs.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch must not contain more than " + MAX_BATCH_SIZE + " orders");
+        }
+
+        // 顧客と商品を集合単位で一括取得
+        Set<CustomerId> customerIds = new LinkedHashSet<>();
+        Set<ProductId> productIds = new LinkedHashSet<>();
+        for (OrderInput input : inputs) {
+            if (input == null) {
+                continue;
+            }
+            if (input.customerId != null) {
+                customerIds.add(new CustomerId(input.customerId));
+            }
+            if (input.items != null) {
+                for (OrderItemInput item : input.items) {
+                    if (item != null && item.productId != null) {
+                        productIds.add(new ProductId(item.productId));
+                    }
+                }
+            }
+        }
+        Set<CustomerId> existingCustomers = customerRepository.findExistingIds(customerIds);
+        Map<ProductId, Product> products = productRepository.findAllByIds(productIds);
+
+        // 注文ごとに検証し、取得時点の在庫を先着順に割り当てる
+        BatchOrderResult[] results = new BatchOrderResult[inputs.size()];
+        Map<ProductId, Integer> available = new HashMap<>();
+        products.forEach((id, product) -> available.put(id, product.getStock()));
+        Map<Integer, Order> accepted = new LinkedHashMap<>();
+        Map<Integer, Map<ProductId, Integer>> quantitiesByOrder = new HashMap<>();
+        for (int i = 0; i < inputs.size(); i++) {
+            try {
+                Order order = buildOrder(inputs.get(i), existingCustomers, products);
+                Map<ProductId, Integer> quantities = sumQuantitiesByProduct(order.getItems());
+                allocate(quantities, products, available);
+                accepted.put(i, order);
+                quantitiesByOrder.put(i, quantities);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                results[i] = BatchOrderResult.failure(i, e.getMessage());
+            }
+        }
+
+        // 商品ごとの合計数量で在庫を確保（確保できない商品は注文単位で確保し直す）
+        // 行ロックの取得順を揃えるため商品 ID 順に確保する
+        List<ProductId> reserveOrder = new ArrayList<>(productIds);
+        reserveOrder.sort(PRODUCT_ID_ORDER);
+        Set<ProductId> reserved = new HashSet<>();
+        for (ProductId productId : reserveOrder) {
+            int total = 0;
+            for (Map<ProductId, Integer> quantities : quantitiesByOrder.values()) {
+                total += quantities.getOrDefault(productId, 0);
+            }
+            if (total == 0) {
+                continue;
+            }
+            if (!tryDecreaseStock(productId, total)) {
+                for (Integer index : new ArrayList<>(accepted.keySet())) {
+                    Map<ProductId, Integer> quantities = quantitiesByOrder.get(index);
+                    Integer quantity = quantities.get(productId);
+                    if (quantity == null || tryDecreaseStock(productId, quantity)) {
+                        continue;
+                    }
+                    // 確保済みの他商品の在庫を戻してこの注文だけを失敗にする
+                    quantities.forEach((id, q) -> {
+                        if (reserved.contains(id)) {
+                            increaseStock(id, q);
+                        }
+                    });
+                    accepted.remove(index);
+                    quantitiesByOrder.remove(index);
+                    results[index] = BatchOrderResult.failure(index, String.format(
+                        "Insufficient stock for product '%s'. Requested: %d",
+                        products.get(productId).getName(), quantity));
+                }
+            }
+            reserved.add(productId);
+        }
+
+        // 受け付けた注文をまとめて保存（失敗時は確保した在庫を戻す）
+        if (!accepted.isEmpty()) {
+            List<Order> saved;
+            try {
+                saved = orderRepository.saveAll(new ArrayList<>(accepted.values()));
+            } catch (RuntimeException e) {
+                for (Map<ProductId, Integer> quantities : quantitiesByOrder.values()) {
+                    quantities.forEach(this::increaseStock);
+                }
+                throw e;
+            }
+            int position = 0;
+            for (Integer index : accepted.keySet()) {
+                results[index] = BatchOrderResult.success(index, saved.get(position++));
+            }
+        }
+        return List.of(results);
     }
 
     /**
      * IDで注文を取得
      */
+    @Transactional(readOnly = true)
     public Optional<Order> getOrder(Long id) {
         return orderRepository.findById(new OrderId(id));
     }
@@ -93,6 +250,7 @@ public class OrderApplicationService {
     /**
      * 顧客IDで注文を検索
      */
+    @Transactional(readOnly = true)
     public List<Order> getOrdersByCustomer(Long customerId) {
         return orderRepository.findByCustomerId(new CustomerId(customerId));
     }
@@ -100,6 +258,7 @@ public class OrderApplicationService {
     /**
      * ステータスで注文を検索
      */
+    @Transactional(readOnly = true)
     public List<Order> getOrdersByStatus(OrderStatus status) {
         return orderRepository.findByStatus(status);
     }
@@ -107,13 +266,55 @@ public class OrderApplicationService {
     /**
      * すべての注文を取得
      */
+    @Transactional(readOnly = true)
     public List<Order> getAllOrders() {
         return orderRepository.findAll();
     }
 
+    /**
+     * 注文をページ単位で取得
+     */
+    @Transactional(readOnly = true)
+    public PageResult<Order> getOrdersPage(PageQuery query) {
+        return orderRepository.findPage(query);
+    }
+
+    /**
+     * IDで注文を表示用の DTO で取得
+     */
+    @Transactional(readOnly = true)
+    public Optional<OrderDTO> getOrderDTO(Long id) {
+        return orderReadRepository.findById(id);
+    }
+
+    /**
+     * 注文を表示用の DTO でページ単位に取得
+     */
+    @Transactional(readOnly = true)
+    public PageResult<OrderDTO> getOrderDTOsPage(PageQuery query) {
+        return orderReadRepository.findPage(query);
+    }
+
+    /**
+     * 顧客の注文を表示用の DTO でページ単位に取得
+     */
+    @Transactional(readOnly = true)
+    public PageResult<OrderDTO> getOrderDTOsPageByCustomer(Long customerId, PageQuery query) {
+        return orderReadRepository.findPageByCustomerId(customerId, query);
+    }
+
+    /**
+     * ステータスごとの注文を表示用の DTO でページ単位に取得
+     */
+    @Transactional(readOnly = true)
+    public PageResult<OrderDTO> getOrderDTOsPageByStatus(OrderStatus status, PageQuery query) {
+        return orderReadRepository.findPageByStatus(status, query);
+    }
+
     /**
      * 注文のステータスを更新
      */
+    @Transactional
     public void updateOrderStatus(Long id, OrderStatus newStatus) {
         OrderId orderId = new OrderId(id);
 
@@ -122,15 +323,20 @@ public class OrderApplicationService {
             .orElseThrow(() -> new IllegalArgumentException("Order not found with id: " + id));
 
         // ドメインモデルでステータスを更新
+        OrderStatus previous = order.getStatus();
         order.updateStatus(newStatus);
 
-        // リポジトリに保存
-        orderRepository.save(order);
+        // 読み込んだ時点のステータスのままの場合のみ保存（並行した更新が先に確定した場合は遷移を検証し直せないため失敗）
+        if (!orderRepository.saveStatusChange(order, previous)) {
+            throw new IllegalStateException(concurrentTransition(id));
+        }
     }
 
     /**
      * 注文をキャンセル
+     * ステータスの変更と在庫の戻しは1つのトランザクションで行い、並行したキャンセルでは1件だけが在庫を戻す
      */
+    @Transactional
     public void cancelOrder(Long id) {
         OrderId orderId = new OrderId(id);
 
@@ -139,24 +345,22 @@ public class OrderApplicationService {
             .orElseThrow(() -> new IllegalArgumentException("Order not found with id: " + id));
 
         // 注文をキャンセル
+        OrderStatus previous = order.getStatus();
         order.cancel();
 
-        // 商品の在庫を戻す
-        for (OrderItem item : order.getItems()) {
-            ProductId pId = item.getProductId();
-            Product product = productRepository.findById(pId)
-                .orElseThrow(() -> new IllegalArgumentException("Product not found"));
-            product.increaseStock(item.getQuantity());
-            productRepository.save(product);
+        // 読み込んだ時点のステータスのままの場合のみ保存
+        if (!orderRepository.saveStatusChange(order, previous)) {
+            throw new IllegalStateException(concurrentTransition(id));
         }
 
-        // リポジトリに保存
-        orderRepository.save(order);
+        // ステータスを変更できた場合のみ、商品の在庫を原子的に戻す
+        sumQuantitiesByProduct(order.getItems()).forEach(this::increaseStock);
     }
 
     /**
      * 注文を削除
      */
+    @Transactional
     public void deleteOrder(Long id) {
         OrderId orderId = new OrderId(id);
 
@@ -167,6 +371,91 @@ public class OrderApplicationService {
         orderRepository.delete(orderId);
     }
 
+    /**
+     * 在庫が十分な場合のみ原子的に減らし、成功した場合は絞り込み索引の在庫にも反映する
+     */
+    private boolean tryDecreaseStock(ProductId productId, int quantity) {
+        if (!productRepository.tryDecreaseStock(productId, quantity)) {
+            return false;
+        }
+        facetIndex.adjustStock(productId, -quantity);
+        return true;
+    }
+
+    /**
+     * 在庫を原子的に増やし、絞り込み索引の在庫にも反映する
+     */
+    private void increaseStock(ProductId productId, int quantity) {
+        productRepository.increaseStock(productId, quantity);
+        facetIndex.adjustStock(productId, quantity);
+    }
+
+    /**
+     * 一括注文の1件分を検証して注文を組み立てる（取得済みの顧客・商品を使用）
+     */
+    private static Order buildOrder(OrderInput input, Set<CustomerId> existingCustomers,
+                                    Map<ProductId, Product> products) {
+        if (input == null || input.customerId == null) {
+            throw new IllegalArgumentException("CustomerId cannot be null");
+        }
+        CustomerId cId = new CustomerId(input.customerId);
+        if (!existingCustomers.contains(cId)) {
+            throw new IllegalArgumentException("Customer not found with id: " + input.customerId);
+        }
+        if (input.items == null || input.items.isEmpty()) {
+            throw new IllegalArgumentException("Order must have at least one item");
+        }
+
+        List<OrderItem> orderItems = new ArrayList<>();
+        for (OrderItemInput item : input.items) {
+            if (item == null || item.productId == null) {
+                throw new IllegalArgumentException("ProductId cannot be null");
+            }
+            Product product = products.get(new ProductId(item.productId));
+            if (product == null) {
+                throw new IllegalArgumentException("Product not found with id: " + item.productId);
+            }
+            orderItems.add(OrderItem.create(product.getId(), item.quantity, product.getPrice()));
+        }
+        return Order.create(cId, orderItems);
+    }
+
+    /**
+     * 取得時点の在庫から注文分を割り当てる（足りない場合は何も割り当てない）
+     */
+    private static void allocate(Map<ProductId, Integer> quantities, Map<ProductId, Product> products,
+                                 Map<ProductId, Integer> available) {
+        for (Map.Entry<ProductId, Integer> entry : quantities.entrySet()) {
+            int remaining = available.get(entry.getKey());
+            if (remaining < entry.getValue()) {
+                throw new IllegalStateException(
+                    String.format("Insufficient stock for product '%s'. Available: %d, Requested: %d",
+                        products.get(entry.getKey()).getName(), remaining, entry.getValue())
+                );
+            }
+        }
+        quantities.forEach((id, quantity) -> available.merge(id, -quantity, Integer::sum));
+    }
+
+    /**
+     * 並行したステータスの変更が先に確定した場合のメッセージ（失敗理由は invalid_transition に分類される）
+     */
+    private static String concurrentTransition(Long id) {
+        return "Cannot transition order " + id + ": its status was changed concurrently";
+    }
+
+    /**
+     * 商品ごとの数量を合算（同一商品の明細を1回の更新にまとめる）
+     * 商品の行ロックをトランザクションの終わりまで保持するため、並行する注文とデッドロックしないよう商品 ID 順に並べる
+     */
+    private static Map<ProductId, Integer> sumQuantitiesByProduct(List<OrderItem> items) {
+        Map<ProductId, Integer> quantities = new TreeMap<>(PRODUCT_ID_ORDER);
+        for (OrderItem item : items) {
+            quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
     /**
      * 注文明細の入力DTO
      */
@@ -179,4 +468,44 @@ public class OrderApplicationService {
             this.quantity = quantity;
         }
     }
+
+    /**
+     * 一括注文の1件分の入力DTO
+     */
+    public static class OrderInput {
+        public final Long customerId;
+        public final List<OrderItemInput> items;
+
+        public OrderInput(Long customerId, List<OrderItemInput> items) {
+            this.customerId = customerId;
+            this.items = items;
+        }
+    }
+
+    /**
+     * 一括注文の1件分の結果（成功時は注文、失敗時は理由を持つ）
+     */
+    public static class BatchOrderResult {
+        public final int index;
+        public final Order order;
+        public final String error;
+
+        private BatchOrderResult(int index, Order order, String error) {
+            this.index = index;
+            this.order = order;
+            this.error = error;
+        }
+
+        static BatchOrderResult success(int index, Order order) {
+            return new BatchOrderResult(index, order, null);
+        }
+
+        static BatchOrderResult failure(int index, String error) {
+            return new BatchOrderResult(index, null, error);
+        }
+
+        public boolean isSuccess() {
+            return order != null;
+        }
+    }
 }
@@ -1,15 +1,30 @@
 package com.ecommerce.application.service;
 
+import com.ecommerce.application.dto.ProductDTO;
+import com.ecommerce.application.query.ProductReadRepository;
 import com.ecommerce.domain.model.CategoryId;
 import com.ecommerce.domain.model.Money;
 import com.ecommerce.domain.model.Product;
 import com.ecommerce.domain.model.ProductId;
 import com.ecommerce.domain.repository.CategoryRepository;
+import com.ecommerce.domain.repository.PageQuery;
+import com.ecommerce.domain.repository.PageResult;
+import com.ecommerce.domain.repository.ProductFacetIndex;
+import com.ecommerce.domain.repository.ProductFacetQuery;
+import com.ecommerce.domain.repository.ProductFacetResult;
 import com.ecommerce.domain.repository.ProductRepository;
+import com.ecommerce.domain.repository.ProductSearchIndex;
+import com.ecommerce.domain.repository.ProductSearchQuery;
+import com.ecommerce.domain.repository.ProductSearchResult;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * ProductApplicationService - アプリケーションサービス
@@ -18,16 +33,26 @@ import java.util.Optional;
 public class ProductApplicationService {
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
+    private final ProductSearchIndex searchIndex;
+    private final ProductFacetIndex facetIndex;
+    private final ProductReadRepository productReadRepository;
 
     public ProductApplicationService(ProductRepository productRepository,
-                                    CategoryRepository categoryRepository) {
+                                    CategoryRepository categoryRepository,
+                                    ProductSearchIndex searchIndex,
+                                    ProductFacetIndex facetIndex,
+                                    ProductReadRepository productReadRepository) {
         this.productRepository = productRepository;
         this.categoryRepository = categoryRepository;
+        this.searchIndex = searchIndex;
+        this.facetIndex = facetIndex;
+        this.productReadRepository = productReadRepository;
     }
 
     /**
      * 商品を作成
      */
+    @Transactional
     public void createProduct(String name, String description, BigDecimal price,
                              Integer stock, Long categoryId) {
         // カテゴリが存在するかチェック
@@ -47,11 +72,90 @@ public class ProductApplicationService {
 
         // リポジトリに保存
         productRepository.save(product);
+
+        // 採番された ID で検索索引・絞り込み索引に追加
+        productRepository.findByName(name).ifPresent(created -> {
+            searchIndex.index(created);
+            facetIndex.index(created);
+        });
+    }
+
+    /**
+     * 商品フィードの1チャンク分を取り込む
+     * カテゴリの存在確認と名前の照合はチャンク単位の問い合わせで行い、まとめて保存する。
+     * 名前が一致する既存商品は説明と価格を更新し、在庫とカテゴリは新規作成時のみ使用する。
+     * 不正な行は行番号付きのエラーとして返し、残りの行は取り込む
+     */
+    @Transactional
+    public ProductImportResult importProducts(List<ProductImportInput> rows) {
+        // カテゴリと既存商品を集合単位で一括取得
+        Set<CategoryId> categoryIds = new HashSet<>();
+        Set<String> names = new HashSet<>();
+        for (ProductImportInput row : rows) {
+            if (row.categoryId != null) {
+                categoryIds.add(new CategoryId(row.categoryId));
+            }
+            if (row.name != null) {
+                names.add(row.name);
+            }
+        }
+        Set<CategoryId> existingCategories = categoryRepository.findExistingIds(categoryIds);
+        Map<String, Product> existingProducts = productRepository.findAllByNames(names);
+
+        List<Product> products = new ArrayList<>();
+        List<String> savedNames = new ArrayList<>();
+        List<ProductImportError> errors = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        int created = 0;
+        int updated = 0;
+        for (ProductImportInput row : rows) {
+            try {
+                if (row.name != null && !seen.add(row.name)) {
+                    throw new IllegalArgumentException("Duplicate product name in chunk: " + row.name);
+                }
+                Product existing = row.name != null ? existingProducts.get(row.name) : null;
+                if (existing != null) {
+                    // 既存商品は説明と価格のみ更新
+                    if (row.price != null && row.price.signum() <= 0) {
+                        throw new IllegalArgumentException("Product price must be greater than zero");
+                    }
+                    existing.updateInfo(null, row.description, row.price != null ? new Money(row.price) : null);
+                    products.add(existing);
+                    savedNames.add(existing.getName());
+                    updated++;
+                } else {
+                    CategoryId cId = row.categoryId != null ? new CategoryId(row.categoryId) : null;
+                    if (cId == null || !existingCategories.contains(cId)) {
+                        throw new IllegalArgumentException("Category not found with id: " + row.categoryId);
+                    }
+                    Money money = new Money(row.price);
+                    int stock = row.stock != null ? row.stock : 0;
+                    products.add(Product.create(row.name, row.description, money, stock, cId));
+                    savedNames.add(row.name);
+                    created++;
+                }
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                errors.add(new ProductImportError(row.line, e.getMessage()));
+            }
+        }
+
+        // 新規・更新をまとめて保存（JDBC バッチ、既存商品の在庫は書き込まれない）
+        productRepository.saveAll(products);
+
+        // 検索索引・絞り込み索引に反映（新規作成分の採番された ID と、チャンクの読み込み後に注文で変わった在庫を
+        // 反映するため、保存した商品を名前で一括で読み直す）
+        List<Product> indexed = savedNames.isEmpty()
+            ? List.of()
+            : new ArrayList<>(productRepository.findAllByNames(savedNames).values());
+        searchIndex.indexAll(indexed);
+        facetIndex.indexAll(indexed);
+        return new ProductImportResult(created, updated, errors);
     }
 
     /**
      * IDで商品を取得
      */
+    @Transactional(readOnly = true)
     public Optional<Product> getProduct(Long id) {
         return productRepository.findById(new ProductId(id));
     }
@@ -59,6 +163,7 @@ public class ProductApplicationService {
     /**
      * 名前で商品を取得
      */
+    @Transactional(readOnly = true)
     public Optional<Product> getProductByName(String name) {
         return productRepository.findByName(name);
     }
@@ -66,6 +171,7 @@ public class ProductApplicationService {
     /**
      * カテゴリIDで商品を検索
      */
+    @Transactional(readOnly = true)
     public List<Product> getProductsByCategory(Long categoryId) {
         return productRepository.findByCategoryId(new CategoryId(categoryId));
     }
@@ -73,13 +179,69 @@ public class ProductApplicationService {
     /**
      * すべての商品を取得
      */
+    @Transactional(readOnly = true)
     public List<Product> getAllProducts() {
         return productRepository.findAll();
     }
 
+    /**
+     * 商品をページ単位で取得
+     */
+    @Transactional(readOnly = true)
+    public PageResult<Product> getProductsPage(PageQuery query) {
+        return productRepository.findPage(query);
+    }
+
+    /**
+     * IDで商品を表示用の DTO で取得
+     */
+    @Transactional(readOnly = true)
+    public Optional<ProductDTO> getProductDTO(Long id) {
+        return productReadRepository.findById(id);
+    }
+
+    /**
+     * 指定IDの商品を表示用の DTO で取得（ID 昇順、存在しないIDは含まれない）
+     */
+    @Transactional(readOnly = true)
+    public List<ProductDTO> getProductDTOs(List<ProductId> ids) {
+        return productReadRepository.findAllByIds(ids.stream().map(ProductId::getValue).toList());
+    }
+
+    /**
+     * 商品を表示用の DTO でページ単位に取得
+     */
+    @Transactional(readOnly = true)
+    public PageResult<ProductDTO> getProductDTOsPage(PageQuery query) {
+        return productReadRepository.findPage(query);
+    }
+
+    /**
+     * カテゴリの商品を表示用の DTO でページ単位に取得
+     */
+    @Transactional(readOnly = true)
+    public PageResult<ProductDTO> getProductDTOsPageByCategory(Long categoryId, PageQuery query) {
+        return productReadRepository.findPageByCategoryId(categoryId, query);
+    }
+
+    /**
+     * 商品名・説明を全文検索（検索索引のみを参照し、DB には問い合わせない）
+     */
+    public ProductSearchResult searchProducts(ProductSearchQuery query) {
+        return searchIndex.search(query);
+    }
+
+    /**
+     * カテゴリ・価格帯・在庫で商品を絞り込み、項目ごとの件数とともに返す（絞り込み索引のみを参照する）
+     */
+    public ProductFacetResult filterProducts(ProductFacetQuery query) {
+        return facetIndex.search(query);
+    }
+
     /**
      * 商品を更新
      */
+    @Transactional
     public void updateProduct(Long id, String name, String description,
                              BigDecimal price) {
         ProductId productId = new ProductId(id);
@@ -99,39 +261,51 @@ public class ProductApplicationService {
         Money money = price != null ? new Money(price) : null;
         product.updateInfo(name, description, money);
 
-        // リポジトリに保存
+        // リポジトリに保存（在庫は書き込まれない）
         productRepository.save(product);
+        searchIndex.index(product);
+
+        // 絞り込み索引は保存後の在庫で反映する（読み込み後に確定した注文の在庫の確保を含める）
+        facetIndex.index(productRepository.findById(productId).orElse(product));
     }
 
     /**
-     * 在庫を増やす
+     * 在庫を増やす（読み込んで書き戻さず、原子的な加算で更新する）
      */
+    @Transactional
     public void increaseStock(Long id, Integer quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive");
+        }
         ProductId productId = new ProductId(id);
 
-        Product product = productRepository.findById(productId)
-            .orElseThrow(() -> new IllegalArgumentException("Product not found with id: " + id));
-
-        product.increaseStock(quantity);
-        productRepository.save(product);
+        productRepository.increaseStock(productId, quantity);
+        facetIndex.adjustStock(productId, quantity);
     }
 
     /**
-     * 在庫を減らす
+     * 在庫を減らす（在庫が足りる場合のみ原子的に減算する）
      */
+    @Transactional
     public void decreaseStock(Long id, Integer quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive");
+        }
         ProductId productId = new ProductId(id);
 
-        Product product = productRepository.findById(productId)
-            .orElseThrow(() -> new IllegalArgumentException("Product not found with id: " + id));
-
-        product.decreaseStock(quantity);
-        productRepository.save(product);
+        if (!productRepository.exists(productId)) {
+            throw new IllegalArgumentException("Product not found with id: " + id);
+        }
+        if (!productRepository.tryDecreaseStock(productId, quantity)) {
+            throw new IllegalStateException("Insufficient stock");
+        }
+        facetIndex.adjustStock(productId, -quantity);
     }
 
     /**
      * 商品を削除
      */
+    @Transactional
     public void deleteProduct(Long id) {
         ProductId productId = new ProductId(id);
 
@@ -140,5 +314,57 @@ public class ProductApplicationService {
         }
 
         productRepository.delete(productId);
+        searchIndex.remove(productId);
+        facetIndex.remove(productId);
+    }
+
+    /**
+     * 商品フィード1行分の入力DTO
+     */
+    public static class ProductImportInput {
+        public final long line;
+        public final String name;
+        public final String description;
+        public final BigDecimal price;
+        public final Integer stock;
+        public final Long categoryId;
+
+        public ProductImportInput(long line, String name, String description,
+                                  BigDecimal price, Integer stock, Long categoryId) {
+            this.line = line;
+            this.name = name;
+            this.description = description;
+            this.price = price;
+            this.stock = stock;
+            this.categoryId = categoryId;
+        }
+    }
+
+    /**
+     * 商品フィード1チャンク分の取り込み結果
+     */
+    public static class ProductImportResult {
+        public final int created;
+        public final int updated;
+        public final List<ProductImportError> errors;
+
+        public ProductImportResult(int created, int updated, List<ProductImportError> errors) {
+            this.created = created;
+            this.updated = updated;
+            this.errors = errors;
+        }
+    }
+
+    /**
+     * 取り込めなかった行（行番号と理由）
+     */
+    public static class ProductImportError {
+        public final long line;
+        public final String message;
+
+        public ProductImportError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
     }
 }
@@ -0,0 +1,21 @@
+package com.ecommerce.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * DomainEvent - ドメインイベント
+ * 集約の状態の変化を表す不変オブジェクト
+ * JPA非依存
+ * 集約はイベントを記録するだけで、集約の種類と ID を付けて送信待ちに書き込むのはリポジトリ実装
+ */
+public interface DomainEvent {
+    /**
+     * イベントの種類（配信先での識別に使う）
+     */
+    String getEventType();
+
+    /**
+     * 発生日時
+     */
+    LocalDateTime getOccurredAt();
+}
@@ -0,0 +1,41 @@
+package com.ecommerce.domain.event;
+
+import com.ecommerce.domain.model.CustomerId;
+import com.ecommerce.domain.model.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * OrderCancelledEvent - 注文がキャンセルされた（在庫の戻しは商品側の StockIncreasedEvent で通知する）
+ */
+public final class OrderCancelledEvent implements DomainEvent {
+    public static final String TYPE = "OrderCancelled";
+
+    private final CustomerId customerId;
+    private final OrderStatus previousStatus;
+    private final LocalDateTime occurredAt;
+
+    public OrderCancelledEvent(CustomerId customerId, OrderStatus previousStatus, LocalDateTime occurredAt) {
+        this.customerId = customerId;
+        this.previousStatus = previousStatus;
+        this.occurredAt = occurredAt;
+    }
+
+    @Override
+    public String getEventType() {
+        return TYPE;
+    }
+
+    @Override
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public CustomerId getCustomerId() {
+        return customerId;
+    }
+
+    public OrderStatus getPreviousStatus() {
+        return previousStatus;
+    }
+}
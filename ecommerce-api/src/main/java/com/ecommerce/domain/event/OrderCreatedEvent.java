@@ -0,0 +1,50 @@
+package com.ecommerce.domain.event;
+
+import com.ecommerce.domain.model.CustomerId;
+import com.ecommerce.domain.model.Money;
+import com.ecommerce.domain.model.OrderItem;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * OrderCreatedEvent - 注文が作成された
+ */
+public final class OrderCreatedEvent implements DomainEvent {
+    public static final String TYPE = "OrderCreated";
+
+    private final CustomerId customerId;
+    private final Money totalPrice;
+    private final List<OrderItem> items;
+    private final LocalDateTime occurredAt;
+
+    public OrderCreatedEvent(CustomerId customerId, Money totalPrice, List<OrderItem> items,
+                             LocalDateTime occurredAt) {
+        this.customerId = customerId;
+        this.totalPrice = totalPrice;
+        this.items = List.copyOf(items);
+        this.occurredAt = occurredAt;
+    }
+
+    @Override
+    public String getEventType() {
+        return TYPE;
+    }
+
+    @Override
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public CustomerId getCustomerId() {
+        return customerId;
+    }
+
+    public Money getTotalPrice() {
+        return totalPrice;
+    }
+
+    public List<OrderItem> getItems() {
+        return items;
+    }
+}
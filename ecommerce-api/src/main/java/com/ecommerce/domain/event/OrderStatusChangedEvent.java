@@ -0,0 +1,48 @@
+package com.ecommerce.domain.event;
+
+import com.ecommerce.domain.model.CustomerId;
+import com.ecommerce.domain.model.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * OrderStatusChangedEvent - 注文のステータスが更新された（キャンセルへの更新を含む）
+ */
+public final class OrderStatusChangedEvent implements DomainEvent {
+    public static final String TYPE = "OrderStatusChanged";
+
+    private final CustomerId customerId;
+    private final OrderStatus previousStatus;
+    private final OrderStatus status;
+    private final LocalDateTime occurredAt;
+
+    public OrderStatusChangedEvent(CustomerId customerId, OrderStatus previousStatus, OrderStatus status,
+                                   LocalDateTime occurredAt) {
+        this.customerId = customerId;
+        this.previousStatus = previousStatus;
+        this.status = status;
+        this.occurredAt = occurredAt;
+    }
+
+    @Override
+    public String getEventType() {
+        return TYPE;
+    }
+
+    @Override
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public CustomerId getCustomerId() {
+        return customerId;
+    }
+
+    public OrderStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+}
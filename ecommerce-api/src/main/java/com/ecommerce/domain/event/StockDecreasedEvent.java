@@ -0,0 +1,33 @@
+package com.ecommerce.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * StockDecreasedEvent - 商品の在庫が減った
+ * 在庫の条件付き UPDATE が成功したときにリポジトリが記録する（Product の集約からは発行しない）
+ */
+public final class StockDecreasedEvent implements DomainEvent {
+    public static final String TYPE = "StockDecreased";
+
+    private final int quantity;
+    private final LocalDateTime occurredAt;
+
+    public StockDecreasedEvent(int quantity, LocalDateTime occurredAt) {
+        this.quantity = quantity;
+        this.occurredAt = occurredAt;
+    }
+
+    @Override
+    public String getEventType() {
+        return TYPE;
+    }
+
+    @Override
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+}
@@ -0,0 +1,33 @@
+package com.ecommerce.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * StockIncreasedEvent - 商品の在庫が増えた
+ * 在庫の加算の UPDATE が成功したときにリポジトリが記録する（Product の集約からは発行しない）
+ */
+public final class StockIncreasedEvent implements DomainEvent {
+    public static final String TYPE = "StockIncreased";
+
+    private final int quantity;
+    private final LocalDateTime occurredAt;
+
+    public StockIncreasedEvent(int quantity, LocalDateTime occurredAt) {
+        this.quantity = quantity;
+        this.occurredAt = occurredAt;
+    }
+
+    @Override
+    public String getEventType() {
+        return TYPE;
+    }
+
+    @Override
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+}
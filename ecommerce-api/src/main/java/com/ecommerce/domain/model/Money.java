@@ -1,20 +1,37 @@
 package com.ecommerce.domain.model;
 
 import java.math.BigDecimal;
-import java.util.Objects;
+import java.math.RoundingMode;
 
 /**
  * Money - 値オブジェクト
  * 金額を表すクラス
+ * 内部では小数第2位までを最小単位とした long の固定小数点で保持し、
+ * BigDecimal は永続化・DTO との境界でのみ使用する
+ * 以前の BigDecimal による実装との比較は ecommerce-bench の MoneyBenchmark で行う
  */
 public class Money {
-    private final BigDecimal amount;
+    private static final int SCALE = 2;
+    private static final Money ZERO = new Money(0L);
+
+    private final long minorUnits;
 
     public Money(BigDecimal amount) {
         if (amount == null || amount.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException("Amount must be non-negative");
         }
-        this.amount = amount.setScale(2, java.math.RoundingMode.HALF_UP);
+        try {
+            this.minorUnits = amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount is too large: " + amount);
+        }
+    }
+
+    private Money(long minorUnits) {
+        if (minorUnits < 0) {
+            throw new IllegalArgumentException("Amount must be non-negative");
+        }
+        this.minorUnits = minorUnits;
     }
 
     public static Money of(String amount) {
@@ -25,36 +42,67 @@ public class Money {
         return new Money(BigDecimal.valueOf(amount));
     }
 
+    /**
+     * 最小単位（小数第2位）の整数値から生成
+     */
+    public static Money ofMinorUnits(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
     public static Money zero() {
-        return new Money(BigDecimal.ZERO);
+        return ZERO;
     }
 
+    /**
+     * BigDecimal（スケール2）に変換
+     */
     public BigDecimal getAmount() {
-        return amount;
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    /**
+     * 最小単位（小数第2位）の整数値を取得
+     */
+    public long getMinorUnits() {
+        return minorUnits;
     }
 
     public Money add(Money other) {
-        return new Money(this.amount.add(other.amount));
+        if (other.minorUnits == 0) {
+            return this;
+        }
+        try {
+            return new Money(Math.addExact(this.minorUnits, other.minorUnits));
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount overflow: " + this + " + " + other);
+        }
     }
 
     public Money subtract(Money other) {
-        return new Money(this.amount.subtract(other.amount));
+        return ofMinorUnits(this.minorUnits - other.minorUnits);
     }
 
     public Money multiply(int quantity) {
-        return new Money(this.amount.multiply(BigDecimal.valueOf(quantity)));
+        if (quantity == 1) {
+            return this;
+        }
+        try {
+            return ofMinorUnits(Math.multiplyExact(this.minorUnits, (long) quantity));
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount overflow: " + this + " * " + quantity);
+        }
     }
 
     public boolean isGreaterThan(Money other) {
-        return this.amount.compareTo(other.amount) > 0;
+        return this.minorUnits > other.minorUnits;
     }
 
     public boolean isLessThan(Money other) {
-        return this.amount.compareTo(other.amount) < 0;
+        return this.minorUnits < other.minorUnits;
     }
 
     public boolean isZero() {
-        return this.amount.compareTo(BigDecimal.ZERO) == 0;
+        return this.minorUnits == 0;
     }
 
     @Override
@@ -62,16 +110,16 @@ public class Money {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Money money = (Money) o;
-        return Objects.equals(amount, money.amount);
+        return minorUnits == money.minorUnits;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(amount);
+        return Long.hashCode(minorUnits);
     }
 
     @Override
     public String toString() {
-        return amount.toString();
+        return getAmount().toString();
     }
 }
@@ -1,5 +1,10 @@
 package com.ecommerce.domain.model;
 
+import com.ecommerce.domain.event.DomainEvent;
+import com.ecommerce.domain.event.OrderCancelledEvent;
+import com.ecommerce.domain.event.OrderCreatedEvent;
+import com.ecommerce.domain.event.OrderStatusChangedEvent;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -11,6 +16,7 @@ import java.util.Objects;
  * ドメイン層の注文エンティティ
  * JPA依存なし
  * OrderItem を含むことで集約を形成
+ * 作成・ステータス更新・キャンセルはドメインイベントとして記録し、保存時にリポジトリが取り出す
  */
 public class Order {
     private OrderId id;
@@ -20,6 +26,7 @@ public class Order {
     private List<OrderItem> items;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private final List<DomainEvent> domainEvents = new ArrayList<>();
 
     /**
      * プライベートコンストラクタ
@@ -46,6 +53,7 @@ public class Order {
         order.totalPrice = calculateTotal(items);
         order.createdAt = LocalDateTime.now();
         order.updatedAt = LocalDateTime.now();
+        order.domainEvents.add(new OrderCreatedEvent(customerId, order.totalPrice, order.items, order.createdAt));
         return order;
     }
 
@@ -104,8 +112,10 @@ public class Order {
                 String.format("Cannot transition from %s to %s", status, newStatus)
             );
         }
+        OrderStatus previousStatus = this.status;
         this.status = newStatus;
         this.updatedAt = LocalDateTime.now();
+        domainEvents.add(new OrderStatusChangedEvent(customerId, previousStatus, newStatus, updatedAt));
     }
 
     /**
@@ -115,8 +125,10 @@ public class Order {
         if (status.isFinal()) {
             throw new IllegalStateException("Cannot cancel a finalized order");
         }
+        OrderStatus previousStatus = this.status;
         this.status = OrderStatus.CANCELLED;
         this.updatedAt = LocalDateTime.now();
+        domainEvents.add(new OrderCancelledEvent(customerId, previousStatus, updatedAt));
     }
 
     /**
@@ -138,6 +150,15 @@ public class Order {
         return items.size();
     }
 
+    /**
+     * 記録したドメインイベントを発生順に取り出す（取り出したイベントは集約から消える）
+     */
+    public List<DomainEvent> pullDomainEvents() {
+        List<DomainEvent> events = List.copyOf(domainEvents);
+        domainEvents.clear();
+        return events;
+    }
+
     /**
      * 合計金額を計算（ドメイン計算）
      */
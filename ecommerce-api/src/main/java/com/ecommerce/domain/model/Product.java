@@ -7,6 +7,9 @@ import java.util.Objects;
  * Product - エンティティ（集約ルート）
  * ドメイン層の商品エンティティ
  * JPA依存なし
+ * 在庫は作成時の値と読み込んだ値を保持するだけで、集約からは変更しない
+ * （増減は ProductRepository の tryDecreaseStock / increaseStock の条件付き UPDATE で行い、save では書き込まれない）
+ * 在庫の増減のイベントも、その UPDATE が成功したときにリポジトリが記録する
  */
 public class Product {
     private ProductId id;
@@ -120,31 +123,6 @@ public class Product {
         this.updatedAt = LocalDateTime.now();
     }
 
-    /**
-     * 在庫を増やす
-     */
-    public void increaseStock(int quantity) {
-        if (quantity <= 0) {
-            throw new IllegalArgumentException("Quantity must be positive");
-        }
-        this.stock += quantity;
-        this.updatedAt = LocalDateTime.now();
-    }
-
-    /**
-     * 在庫を減らす
-     */
-    public void decreaseStock(int quantity) {
-        if (quantity <= 0) {
-            throw new IllegalArgumentException("Quantity must be positive");
-        }
-        if (this.stock < quantity) {
-            throw new IllegalStateException("Insufficient stock");
-        }
-        this.stock -= quantity;
-        this.updatedAt = LocalDateTime.now();
-    }
-
     /**
      * 在庫が十分かチェック
      */
@@ -0,0 +1,25 @@
+package com.ecommerce.domain.repository;
+
+/**
+ * CategoryProductCount - カテゴリに属する商品数と在庫のある商品数
+ * JPA非依存
+ */
+public final class CategoryProductCount {
+    public static final CategoryProductCount EMPTY = new CategoryProductCount(0, 0);
+
+    private final long productCount;
+    private final long inStockCount;
+
+    public CategoryProductCount(long productCount, long inStockCount) {
+        this.productCount = productCount;
+        this.inStockCount = inStockCount;
+    }
+
+    public long getProductCount() {
+        return productCount;
+    }
+
+    public long getInStockCount() {
+        return inStockCount;
+    }
+}
@@ -3,8 +3,10 @@ package com.ecommerce.domain.repository;
 import com.ecommerce.domain.model.Category;
 import com.ecommerce.domain.model.CategoryId;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * CategoryRepository - ドメイン層のリポジトリインターフェース
@@ -27,6 +29,11 @@ public interface CategoryRepository {
      */
     List<Category> findAll();
 
+    /**
+     * カテゴリをページ単位で取得（ID 昇順）
+     */
+    PageResult<Category> findPage(PageQuery query);
+
     /**
      * カテゴリを保存（新規作成と更新の両方に対応）
      */
@@ -41,4 +48,9 @@ public interface CategoryRepository {
      * 指定されたIDが存在するかどうかをチェック
      */
     boolean exists(CategoryId id);
+
+    /**
+     * 指定されたIDのうち存在するものを一括で取得（1回の問い合わせ）
+     */
+    Set<CategoryId> findExistingIds(Collection<CategoryId> ids);
 }
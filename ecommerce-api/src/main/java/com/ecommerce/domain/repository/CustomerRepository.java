@@ -3,8 +3,10 @@ package com.ecommerce.domain.repository;
 import com.ecommerce.domain.model.Customer;
 import com.ecommerce.domain.model.CustomerId;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * CustomerRepository - ドメイン層のリポジトリインターフェース
@@ -32,6 +34,11 @@ public interface CustomerRepository {
      */
     List<Customer> findAll();
 
+    /**
+     * 顧客をページ単位で取得（ID 昇順）
+     */
+    PageResult<Customer> findPage(PageQuery query);
+
     /**
      * 顧客を保存（新規作成と更新の両方に対応）
      */
@@ -46,4 +53,9 @@ public interface CustomerRepository {
      * 指定されたIDが存在するかどうかをチェック
      */
     boolean exists(CustomerId id);
+
+    /**
+     * 指定されたIDのうち存在するものを一括で取得（1回の問い合わせ）
+     */
+    Set<CustomerId> findExistingIds(Collection<CustomerId> ids);
 }
@@ -34,10 +34,28 @@ public interface OrderRepository {
      */
     List<Order> findAll();
 
+    /**
+     * 注文をページ単位で取得（ID 昇順）
+     */
+    PageResult<Order> findPage(PageQuery query);
+
     /**
      * 注文を保存（新規作成と更新の両方に対応）
+     * 採番済みの注文ID・明細IDを含む保存後の注文を返す
+     */
+    Order save(Order order);
+
+    /**
+     * 複数の新規注文を1トランザクションでまとめて保存
+     * 採番済みの注文を引数と同じ順序で返す
+     */
+    List<Order> saveAll(List<Order> orders);
+
+    /**
+     * 注文のステータスの変更を、保存されているステータスが expected の場合のみ保存する
+     * 同じ注文への並行したステータス更新・キャンセルは1つだけが成功し、残りは false を返す
      */
-    void save(Order order);
+    boolean saveStatusChange(Order order, OrderStatus expected);
 
     /**
      * 注文を削除
@@ -0,0 +1,78 @@
+package com.ecommerce.domain.repository;
+
+/**
+ * PageQuery - ページング条件を表す値オブジェクト
+ * キーセット方式（指定ID より後ろ）とオフセット方式の両方に対応
+ * JPA非依存
+ */
+public final class PageQuery {
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private final Long afterId;
+    private final int page;
+    private final int limit;
+
+    private PageQuery(Long afterId, int page, int limit) {
+        this.afterId = afterId;
+        this.page = page;
+        this.limit = limit;
+    }
+
+    /**
+     * キーセット方式のページング条件（afterId が null の場合は先頭から）
+     */
+    public static PageQuery after(Long afterId, Integer limit) {
+        if (afterId != null && afterId < 0) {
+            throw new IllegalArgumentException("Cursor must not be negative");
+        }
+        return new PageQuery(afterId == null ? 0L : afterId, 0, normalizeLimit(limit));
+    }
+
+    /**
+     * オフセット方式のページング条件（page は 0 始まり）
+     */
+    public static PageQuery offset(Integer page, Integer size) {
+        if (page != null && page < 0) {
+            throw new IllegalArgumentException("Page must not be negative");
+        }
+        return new PageQuery(null, page == null ? 0 : page, normalizeLimit(size));
+    }
+
+    /**
+     * リクエストパラメータからページング条件を生成
+     * page が指定された場合はオフセット方式、それ以外はキーセット方式
+     */
+    public static PageQuery of(Long afterId, Integer page, Integer limit) {
+        return page != null ? offset(page, limit) : after(afterId, limit);
+    }
+
+    /**
+     * 件数を既定値・上限値に収める
+     */
+    private static int normalizeLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    public boolean isKeyset() {
+        return afterId != null;
+    }
+
+    public Long getAfterId() {
+        return afterId;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
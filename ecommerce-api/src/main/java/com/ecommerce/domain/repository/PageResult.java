@@ -0,0 +1,45 @@
+package com.ecommerce.domain.repository;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * PageResult - ページング結果
+ * 総件数は数えず、次ページの有無と次ページ取得用のカーソルのみを持つ
+ * JPA非依存
+ */
+public final class PageResult<T> {
+    private final List<T> items;
+    private final boolean hasNext;
+    private final Long nextCursor;
+
+    public PageResult(List<T> items, boolean hasNext, Long nextCursor) {
+        this.items = Collections.unmodifiableList(items);
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    /**
+     * 次ページ取得用のカーソル（次ページがない場合は null）
+     */
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * 要素を変換した結果を返す（カーソル情報は引き継ぐ）
+     */
+    public <R> PageResult<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = items.stream().<R>map(mapper).toList();
+        return new PageResult<>(mapped, hasNext, nextCursor);
+    }
+}
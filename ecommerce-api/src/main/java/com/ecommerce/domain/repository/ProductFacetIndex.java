@@ -0,0 +1,46 @@
+package com.ecommerce.domain.repository;
+
+import com.ecommerce.domain.model.CategoryId;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductId;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * ProductFacetIndex - カテゴリ・価格帯・在庫による商品の絞り込み索引のインターフェース
+ * JPA非依存
+ * 実装はインフラ層で行われる（索引の更新は保存・削除・在庫の増減のコミット後に呼び出す）
+ */
+public interface ProductFacetIndex {
+    /**
+     * 商品を索引に追加（登録済みの場合は置き換え）
+     */
+    void index(Product product);
+
+    /**
+     * 複数の商品をまとめて索引に追加（登録済みの場合は置き換え）
+     */
+    void indexAll(Collection<Product> products);
+
+    /**
+     * 商品を索引から削除
+     */
+    void remove(ProductId id);
+
+    /**
+     * 索引上の在庫数を増減（原子的な在庫の増減に成功した後に呼び出す）
+     */
+    void adjustStock(ProductId id, int delta);
+
+    /**
+     * 条件に一致する商品と絞り込み項目ごとの件数を取得
+     */
+    ProductFacetResult search(ProductFacetQuery query);
+
+    /**
+     * カテゴリごとの商品数と在庫のある商品数（ID 昇順、商品のないカテゴリは含まない）
+     * 索引が保持している件数を返すため、商品数によらずカテゴリ数に比例した時間で求まる
+     */
+    Map<CategoryId, CategoryProductCount> countByCategory();
+}
@@ -0,0 +1,96 @@
+package com.ecommerce.domain.repository;
+
+import com.ecommerce.domain.model.CategoryId;
+import com.ecommerce.domain.model.Money;
+
+import java.math.BigDecimal;
+
+/**
+ * ProductFacetQuery - 商品の絞り込み条件（カテゴリ・価格帯・在庫あり）を表す値オブジェクト
+ * 一致した商品は ID 昇順にキーセット方式（指定ID より後ろ）で返す
+ * JPA非依存
+ */
+public final class ProductFacetQuery {
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private final CategoryId categoryId;
+    private final Money minPrice;
+    private final Money maxPrice;
+    private final boolean inStockOnly;
+    private final long afterId;
+    private final int limit;
+
+    private ProductFacetQuery(CategoryId categoryId, Money minPrice, Money maxPrice,
+                              boolean inStockOnly, long afterId, int limit) {
+        this.categoryId = categoryId;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.inStockOnly = inStockOnly;
+        this.afterId = afterId;
+        this.limit = limit;
+    }
+
+    /**
+     * リクエストパラメータから絞り込み条件を生成（null の条件では絞り込まない）
+     * 価格の範囲は下限・上限とも含む
+     */
+    public static ProductFacetQuery of(Long categoryId, BigDecimal minPrice, BigDecimal maxPrice,
+                                       Boolean inStock, Long afterId, Integer limit) {
+        Money min = minPrice != null ? new Money(minPrice) : null;
+        Money max = maxPrice != null ? new Money(maxPrice) : null;
+        if (min != null && max != null && min.getMinorUnits() > max.getMinorUnits()) {
+            throw new IllegalArgumentException("Minimum price must not be greater than maximum price");
+        }
+        if (afterId != null && afterId < 0) {
+            throw new IllegalArgumentException("Cursor must not be negative");
+        }
+        if (limit != null && limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return new ProductFacetQuery(
+            categoryId != null ? new CategoryId(categoryId) : null,
+            min,
+            max,
+            Boolean.TRUE.equals(inStock),
+            afterId != null ? afterId : 0L,
+            limit != null ? Math.min(limit, MAX_LIMIT) : DEFAULT_LIMIT
+        );
+    }
+
+    /**
+     * 絞り込むカテゴリ（絞り込まない場合は null）
+     */
+    public CategoryId getCategoryId() {
+        return categoryId;
+    }
+
+    /**
+     * 価格の下限（指定しない場合は null）
+     */
+    public Money getMinPrice() {
+        return minPrice;
+    }
+
+    /**
+     * 価格の上限（指定しない場合は null）
+     */
+    public Money getMaxPrice() {
+        return maxPrice;
+    }
+
+    /**
+     * 在庫のある商品のみに絞り込むか
+     */
+    public boolean isInStockOnly() {
+        return inStockOnly;
+    }
+
+    public long getAfterId() {
+        return afterId;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
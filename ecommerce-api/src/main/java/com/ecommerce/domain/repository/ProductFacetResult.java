@@ -0,0 +1,119 @@
+package com.ecommerce.domain.repository;
+
+import com.ecommerce.domain.model.CategoryId;
+import com.ecommerce.domain.model.Money;
+import com.ecommerce.domain.model.ProductId;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ProductFacetResult - 商品の絞り込み結果
+ * 条件に一致した件数と指定範囲の商品ID、絞り込み項目ごとの件数を持つ。
+ * 項目ごとの件数は、その項目以外の条件を適用した件数（選択中の項目を切り替えたときの件数）
+ * JPA非依存
+ */
+public final class ProductFacetResult {
+    private final long total;
+    private final List<ProductId> ids;
+    private final boolean hasNext;
+    private final Long nextCursor;
+    private final Map<CategoryId, Long> categoryCounts;
+    private final List<PriceRangeCount> priceRangeCounts;
+    private final long inStockCount;
+    private final long outOfStockCount;
+
+    public ProductFacetResult(long total, List<ProductId> ids, boolean hasNext, Long nextCursor,
+                              Map<CategoryId, Long> categoryCounts, List<PriceRangeCount> priceRangeCounts,
+                              long inStockCount, long outOfStockCount) {
+        this.total = total;
+        this.ids = Collections.unmodifiableList(ids);
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+        this.categoryCounts = Collections.unmodifiableMap(categoryCounts);
+        this.priceRangeCounts = Collections.unmodifiableList(priceRangeCounts);
+        this.inStockCount = inStockCount;
+        this.outOfStockCount = outOfStockCount;
+    }
+
+    /**
+     * すべての条件に一致した商品の件数
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * 指定範囲の商品ID（ID 昇順）
+     */
+    public List<ProductId> getIds() {
+        return ids;
+    }
+
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    /**
+     * 次ページ取得用のカーソル（次ページがない場合は null）
+     */
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * カテゴリごとの件数（カテゴリ以外の条件を適用、ID 昇順、0件のカテゴリは含まない）
+     */
+    public Map<CategoryId, Long> getCategoryCounts() {
+        return categoryCounts;
+    }
+
+    /**
+     * 価格帯ごとの件数（価格以外の条件を適用、価格の昇順）
+     */
+    public List<PriceRangeCount> getPriceRangeCounts() {
+        return priceRangeCounts;
+    }
+
+    /**
+     * 在庫のある商品の件数（在庫以外の条件を適用）
+     */
+    public long getInStockCount() {
+        return inStockCount;
+    }
+
+    /**
+     * 在庫のない商品の件数（在庫以外の条件を適用）
+     */
+    public long getOutOfStockCount() {
+        return outOfStockCount;
+    }
+
+    /**
+     * 価格帯（下限を含み上限を含まない、上限が null の場合は上限なし）とその件数
+     */
+    public static final class PriceRangeCount {
+        private final Money min;
+        private final Money max;
+        private final long count;
+
+        public PriceRangeCount(Money min, Money max, long count) {
+            this.min = min;
+            this.max = max;
+            this.count = count;
+        }
+
+        public Money getMin() {
+            return min;
+        }
+
+        public Money getMax() {
+            return max;
+        }
+
+        public long getCount() {
+            return count;
+        }
+    }
+}
@@ -4,7 +4,9 @@ import com.ecommerce.domain.model.CategoryId;
 import com.ecommerce.domain.model.Product;
 import com.ecommerce.domain.model.ProductId;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -18,11 +20,23 @@ public interface ProductRepository {
      */
     Optional<Product> findById(ProductId id);
 
+    /**
+     * 複数IDで商品を一括取得（1回の問い合わせ）
+     * 存在しないIDは結果に含まれない
+     */
+    Map<ProductId, Product> findAllByIds(Collection<ProductId> ids);
+
     /**
      * 名前で商品を取得
      */
     Optional<Product> findByName(String name);
 
+    /**
+     * 複数の名前で商品を一括取得（1回の問い合わせ）
+     * 存在しない名前は結果に含まれない
+     */
+    Map<String, Product> findAllByNames(Collection<String> names);
+
     /**
      * カテゴリIDで商品を検索
      */
@@ -33,11 +47,32 @@ public interface ProductRepository {
      */
     List<Product> findAll();
 
+    /**
+     * 商品をページ単位で取得（ID 昇順）
+     */
+    PageResult<Product> findPage(PageQuery query);
+
     /**
      * 商品を保存（新規作成と更新の両方に対応）
      */
     void save(Product product);
 
+    /**
+     * 複数の商品を一括保存（1回のフラッシュで反映）
+     */
+    void saveAll(Collection<Product> products);
+
+    /**
+     * 在庫が十分な場合のみ在庫を原子的に減らす
+     * 在庫不足（または商品が存在しない）場合は false を返す
+     */
+    boolean tryDecreaseStock(ProductId id, int quantity);
+
+    /**
+     * 在庫を原子的に増やす
+     */
+    void increaseStock(ProductId id, int quantity);
+
     /**
      * 商品を削除
      */
@@ -0,0 +1,33 @@
+package com.ecommerce.domain.repository;
+
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductId;
+
+import java.util.Collection;
+
+/**
+ * ProductSearchIndex - 商品名・説明の全文検索索引のインターフェース
+ * JPA非依存
+ * 実装はインフラ層で行われる（索引の更新は保存・削除のコミット後に呼び出す）
+ */
+public interface ProductSearchIndex {
+    /**
+     * 商品を索引に追加（登録済みの場合は置き換え）
+     */
+    void index(Product product);
+
+    /**
+     * 複数の商品をまとめて索引に追加（登録済みの場合は置き換え）
+     */
+    void indexAll(Collection<Product> products);
+
+    /**
+     * 商品を索引から削除
+     */
+    void remove(ProductId id);
+
+    /**
+     * 条件に一致する商品を関連度の高い順に検索
+     */
+    ProductSearchResult search(ProductSearchQuery query);
+}
@@ -0,0 +1,70 @@
+package com.ecommerce.domain.repository;
+
+import com.ecommerce.domain.model.CategoryId;
+
+/**
+ * ProductSearchQuery - 商品の全文検索条件を表す値オブジェクト
+ * 検索語はすべて含む商品に絞り込み、最後の語は前方一致で照合する（入力途中の語に対応）
+ * JPA非依存
+ */
+public final class ProductSearchQuery {
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+    public static final int MAX_OFFSET = 1000;
+    public static final int MAX_TEXT_LENGTH = 200;
+
+    private final String text;
+    private final CategoryId categoryId;
+    private final int offset;
+    private final int limit;
+
+    private ProductSearchQuery(String text, CategoryId categoryId, int offset, int limit) {
+        this.text = text;
+        this.categoryId = categoryId;
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    /**
+     * リクエストパラメータから検索条件を生成（categoryId が null の場合はカテゴリで絞り込まない）
+     */
+    public static ProductSearchQuery of(String text, Long categoryId, Integer offset, Integer limit) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Search text must not be empty");
+        }
+        if (text.length() > MAX_TEXT_LENGTH) {
+            throw new IllegalArgumentException("Search text must be at most " + MAX_TEXT_LENGTH + " characters");
+        }
+        if (offset != null && (offset < 0 || offset > MAX_OFFSET)) {
+            throw new IllegalArgumentException("Offset must be between 0 and " + MAX_OFFSET);
+        }
+        if (limit != null && limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return new ProductSearchQuery(
+            text,
+            categoryId != null ? new CategoryId(categoryId) : null,
+            offset != null ? offset : 0,
+            limit != null ? Math.min(limit, MAX_LIMIT) : DEFAULT_LIMIT
+        );
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * 絞り込むカテゴリ（絞り込まない場合は null）
+     */
+    public CategoryId getCategoryId() {
+        return categoryId;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
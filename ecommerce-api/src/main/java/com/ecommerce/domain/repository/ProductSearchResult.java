@@ -0,0 +1,82 @@
+package com.ecommerce.domain.repository;
+
+import com.ecommerce.domain.model.CategoryId;
+import com.ecommerce.domain.model.Money;
+import com.ecommerce.domain.model.ProductId;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ProductSearchResult - 商品の全文検索結果
+ * 条件に一致した件数と、関連度の高い順に並べた指定範囲の商品を持つ
+ * JPA非依存
+ */
+public final class ProductSearchResult {
+    private static final ProductSearchResult EMPTY = new ProductSearchResult(0, List.of());
+
+    private final long total;
+    private final List<Hit> hits;
+
+    public ProductSearchResult(long total, List<Hit> hits) {
+        this.total = total;
+        this.hits = Collections.unmodifiableList(hits);
+    }
+
+    public static ProductSearchResult empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 条件に一致した商品の件数（offset / limit による範囲指定の前）
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    public List<Hit> getHits() {
+        return hits;
+    }
+
+    /**
+     * 検索結果の1件（索引に保持している項目のみ）
+     */
+    public static final class Hit {
+        private final ProductId id;
+        private final String name;
+        private final Money price;
+        private final CategoryId categoryId;
+        private final double score;
+
+        public Hit(ProductId id, String name, Money price, CategoryId categoryId, double score) {
+            this.id = id;
+            this.name = name;
+            this.price = price;
+            this.categoryId = categoryId;
+            this.score = score;
+        }
+
+        public ProductId getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Money getPrice() {
+            return price;
+        }
+
+        public CategoryId getCategoryId() {
+            return categoryId;
+        }
+
+        /**
+         * 関連度（BM25）
+         */
+        public double getScore() {
+            return score;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.application.query.OrderReadRepository;
+import com.ecommerce.application.query.ProductReadRepository;
+import com.ecommerce.application.service.CategoryApplicationService;
+import com.ecommerce.application.service.CustomerApplicationService;
+import com.ecommerce.application.service.OrderApplicationService;
+import com.ecommerce.application.service.ProductApplicationService;
+import com.ecommerce.domain.repository.CategoryRepository;
+import com.ecommerce.domain.repository.CustomerRepository;
+import com.ecommerce.domain.repository.OrderRepository;
+import com.ecommerce.domain.repository.ProductFacetIndex;
+import com.ecommerce.domain.repository.ProductRepository;
+import com.ecommerce.domain.repository.ProductSearchIndex;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ApplicationServiceConfig - アプリケーションサービスの構成
+ * アプリケーション層を Spring 非依存に保つため、Bean 登録はインフラ層で行う
+ */
+@Configuration
+public class ApplicationServiceConfig {
+
+    @Bean
+    public CategoryApplicationService categoryApplicationService(CategoryRepository categoryRepository,
+                                                                 ProductFacetIndex productFacetIndex) {
+        return new CategoryApplicationService(categoryRepository, productFacetIndex);
+    }
+
+    @Bean
+    public ProductApplicationService productApplicationService(ProductRepository productRepository,
+                                                               CategoryRepository categoryRepository,
+                                                               ProductSearchIndex productSearchIndex,
+                                                               ProductFacetIndex productFacetIndex,
+                                                               ProductReadRepository productReadRepository) {
+        return new ProductApplicationService(productRepository, categoryRepository,
+            productSearchIndex, productFacetIndex, productReadRepository);
+    }
+
+    @Bean
+    public CustomerApplicationService customerApplicationService(CustomerRepository customerRepository,
+                                                                 OrderReadRepository orderReadRepository) {
+        return new CustomerApplicationService(customerRepository, orderReadRepository);
+    }
+
+    @Bean
+    public OrderApplicationService orderApplicationService(OrderRepository orderRepository,
+                                                           ProductRepository productRepository,
+                                                           CustomerRepository customerRepository,
+                                                           ProductFacetIndex productFacetIndex,
+                                                           OrderReadRepository orderReadRepository) {
+        return new OrderApplicationService(orderRepository, productRepository, customerRepository,
+            productFacetIndex, orderReadRepository);
+    }
+}
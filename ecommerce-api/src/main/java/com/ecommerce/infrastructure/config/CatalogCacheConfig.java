@@ -0,0 +1,67 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.domain.repository.CategoryRepository;
+import com.ecommerce.domain.repository.ProductRepository;
+import com.ecommerce.infrastructure.persistence.CachingCategoryRepository;
+import com.ecommerce.infrastructure.persistence.CachingProductRepository;
+import com.ecommerce.infrastructure.persistence.CategoryRepositoryImpl;
+import com.ecommerce.infrastructure.persistence.ProductRepositoryImpl;
+import com.ecommerce.infrastructure.persistence.StockReservationLedger;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.Map;
+
+/**
+ * CatalogCacheConfig - 商品・カテゴリリポジトリの優先実装の構成
+ * 商品は「キャッシュ → 在庫予約台帳 → JPA 実装」の順に、有効なデコレーターだけを重ねる
+ */
+@Configuration
+@EnableConfigurationProperties(CatalogCacheProperties.class)
+public class CatalogCacheConfig {
+
+    // 委譲先（在庫予約台帳など）の終了処理はそれぞれの Bean に任せる
+    @Bean(destroyMethod = "")
+    @Primary
+    public ProductRepository productRepository(ProductRepositoryImpl productRepositoryImpl,
+                                               ObjectProvider<StockReservationLedger> stockReservationLedger,
+                                               CatalogCacheProperties properties,
+                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        StockReservationLedger ledger = stockReservationLedger.getIfAvailable();
+        ProductRepository repository = ledger != null ? ledger : productRepositoryImpl;
+        if (!properties.getProducts().isEnabled()) {
+            return repository;
+        }
+
+        CachingProductRepository caching = new CachingProductRepository(repository, properties.getProducts());
+        meterRegistry.ifAvailable(registry -> bind(registry, caching.caches()));
+        return caching;
+    }
+
+    @Bean
+    @Primary
+    public CategoryRepository categoryRepository(CategoryRepositoryImpl categoryRepositoryImpl,
+                                                 CatalogCacheProperties properties,
+                                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        if (!properties.getCategories().isEnabled()) {
+            return categoryRepositoryImpl;
+        }
+
+        CachingCategoryRepository caching = new CachingCategoryRepository(categoryRepositoryImpl, properties.getCategories());
+        meterRegistry.ifAvailable(registry -> bind(registry, caching.caches()));
+        return caching;
+    }
+
+    /**
+     * ヒット・ミス・追い出しの件数をキャッシュ名ごとに登録
+     */
+    private static void bind(MeterRegistry registry, Map<String, Cache<?, ?>> caches) {
+        caches.forEach((name, cache) -> CaffeineCacheMetrics.monitor(registry, cache, name));
+    }
+}
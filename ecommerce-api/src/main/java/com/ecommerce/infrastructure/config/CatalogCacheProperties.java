@@ -0,0 +1,58 @@
+package com.ecommerce.infrastructure.config;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * CatalogCacheProperties - カタログ読み取りキャッシュの設定
+ * ecommerce.catalog-cache.* にバインドされる
+ */
+@Data
+@ConfigurationProperties(prefix = "ecommerce.catalog-cache")
+public class CatalogCacheProperties {
+    /**
+     * 商品リポジトリのキャッシュ設定
+     */
+    private Products products = new Products();
+
+    /**
+     * カテゴリリポジトリのキャッシュ設定
+     */
+    private Spec categories = new Spec();
+
+    /**
+     * リポジトリごとのキャッシュ設定
+     */
+    @Data
+    public static class Spec {
+        /**
+         * キャッシュを有効にするか
+         */
+        private boolean enabled = false;
+
+        /**
+         * 保持する最大エントリ数
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * 書き込みからの有効期間
+         */
+        private Duration ttl = Duration.ofMinutes(5);
+    }
+
+    /**
+     * 商品リポジトリのキャッシュ設定（在庫は別の短い有効期間で保持）
+     */
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class Products extends Spec {
+        /**
+         * 在庫エントリの有効期間
+         */
+        private Duration stockTtl = Duration.ofSeconds(1);
+    }
+}
@@ -0,0 +1,95 @@
+package com.ecommerce.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.util.ClassUtils;
+
+/**
+ * DbConcurrencyLimiterConfig - DB 同時実行数制限の構成
+ *
+ * 接続プール（HikariDataSource）ごとに ConcurrencyLimitedDataSource で包み、
+ * 同時に保持できる接続数をプールの最大サイズ以下に抑える。
+ * 仮想スレッド（ecommerce.virtual-threads.enabled）を有効にした場合は設定にかかわらず有効になる。
+ */
+@Configuration
+public class DbConcurrencyLimiterConfig {
+    private static final Logger log = LoggerFactory.getLogger(DbConcurrencyLimiterConfig.class);
+    private static final String VIRTUAL_THREAD_CONFIG = "com.ecommerce.infrastructure.config.VirtualThreadConfig";
+
+    @Bean
+    public static BeanPostProcessor dbConcurrencyLimiterPostProcessor(Environment environment,
+                                                                      ObjectProvider<MeterRegistry> meterRegistry) {
+        Binder binder = Binder.get(environment);
+        DbConcurrencyLimiterProperties properties = binder
+            .bindOrCreate("ecommerce.db-limiter", DbConcurrencyLimiterProperties.class);
+        boolean virtualThreads = binder.bind("ecommerce.virtual-threads.enabled", Boolean.class).orElse(false);
+        if (virtualThreads && !ClassUtils.isPresent(VIRTUAL_THREAD_CONFIG, DbConcurrencyLimiterConfig.class.getClassLoader())) {
+            throw new IllegalStateException(
+                "ecommerce.virtual-threads.enabled requires a Java 21 build (mvn -Pjava21 package)");
+        }
+        boolean enabled = properties.isEnabled() || virtualThreads;
+
+        return new LimiterPostProcessor(enabled, properties, meterRegistry);
+    }
+
+    /**
+     * 接続プールを包む BeanPostProcessor（SQL 計測の datasource-proxy より先に適用する）
+     */
+    private static final class LimiterPostProcessor implements BeanPostProcessor, Ordered {
+        private final boolean enabled;
+        private final DbConcurrencyLimiterProperties properties;
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+
+        private LimiterPostProcessor(boolean enabled, DbConcurrencyLimiterProperties properties,
+                                     ObjectProvider<MeterRegistry> meterRegistry) {
+            this.enabled = enabled;
+            this.properties = properties;
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!enabled || !(bean instanceof HikariDataSource pool)) {
+                return bean;
+            }
+
+            int poolSize = pool.getMaximumPoolSize();
+            int maxConcurrency = properties.getMaxConcurrency() > 0 ? properties.getMaxConcurrency() : poolSize;
+            if (maxConcurrency > poolSize) {
+                log.warn("ecommerce.db-limiter.max-concurrency ({}) exceeds the pool size of {} ({}), using {}",
+                    maxConcurrency, beanName, poolSize, poolSize);
+                maxConcurrency = poolSize;
+            }
+            log.info("Limiting {} to {} concurrent connections", beanName, maxConcurrency);
+
+            ConcurrencyLimitedDataSource limited =
+                new ConcurrencyLimitedDataSource(pool, maxConcurrency, properties.getAcquireTimeout());
+            meterRegistry.ifAvailable(registry -> {
+                Gauge.builder("ecommerce.db.limiter.active", limited, ConcurrencyLimitedDataSource::getActive)
+                    .description("Connections currently held through the limiter")
+                    .tag("pool", beanName)
+                    .register(registry);
+                Gauge.builder("ecommerce.db.limiter.waiting", limited, ConcurrencyLimitedDataSource::getWaiting)
+                    .description("Threads waiting for a limiter permit")
+                    .tag("pool", beanName)
+                    .register(registry);
+            });
+            return limited;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
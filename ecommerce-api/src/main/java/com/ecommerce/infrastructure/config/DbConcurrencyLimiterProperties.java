@@ -0,0 +1,29 @@
+package com.ecommerce.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * DbConcurrencyLimiterProperties - DB 同時実行数制限の設定
+ * ecommerce.db-limiter.* にバインドされる
+ */
+@Data
+@ConfigurationProperties(prefix = "ecommerce.db-limiter")
+public class DbConcurrencyLimiterProperties {
+    /**
+     * 制限を有効にするか（仮想スレッド有効時は常に有効）
+     */
+    private boolean enabled = false;
+
+    /**
+     * 同時に保持できる接続数（0 の場合は接続プールの最大サイズ、プールより大きい値は切り詰める）
+     */
+    private int maxConcurrency = 0;
+
+    /**
+     * 許可を待つ最大時間
+     */
+    private Duration acquireTimeout = Duration.ofSeconds(30);
+}
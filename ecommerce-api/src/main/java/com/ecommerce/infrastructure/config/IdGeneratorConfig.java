@@ -0,0 +1,53 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.infrastructure.persistence.jpa.IdGenerators;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * IdGeneratorConfig - テーブル採番の構成
+ * 採番の確保件数と採番専用の接続プールを Hibernate の設定として渡し、PooledTableIdGenerator から参照できるようにする
+ *
+ * ID の確保はトランザクションの接続とは別の接続で行う。アプリケーションの接続プールから取得すると、
+ * 接続を保持したトランザクションが確保の完了を待つ間にプールが尽き、確保する側が接続を得られず止まるため、
+ * spring.datasource と同じ接続先に専用の小さなプールを作る（DataSource の Bean にはしない）
+ */
+@Configuration
+@EnableConfigurationProperties(IdGeneratorProperties.class)
+public class IdGeneratorConfig implements AutoCloseable {
+    private HikariDataSource idGeneratorDataSource;
+
+    @Bean
+    public HibernatePropertiesCustomizer idGeneratorHibernatePropertiesCustomizer(IdGeneratorProperties properties,
+                                                                                  DataSourceProperties dataSourceProperties) {
+        if (properties.getAllocationSize() < 1) {
+            throw new IllegalStateException("ecommerce.id-generator.allocation-size must be positive");
+        }
+        if (properties.getPoolSize() < 1) {
+            throw new IllegalStateException("ecommerce.id-generator.pool-size must be positive");
+        }
+
+        idGeneratorDataSource = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        idGeneratorDataSource.setPoolName("id-generator");
+        idGeneratorDataSource.setMaximumPoolSize(properties.getPoolSize());
+        idGeneratorDataSource.setMinimumIdle(0);
+
+        return hibernateProperties -> {
+            hibernateProperties.put(IdGenerators.ALLOCATION_SIZE_SETTING, properties.getAllocationSize());
+            hibernateProperties.put(IdGenerators.DATA_SOURCE_SETTING, idGeneratorDataSource);
+        };
+    }
+
+    @Override
+    public void close() {
+        if (idGeneratorDataSource != null) {
+            idGeneratorDataSource.close();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * IdGeneratorProperties - テーブル採番の設定
+ * ecommerce.id-generator.* にバインドされる
+ */
+@Data
+@ConfigurationProperties(prefix = "ecommerce.id-generator")
+public class IdGeneratorProperties {
+    /**
+     * 1回の採番で確保する ID の件数（JDBC バッチサイズ以上を推奨）
+     */
+    private int allocationSize = 50;
+
+    /**
+     * 採番専用の接続プールの最大接続数（ID の確保はアプリケーションの接続プールを使わない）
+     */
+    private int poolSize = 2;
+}
@@ -0,0 +1,70 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.infrastructure.outbox.FileOutboxEventSink;
+import com.ecommerce.infrastructure.outbox.InMemoryOutboxEventSink;
+import com.ecommerce.infrastructure.outbox.OutboxEventSink;
+import com.ecommerce.infrastructure.outbox.OutboxRelay;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+
+/**
+ * OutboxConfig - ドメインイベントの配信の構成
+ * イベントは OutboxWriter が集約の保存と同じトランザクションで送信待ちに書き込み、OutboxRelay が配信先へ送る。
+ * 配信先は ecommerce.outbox.sink で選ぶ（既定は file）。下流のシステムへ送る OutboxEventSink の Bean を定義する場合は
+ * sink を none にする。配信先が1つに決まらない場合は起動に失敗する
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "ecommerce.outbox", name = "sink", havingValue = "file", matchIfMissing = true)
+    public FileOutboxEventSink fileOutboxEventSink(OutboxProperties properties, ObjectMapper objectMapper) {
+        return new FileOutboxEventSink(Path.of(properties.getFilePath()), objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "ecommerce.outbox", name = "sink", havingValue = "memory")
+    public InMemoryOutboxEventSink inMemoryOutboxEventSink(OutboxProperties properties) {
+        return new InMemoryOutboxEventSink(properties.getMemoryCapacity());
+    }
+
+    @Bean
+    public OutboxRelay outboxRelay(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   ObjectProvider<OutboxEventSink> sinkProvider,
+                                   OutboxProperties properties,
+                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        OutboxEventSink sink = sinkProvider.getIfUnique();
+        if (sink == null) {
+            throw new IllegalStateException("Exactly one outbox event sink is required: set ecommerce.outbox.sink "
+                + "to file or memory, or set it to none and define an OutboxEventSink bean");
+        }
+        OutboxRelay relay = new OutboxRelay(jdbcTemplate, transactionManager, sink,
+            properties.getBatchSize(), properties.getPollInterval());
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("ecommerce.outbox.lag", relay, r -> r.getLagMillis() / 1000.0)
+                .description("Age of the oldest undelivered outbox event at the last poll")
+                .baseUnit("seconds")
+                .register(registry);
+            FunctionCounter.builder("ecommerce.outbox.published", relay, OutboxRelay::getPublishedCount)
+                .description("Outbox events handed to the sink, including redeliveries")
+                .register(registry);
+            FunctionCounter.builder("ecommerce.outbox.failures", relay, OutboxRelay::getFailureCount)
+                .description("Outbox relay polls that failed and will be retried")
+                .register(registry);
+        });
+        return relay;
+    }
+}
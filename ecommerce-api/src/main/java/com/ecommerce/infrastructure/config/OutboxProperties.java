@@ -0,0 +1,40 @@
+package com.ecommerce.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * OutboxProperties - ドメインイベントの送信待ちと配信の設定
+ * ecommerce.outbox.* にバインドされる
+ */
+@Data
+@ConfigurationProperties(prefix = "ecommerce.outbox")
+public class OutboxProperties {
+    /**
+     * 送信待ちを確認する間隔（0 の場合はこのインスタンスでは配信しない）
+     */
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    /**
+     * 1回のトランザクションで配信する最大件数
+     */
+    private int batchSize = 500;
+
+    /**
+     * 配信先（file / memory / none）
+     * 下流のシステムへ送る OutboxEventSink の Bean を定義する場合は none にする
+     */
+    private String sink = "file";
+
+    /**
+     * file: イベントを追記する NDJSON ファイル
+     */
+    private String filePath = "outbox-events.ndjson";
+
+    /**
+     * memory: 保持する直近のイベント数
+     */
+    private int memoryCapacity = 10000;
+}
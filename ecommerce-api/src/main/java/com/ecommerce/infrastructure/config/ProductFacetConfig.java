@@ -0,0 +1,53 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.domain.model.Money;
+import com.ecommerce.infrastructure.search.InMemoryProductFacetIndex;
+import com.ecommerce.infrastructure.search.ProductFacetReconciler;
+import com.ecommerce.infrastructure.search.ProductSearchIndexLoader;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ProductFacetConfig - 商品の絞り込み索引の構成
+ * 起動時の構築は ProductSearchIndexLoader が検索索引と同じ読み込みで行い、
+ * 以降は ProductFacetReconciler が一定間隔で作り直して件数のずれを解消する
+ */
+@Configuration
+@EnableConfigurationProperties(ProductFacetProperties.class)
+public class ProductFacetConfig {
+
+    @Bean
+    public InMemoryProductFacetIndex productFacetIndex(ProductFacetProperties properties,
+                                                      ObjectProvider<MeterRegistry> meterRegistry) {
+        long[] boundaries = properties.getPriceBoundaries().stream()
+            .mapToLong(boundary -> new Money(boundary).getMinorUnits())
+            .toArray();
+        InMemoryProductFacetIndex index = new InMemoryProductFacetIndex(boundaries);
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("ecommerce.facets.documents", index, InMemoryProductFacetIndex::size)
+                .description("Products in the facet index")
+                .register(registry);
+            Gauge.builder("ecommerce.facets.bytes", index, InMemoryProductFacetIndex::sizeInBytes)
+                .description("Approximate memory used by the facet index")
+                .baseUnit("bytes")
+                .register(registry);
+        });
+        return index;
+    }
+
+    @Bean
+    public ProductFacetReconciler productFacetReconciler(ProductSearchIndexLoader loader,
+                                                         ProductFacetProperties properties,
+                                                         ObjectProvider<MeterRegistry> meterRegistry) {
+        ProductFacetReconciler reconciler = new ProductFacetReconciler(loader, properties.getReconcileInterval());
+        meterRegistry.ifAvailable(registry -> Gauge.builder("ecommerce.facets.drift", reconciler,
+                ProductFacetReconciler::getLastDrift)
+            .description("Category count drift found by the last facet index reconciliation")
+            .register(registry));
+        return reconciler;
+    }
+}
@@ -0,0 +1,29 @@
+package com.ecommerce.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ProductFacetProperties - 商品の絞り込み索引の設定
+ * ecommerce.facets.* にバインドされる
+ */
+@Data
+@ConfigurationProperties(prefix = "ecommerce.facets")
+public class ProductFacetProperties {
+    /**
+     * 件数を返す価格帯の境界（昇順、最初の価格帯は 0 から、最後の価格帯は上限なし）
+     */
+    private List<BigDecimal> priceBoundaries = new ArrayList<>(List.of(
+        new BigDecimal("10"), new BigDecimal("50"), new BigDecimal("100"),
+        new BigDecimal("500"), new BigDecimal("1000"), new BigDecimal("5000")));
+
+    /**
+     * 全商品から索引を作り直してカテゴリごとの件数などのずれを解消する間隔（0 の場合は照合しない）
+     */
+    private Duration reconcileInterval = Duration.ofMinutes(15);
+}
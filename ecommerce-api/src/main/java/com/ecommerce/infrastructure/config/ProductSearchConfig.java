@@ -0,0 +1,34 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.infrastructure.search.InMemoryProductSearchIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ProductSearchConfig - 商品検索索引の構成
+ * 起動時の構築は ProductSearchIndexLoader が行う
+ */
+@Configuration
+@EnableConfigurationProperties(ProductSearchProperties.class)
+public class ProductSearchConfig {
+
+    @Bean
+    public InMemoryProductSearchIndex productSearchIndex(ProductSearchProperties properties,
+                                                        ObjectProvider<MeterRegistry> meterRegistry) {
+        InMemoryProductSearchIndex index = new InMemoryProductSearchIndex(
+            properties.getMinPrefixLength(), properties.getMaxPrefixExpansions());
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("ecommerce.search.documents", index, InMemoryProductSearchIndex::size)
+                .description("Products in the search index")
+                .register(registry);
+            Gauge.builder("ecommerce.search.terms", index, InMemoryProductSearchIndex::termCount)
+                .description("Distinct terms in the search index")
+                .register(registry);
+        });
+        return index;
+    }
+}
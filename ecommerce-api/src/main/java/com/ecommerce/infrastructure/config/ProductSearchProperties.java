@@ -0,0 +1,22 @@
+package com.ecommerce.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * ProductSearchProperties - 商品検索索引の設定
+ * ecommerce.search.* にバインドされる
+ */
+@Data
+@ConfigurationProperties(prefix = "ecommerce.search")
+public class ProductSearchProperties {
+    /**
+     * 前方一致で照合する最後の語の最小文字数（これより短い語は完全一致）
+     */
+    private int minPrefixLength = 2;
+
+    /**
+     * 前方一致で展開する語の最大数
+     */
+    private int maxPrefixExpansions = 50;
+}
@@ -0,0 +1,64 @@
+package com.ecommerce.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * ReadReplicaDataSourceConfig - 読み取りレプリカへのルーティング構成
+ * 有効時は spring.datasource をプライマリ、ecommerce.datasource.replica をレプリカとし、
+ * 読み取り専用トランザクションをレプリカのプールに振り分ける
+ *
+ * open-in-view が有効だとリクエスト全体で1つの接続が保持され、最初の読み取り専用トランザクションで
+ * レプリカに振り分けられた接続が後続の書き込みにも使われるため、有効な場合は起動に失敗させる。
+ * 書き込みのユースケースは読み書きのトランザクションで実行し、その中の読み取りもプライマリで行う
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "ecommerce.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    public ReadReplicaDataSourceConfig(@Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+        if (openInView) {
+            throw new IllegalStateException("Read replica routing requires spring.jpa.open-in-view=false: "
+                + "a request-scoped connection routed to the replica would be reused for writes");
+        }
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("ecommerce.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replica);
+        routing.afterPropertiesSet();
+        // 実際の接続取得を最初の SQL 実行まで遅らせ、読み取り専用フラグが確定してから振り分ける
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
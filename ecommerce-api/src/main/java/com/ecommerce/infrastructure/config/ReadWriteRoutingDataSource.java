@@ -0,0 +1,30 @@
+package com.ecommerce.infrastructure.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import javax.sql.DataSource;
+
+/**
+ * ReadWriteRoutingDataSource - 読み取り専用トランザクションをレプリカに振り分ける DataSource
+ * 判定はトランザクション開始後に行う必要があるため、LazyConnectionDataSourceProxy で包んで使う
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+            ? Route.REPLICA
+            : Route.PRIMARY;
+    }
+}
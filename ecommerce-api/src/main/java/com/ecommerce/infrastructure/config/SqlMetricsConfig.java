@@ -0,0 +1,74 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.infrastructure.metrics.QueryStatsCallableInterceptor;
+import com.ecommerce.infrastructure.metrics.QueryStatsInterceptor;
+import com.ecommerce.infrastructure.metrics.QueryStatsListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * SqlMetricsConfig - リクエストごとの SQL 計測の構成
+ * 接続プール（末端の DataSource）を datasource-proxy で包み、発行された文・取得行数・DB 時間を集計する
+ * ヘッダー付与と上限の検査は QueryStatsResponseAdvice が行う
+ */
+@Configuration
+@EnableConfigurationProperties(SqlMetricsProperties.class)
+public class SqlMetricsConfig implements WebMvcConfigurer {
+    private final MeterRegistry meterRegistry;
+    private final SqlMetricsProperties properties;
+
+    public SqlMetricsConfig(MeterRegistry meterRegistry, SqlMetricsProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        registry.addInterceptor(new QueryStatsInterceptor(meterRegistry, properties));
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        configurer.registerCallableInterceptors(new QueryStatsCallableInterceptor());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "ecommerce.sql-metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public static BeanPostProcessor queryStatsDataSourcePostProcessor() {
+        QueryStatsListener listener = new QueryStatsListener();
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // ルーティングや遅延取得のラッパーは包まず、実際に接続を作る DataSource だけを包んで二重計上を避ける
+                if (!(bean instanceof DataSource dataSource)
+                        || bean instanceof AbstractRoutingDataSource
+                        || bean instanceof DelegatingDataSource) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create(beanName, dataSource)
+                    .listener(listener)
+                    .methodListener(listener)
+                    .proxyResultSet()
+                    .build();
+            }
+        };
+    }
+}
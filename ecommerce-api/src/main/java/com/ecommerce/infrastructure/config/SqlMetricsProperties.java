@@ -0,0 +1,35 @@
+package com.ecommerce.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SqlMetricsProperties - リクエストごとの SQL 計測の設定
+ * ecommerce.sql-metrics.* にバインドされる
+ */
+@Data
+@ConfigurationProperties(prefix = "ecommerce.sql-metrics")
+public class SqlMetricsProperties {
+    /**
+     * 計測を有効にするか
+     */
+    private boolean enabled = true;
+
+    /**
+     * 集計結果をレスポンスヘッダー（X-SQL-*）に付けるか
+     */
+    private boolean responseHeaders = false;
+
+    /**
+     * エンドポイントごとの SQL 文の上限（キーは "GET /api/orders/{id}" の形式）
+     */
+    private Map<String, Integer> budgets = new LinkedHashMap<>();
+
+    /**
+     * 上限を超えたリクエストをエラー（500）にするか（テスト用、false の場合は警告ログとメトリクスのみ）
+     */
+    private boolean failOnBudgetExceeded = false;
+}
@@ -0,0 +1,24 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.infrastructure.persistence.ProductRepositoryImpl;
+import com.ecommerce.infrastructure.persistence.StockReservationLedger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * StockLedgerConfig - 在庫予約台帳の構成
+ * 有効時は台帳を登録し、CatalogCacheConfig で ProductRepository の委譲先として組み込む
+ */
+@Configuration
+@EnableConfigurationProperties(StockLedgerProperties.class)
+public class StockLedgerConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "ecommerce.stock-ledger", name = "enabled", havingValue = "true")
+    public StockReservationLedger stockReservationLedger(ProductRepositoryImpl productRepositoryImpl,
+                                                         StockLedgerProperties properties) {
+        return new StockReservationLedger(productRepositoryImpl, properties);
+    }
+}
@@ -0,0 +1,58 @@
+package com.ecommerce.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * StockLedgerProperties - 在庫予約台帳の設定
+ * ecommerce.stock-ledger.* にバインドされる
+ */
+@Data
+@ConfigurationProperties(prefix = "ecommerce.stock-ledger")
+public class StockLedgerProperties {
+    /**
+     * 台帳を有効にするか
+     */
+    private boolean enabled = false;
+
+    /**
+     * 反映対象のセルを確認する間隔
+     */
+    private Duration flushInterval = Duration.ofMillis(100);
+
+    /**
+     * 商品ごとの書き込み遅延ウィンドウ（既定値）
+     */
+    private Duration writeBehindWindow = Duration.ofSeconds(1);
+
+    /**
+     * 商品IDごとの書き込み遅延ウィンドウ
+     */
+    private Map<Long, Duration> windows = new HashMap<>();
+
+    /**
+     * 台帳で管理する商品ID（空の場合はすべての商品）
+     */
+    private Set<Long> productIds = new HashSet<>();
+
+    /**
+     * 保持するセルの上限（超えた分の商品は台帳を経由せず DB を直接更新する）
+     */
+    private int maximumCells = 10_000;
+
+    /**
+     * 使われていないセルを破棄するまでの時間
+     */
+    private Duration idleTimeout = Duration.ofMinutes(1);
+
+    /**
+     * 減算の拒否がこの回数続くとエラーとして記録する（差分は保持したまま再試行を続ける）
+     */
+    private int maxFlushAttempts = 3;
+}
@@ -0,0 +1,95 @@
+package com.ecommerce.infrastructure.export;
+
+import com.ecommerce.infrastructure.mapper.OrderMapper;
+import com.ecommerce.infrastructure.mapper.ProductMapper;
+import com.ecommerce.infrastructure.persistence.jpa.OrderJpaRepository;
+import com.ecommerce.infrastructure.persistence.jpa.ProductJpaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * NdjsonExporter - 全件エクスポートを NDJSON（1行1 JSON）で書き出す
+ * JPA のストリーミング取得を使い、一定件数ごとに永続化コンテキストをクリアして
+ * テーブルサイズに関係なくメモリ使用量を一定に保つ
+ */
+@Component
+public class NdjsonExporter {
+    private static final byte NEWLINE = '\n';
+
+    private final ProductJpaRepository productJpaRepository;
+    private final OrderJpaRepository orderJpaRepository;
+    private final ProductMapper productMapper;
+    private final OrderMapper orderMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectWriter writer;
+    private final int clearInterval;
+
+    public NdjsonExporter(ProductJpaRepository productJpaRepository,
+                          OrderJpaRepository orderJpaRepository,
+                          ProductMapper productMapper,
+                          OrderMapper orderMapper,
+                          EntityManager entityManager,
+                          PlatformTransactionManager transactionManager,
+                          ObjectMapper objectMapper,
+                          @Value("${ecommerce.export.clear-interval:1000}") int clearInterval) {
+        this.productJpaRepository = productJpaRepository;
+        this.orderJpaRepository = orderJpaRepository;
+        this.productMapper = productMapper;
+        this.orderMapper = orderMapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.writer = objectMapper.writer();
+        this.clearInterval = clearInterval;
+    }
+
+    /**
+     * 全商品をエクスポート
+     */
+    public void exportProducts(OutputStream out) {
+        export(out, productJpaRepository::streamAll, productMapper::toDTOWithCategory);
+    }
+
+    /**
+     * 全注文をエクスポート
+     */
+    public void exportOrders(OutputStream out) {
+        export(out, orderJpaRepository::streamAll, orderMapper::toDTOWithCustomer);
+    }
+
+    private <E> void export(OutputStream out, Supplier<Stream<E>> source, Function<E, ?> toDTO) {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<E> stream = source.get()) {
+                BufferedOutputStream buffered = new BufferedOutputStream(out);
+                long count = 0;
+                for (E entity : (Iterable<E>) stream::iterator) {
+                    buffered.write(writer.writeValueAsBytes(toDTO.apply(entity)));
+                    buffered.write(NEWLINE);
+
+                    // 読み込み済みエンティティを解放
+                    if (++count % clearInterval == 0) {
+                        entityManager.clear();
+                        buffered.flush();
+                    }
+                }
+                buffered.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,34 @@
+package com.ecommerce.infrastructure.importer;
+
+import org.springframework.http.MediaType;
+
+/**
+ * ProductFeedFormat - 商品フィードの形式
+ */
+public enum ProductFeedFormat {
+    /**
+     * 先頭行がヘッダーの CSV（RFC 4180 のダブルクォートに対応）
+     */
+    CSV,
+
+    /**
+     * 1行1 JSON オブジェクト
+     */
+    NDJSON;
+
+    /**
+     * Content-Type から形式を判定
+     */
+    public static ProductFeedFormat fromMediaType(MediaType mediaType) {
+        if (mediaType != null) {
+            String subtype = mediaType.getSubtype();
+            if ("csv".equalsIgnoreCase(subtype)) {
+                return CSV;
+            }
+            if ("x-ndjson".equalsIgnoreCase(subtype) || "ndjson".equalsIgnoreCase(subtype)) {
+                return NDJSON;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported feed format: " + mediaType);
+    }
+}
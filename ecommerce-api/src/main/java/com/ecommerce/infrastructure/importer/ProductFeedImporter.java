@@ -0,0 +1,135 @@
+package com.ecommerce.infrastructure.importer;
+
+import com.ecommerce.application.dto.ProductImportEventDTO;
+import com.ecommerce.application.service.ProductApplicationService;
+import com.ecommerce.application.service.ProductApplicationService.ProductImportError;
+import com.ecommerce.application.service.ProductApplicationService.ProductImportInput;
+import com.ecommerce.application.service.ProductApplicationService.ProductImportResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ProductFeedImporter - 商品フィード（CSV / NDJSON）のストリーミング取り込み
+ * フィードを1件ずつ読み、チャンク単位でアプリケーションサービスに渡して保存する。
+ * 行ごとのエラーとチャンクごとの進捗は NDJSON でその都度書き出し、結果を溜め込まないため
+ * メモリ使用量はフィードの大きさに関係なく一定に保たれる
+ */
+@Component
+public class ProductFeedImporter {
+    private static final Logger log = LoggerFactory.getLogger(ProductFeedImporter.class);
+    private static final byte NEWLINE = '\n';
+
+    private final ProductApplicationService applicationService;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+    private final int chunkSize;
+
+    public ProductFeedImporter(ProductApplicationService applicationService,
+                               ObjectMapper objectMapper,
+                               @Value("${ecommerce.import.chunk-size:1000}") int chunkSize) {
+        this.applicationService = applicationService;
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writer();
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * フィードを開く（ヘッダーの誤りなどはレスポンスを書き始める前にここで検出する）
+     */
+    public ProductFeedReader open(InputStream in, ProductFeedFormat format) throws IOException {
+        return ProductFeedReader.open(in, format, objectMapper);
+    }
+
+    /**
+     * フィードを最後まで取り込み、経過を NDJSON で out に書き出す
+     */
+    public void importFeed(ProductFeedReader reader, OutputStream out) {
+        long started = System.nanoTime();
+        Progress progress = new Progress();
+        BufferedOutputStream buffered = new BufferedOutputStream(out);
+        try (reader) {
+            List<ProductImportInput> chunk = new ArrayList<>(chunkSize);
+            ProductFeedReader.FeedRow row;
+            while ((row = reader.next()) != null) {
+                if (row.error() != null) {
+                    progress.processed++;
+                    progress.failed++;
+                    write(buffered, ProductImportEventDTO.error(row.line(), row.error()));
+                    continue;
+                }
+                chunk.add(row.input());
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, progress, buffered);
+                    write(buffered, progress.toEvent("progress", started));
+                    buffered.flush();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, progress, buffered);
+            }
+            write(buffered, progress.toEvent("summary", started));
+            buffered.flush();
+        } catch (IllegalArgumentException e) {
+            // 続きを読めない誤り（閉じられていない引用符など）は、取り込み済みの件数とともに中断を知らせる
+            ProductImportEventDTO aborted = progress.toEvent("aborted", started);
+            aborted.setMessage(e.getMessage());
+            try {
+                write(buffered, aborted);
+                buffered.flush();
+            } catch (IOException ignored) {
+                // 書き出せない場合は接続が切れているため通知しない
+            }
+            log.warn("Product feed import aborted after {} rows: {}", progress.processed, e.getMessage());
+            return;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("Imported product feed: {} rows, {} created, {} updated, {} failed in {} ms",
+            progress.processed, progress.created, progress.updated, progress.failed,
+            (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void importChunk(List<ProductImportInput> chunk, Progress progress, OutputStream out) throws IOException {
+        ProductImportResult result = applicationService.importProducts(chunk);
+        progress.processed += chunk.size();
+        progress.created += result.created;
+        progress.updated += result.updated;
+        progress.failed += result.errors.size();
+        for (ProductImportError error : result.errors) {
+            write(out, ProductImportEventDTO.error(error.line, error.message));
+        }
+        chunk.clear();
+    }
+
+    private void write(OutputStream out, ProductImportEventDTO event) throws IOException {
+        out.write(writer.writeValueAsBytes(event));
+        out.write(NEWLINE);
+    }
+
+    /**
+     * 取り込み件数の累計
+     */
+    private static class Progress {
+        long processed;
+        long created;
+        long updated;
+        long failed;
+
+        ProductImportEventDTO toEvent(String type, long started) {
+            return ProductImportEventDTO.progress(type, processed, created, updated, failed,
+                (System.nanoTime() - started) / 1_000_000);
+        }
+    }
+}
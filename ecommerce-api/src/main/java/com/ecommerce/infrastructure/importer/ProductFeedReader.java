@@ -0,0 +1,261 @@
+package com.ecommerce.infrastructure.importer;
+
+import com.ecommerce.application.service.ProductApplicationService.ProductImportInput;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * ProductFeedReader - 商品フィードを1件ずつ読み込む
+ * フィード全体は読み込まず、next() のたびに次の1件だけを解析するため、メモリ使用量はフィードの大きさに依存しない。
+ * 列（キー）は name, description, price, stock, categoryId（category_id も可）
+ */
+public class ProductFeedReader implements Closeable {
+    /**
+     * 1件の最大文字数（閉じられていない引用符などで全体を読み込まないための上限）
+     */
+    static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+    private final BufferedReader reader;
+    private final ProductFeedFormat format;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long lineNumber;
+
+    private ProductFeedReader(InputStream in, ProductFeedFormat format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * フィードを開く（CSV はここでヘッダーを読み込んで検証する）
+     */
+    public static ProductFeedReader open(InputStream in, ProductFeedFormat format, ObjectMapper objectMapper)
+            throws IOException {
+        ProductFeedReader feedReader = new ProductFeedReader(in, format, objectMapper);
+        if (format == ProductFeedFormat.CSV) {
+            feedReader.readHeader();
+        }
+        return feedReader;
+    }
+
+    /**
+     * 次の1件を返す（終端では null）
+     * 値を解釈できない行は error を持つ FeedRow として返す
+     */
+    public FeedRow next() throws IOException {
+        return format == ProductFeedFormat.CSV ? nextCsv() : nextNdjson();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() throws IOException {
+        List<String> header = readCsvRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV header is missing");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(normalize(header.get(i)), i);
+        }
+        for (String required : List.of("name", "price", "categoryid")) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("CSV header must contain column: " + required);
+            }
+        }
+    }
+
+    private FeedRow nextCsv() throws IOException {
+        List<String> values;
+        long line;
+        do {
+            line = lineNumber + 1;
+            values = readCsvRecord();
+            if (values == null) {
+                return null;
+            }
+        } while (values.size() == 1 && values.get(0).isEmpty());
+
+        try {
+            return FeedRow.of(new ProductImportInput(line,
+                text(csvValue(values, "name")),
+                text(csvValue(values, "description")),
+                decimal("price", csvValue(values, "price")),
+                integer("stock", csvValue(values, "stock")),
+                longValue("categoryId", csvValue(values, "categoryid"))));
+        } catch (IllegalArgumentException e) {
+            return FeedRow.error(line, e.getMessage());
+        }
+    }
+
+    private FeedRow nextNdjson() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (text.isBlank());
+        long line = lineNumber;
+
+        try {
+            JsonNode node = objectMapper.readTree(text);
+            if (!node.isObject()) {
+                return FeedRow.error(line, "Line is not a JSON object");
+            }
+            return FeedRow.of(new ProductImportInput(line,
+                text(jsonValue(node, "name")),
+                text(jsonValue(node, "description")),
+                decimal("price", jsonValue(node, "price")),
+                integer("stock", jsonValue(node, "stock")),
+                longValue("categoryId", jsonValue(node, "categoryId", "category_id"))));
+        } catch (JsonProcessingException e) {
+            return FeedRow.error(line, "Invalid JSON: " + e.getOriginalMessage());
+        } catch (IllegalArgumentException e) {
+            return FeedRow.error(line, e.getMessage());
+        }
+    }
+
+    /**
+     * CSV の1レコードを読み込む（引用符内の改行・カンマ・"" に対応、終端では null）
+     */
+    private List<String> readCsvRecord() throws IOException {
+        List<String> values = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean any = false;
+        int length = 0;
+        int c;
+        while ((c = reader.read()) != -1) {
+            any = true;
+            if (++length > MAX_RECORD_LENGTH) {
+                throw new IllegalArgumentException("Record is too long at line " + (lineNumber + 1));
+            }
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                lineNumber++;
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+        if (!any) {
+            return null;
+        }
+        if (c == -1) {
+            // 改行で終わらない最終行
+            lineNumber++;
+        }
+        values.add(field.toString());
+        return values;
+    }
+
+    private String csvValue(List<String> values, String column) {
+        Integer index = columns.get(column);
+        return index != null && index < values.size() ? values.get(index) : null;
+    }
+
+    private static String jsonValue(JsonNode node, String... keys) {
+        for (String key : keys) {
+            JsonNode value = node.get(key);
+            if (value != null && !value.isNull()) {
+                return value.asText();
+            }
+        }
+        return null;
+    }
+
+    private static String normalize(String column) {
+        // Excel などが付ける BOM も取り除く
+        return column.replace("\uFEFF", "").trim().replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static String text(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    private static BigDecimal decimal(String field, String value) {
+        String text = text(value);
+        if (text == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(text.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + field + ": " + value);
+        }
+    }
+
+    private static Integer integer(String field, String value) {
+        String text = text(value);
+        if (text == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(text.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + field + ": " + value);
+        }
+    }
+
+    private static Long longValue(String field, String value) {
+        String text = text(value);
+        if (text == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(text.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + field + ": " + value);
+        }
+    }
+
+    /**
+     * 読み込んだ1件（解析できなかった場合は error のみを持つ）
+     */
+    public record FeedRow(long line, ProductImportInput input, String error) {
+        static FeedRow of(ProductImportInput input) {
+            return new FeedRow(input.line, input, null);
+        }
+
+        static FeedRow error(long line, String error) {
+            return new FeedRow(line, null, error);
+        }
+    }
+}
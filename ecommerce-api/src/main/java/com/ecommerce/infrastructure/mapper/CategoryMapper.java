@@ -1,7 +1,9 @@
 package com.ecommerce.infrastructure.mapper;
 
 import com.ecommerce.application.dto.CategoryDTO;
+import com.ecommerce.application.dto.CategoryWithCountsDTO;
 import com.ecommerce.domain.model.Category;
+import com.ecommerce.domain.repository.CategoryProductCount;
 import org.springframework.stereotype.Component;
 
 /**
@@ -23,4 +25,16 @@ public class CategoryMapper {
         dto.setDescription(domain.getDescription());
         return dto;
     }
+
+    /**
+     * ドメインモデルと商品数を、商品数を含む DTO に変換
+     */
+    public CategoryWithCountsDTO toDTO(Category domain, CategoryProductCount count) {
+        if (domain == null) {
+            return null;
+        }
+
+        return new CategoryWithCountsDTO(domain.getId().getValue(), domain.getName(), domain.getDescription(),
+            count.getProductCount(), count.getInStockCount());
+    }
 }
@@ -1,13 +1,21 @@
 package com.ecommerce.infrastructure.mapper;
 
+import com.ecommerce.application.dto.BatchOrderResultDTO;
+import com.ecommerce.application.dto.CustomerOrderHistoryDTO;
 import com.ecommerce.application.dto.OrderDTO;
 import com.ecommerce.application.dto.OrderItemDTO;
+import com.ecommerce.application.dto.RecentOrderDTO;
+import com.ecommerce.application.service.OrderApplicationService;
 import com.ecommerce.domain.model.Order;
 import com.ecommerce.domain.model.OrderItem;
-import com.ecommerce.infrastructure.persistence.jpa.OrderJpaEntity;
+import com.ecommerce.infrastructure.persistence.jpa.CustomerOrderSummaryJpaEntity;
 import com.ecommerce.infrastructure.persistence.jpa.OrderItemJpaEntity;
+import com.ecommerce.infrastructure.persistence.jpa.OrderItemView;
+import com.ecommerce.infrastructure.persistence.jpa.OrderJpaEntity;
+import com.ecommerce.infrastructure.persistence.jpa.OrderView;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -49,6 +57,13 @@ public class OrderMapper {
         return dto;
     }
 
+    /**
+     * 一括注文の結果を DTO に変換
+     */
+    public BatchOrderResultDTO toDTO(OrderApplicationService.BatchOrderResult result) {
+        return new BatchOrderResultDTO(result.index, result.isSuccess(), toDTO(result.order), result.error);
+    }
+
     /**
      * JPA エンティティを DTO に変換（顧客名を含む）
      */
@@ -74,11 +89,52 @@ public class OrderMapper {
             itemDTO.setProductName(itemEntity.getProduct().getName());
             itemDTO.setQuantity(itemEntity.getQuantity());
             itemDTO.setPriceAtPurchase(itemEntity.getPriceAtPurchase());
-            itemDTO.setSubtotal(itemEntity.getPriceAtPurchase().multiply(java.math.BigDecimal.valueOf(itemEntity.getQuantity())));
+            itemDTO.setSubtotal(itemEntity.getPriceAtPurchase().multiply(BigDecimal.valueOf(itemEntity.getQuantity())));
+            itemDTOs.add(itemDTO);
+        }
+        dto.setItems(itemDTOs);
+
+        return dto;
+    }
+
+    /**
+     * 読み取り専用プロジェクションを DTO に変換
+     */
+    public OrderDTO toDTO(OrderView view, List<OrderItemView> items) {
+        OrderDTO dto = new OrderDTO();
+        dto.setId(view.getId());
+        dto.setCustomerId(view.getCustomerId());
+        dto.setCustomerName(view.getCustomerName());
+        dto.setStatus(view.getStatus().name());
+        dto.setTotalPrice(view.getTotalPrice());
+        dto.setCreatedAt(view.getCreatedAt());
+        dto.setUpdatedAt(view.getUpdatedAt());
+
+        List<OrderItemDTO> itemDTOs = new ArrayList<>();
+        for (OrderItemView item : items) {
+            OrderItemDTO itemDTO = new OrderItemDTO();
+            itemDTO.setId(item.getId());
+            itemDTO.setProductId(item.getProductId());
+            itemDTO.setProductName(item.getProductName());
+            itemDTO.setQuantity(item.getQuantity());
+            itemDTO.setPriceAtPurchase(item.getPriceAtPurchase());
+            itemDTO.setSubtotal(item.getPriceAtPurchase().multiply(BigDecimal.valueOf(item.getQuantity())));
             itemDTOs.add(itemDTO);
         }
         dto.setItems(itemDTOs);
 
         return dto;
     }
+
+    /**
+     * 顧客ごとの注文履歴の集計と直近の注文ヘッダーを DTO に変換
+     */
+    public CustomerOrderHistoryDTO toDTO(CustomerOrderSummaryJpaEntity summary, List<OrderView> recentOrders) {
+        List<RecentOrderDTO> recent = recentOrders.stream()
+            .map(view -> new RecentOrderDTO(view.getId(), view.getStatus().name(), view.getTotalPrice(),
+                view.getCreatedAt()))
+            .toList();
+        return new CustomerOrderHistoryDTO(summary.getCustomerId(), summary.getOrderCount(),
+            summary.getCancelledCount(), summary.getLifetimeSpend(), summary.getLastOrderedAt(), recent);
+    }
 }
@@ -1,10 +1,21 @@
 package com.ecommerce.infrastructure.mapper;
 
+import com.ecommerce.application.dto.CategoryFacetDTO;
+import com.ecommerce.application.dto.PriceRangeFacetDTO;
 import com.ecommerce.application.dto.ProductDTO;
+import com.ecommerce.application.dto.ProductFacetPageDTO;
+import com.ecommerce.application.dto.ProductFacetsDTO;
+import com.ecommerce.application.dto.ProductSearchHitDTO;
+import com.ecommerce.application.dto.ProductSearchResultDTO;
 import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.repository.ProductFacetResult;
+import com.ecommerce.domain.repository.ProductSearchResult;
 import com.ecommerce.infrastructure.persistence.jpa.ProductJpaEntity;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * ProductMapper - ドメインモデルと DTO の相互変換
  */
@@ -28,6 +39,40 @@ public class ProductMapper {
         return dto;
     }
 
+    /**
+     * 検索結果を DTO に変換
+     */
+    public ProductSearchResultDTO toDTO(ProductSearchResult result) {
+        List<ProductSearchHitDTO> items = result.getHits().stream()
+            .map(hit -> new ProductSearchHitDTO(
+                hit.getId().getValue(),
+                hit.getName(),
+                hit.getPrice().getAmount(),
+                hit.getCategoryId().getValue(),
+                hit.getScore()))
+            .toList();
+        return new ProductSearchResultDTO(result.getTotal(), items);
+    }
+
+    /**
+     * 絞り込み結果を DTO に変換（items は結果の ID 順に取得済みの商品）
+     */
+    public ProductFacetPageDTO toDTO(ProductFacetResult result, List<ProductDTO> items) {
+        List<CategoryFacetDTO> categories = result.getCategoryCounts().entrySet().stream()
+            .map(entry -> new CategoryFacetDTO(entry.getKey().getValue(), entry.getValue()))
+            .toList();
+        List<PriceRangeFacetDTO> priceRanges = result.getPriceRangeCounts().stream()
+            .map(range -> new PriceRangeFacetDTO(
+                range.getMin().getAmount(),
+                range.getMax() != null ? range.getMax().getAmount() : null,
+                range.getCount()))
+            .toList();
+        ProductFacetsDTO facets = new ProductFacetsDTO(new ArrayList<>(categories), new ArrayList<>(priceRanges),
+            result.getInStockCount(), result.getOutOfStockCount());
+        return new ProductFacetPageDTO(new ArrayList<>(items), result.hasNext(), result.getNextCursor(),
+            result.getTotal(), facets);
+    }
+
     /**
      * JPA エンティティを DTO に変換（カテゴリ名を含む）
      */
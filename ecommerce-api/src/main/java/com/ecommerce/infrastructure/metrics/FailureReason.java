@@ -0,0 +1,50 @@
+package com.ecommerce.infrastructure.metrics;
+
+/**
+ * FailureReason - ユースケースの失敗理由（メトリクスのタグ値）
+ * ドメイン層・アプリケーション層は IllegalArgumentException / IllegalStateException のメッセージで
+ * 失敗理由を表すため、ここでメッセージから分類する
+ */
+public enum FailureReason {
+    NOT_FOUND("not_found"),
+    INSUFFICIENT_STOCK("insufficient_stock"),
+    INVALID_TRANSITION("invalid_transition"),
+    DUPLICATE("duplicate"),
+    INVALID_INPUT("invalid_input"),
+    ERROR("error");
+
+    private final String tag;
+
+    FailureReason(String tag) {
+        this.tag = tag;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * 例外から失敗理由を判定（業務エラー以外は ERROR）
+     */
+    public static FailureReason of(Throwable error) {
+        if (!(error instanceof IllegalArgumentException) && !(error instanceof IllegalStateException)) {
+            return ERROR;
+        }
+
+        String message = error.getMessage() != null ? error.getMessage() : "";
+        if (message.contains("not found")) {
+            return NOT_FOUND;
+        }
+        if (message.startsWith("Insufficient stock")) {
+            return INSUFFICIENT_STOCK;
+        }
+        if (message.startsWith("Cannot transition") || message.startsWith("Cannot cancel")
+                || message.startsWith("Cannot add items")) {
+            return INVALID_TRANSITION;
+        }
+        if (message.contains("already exists") || message.contains("already in use")) {
+            return DUPLICATE;
+        }
+        return INVALID_INPUT;
+    }
+}
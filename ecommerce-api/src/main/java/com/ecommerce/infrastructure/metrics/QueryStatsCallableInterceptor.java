@@ -0,0 +1,38 @@
+package com.ecommerce.infrastructure.metrics;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+
+/**
+ * QueryStatsCallableInterceptor - リクエストの SQL の集計を MVC の非同期処理の実行スレッドへ引き継ぐ
+ * エクスポート（StreamingResponseBody）の SQL はリクエストを受けたスレッドではなく非同期処理のスレッドで発行されるため、
+ * 開始前に集計をリクエスト属性に置き、実行スレッドで同じ集計に加算する。
+ * 集計は完了後の再ディスパッチで QueryStatsInterceptor が記録する。
+ * レスポンスはすでに書き出しているため、X-SQL-* ヘッダーと fail-on-budget-exceeded の対象にはならない
+ */
+public class QueryStatsCallableInterceptor implements CallableProcessingInterceptor {
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            request.setAttribute(RequestQueryStats.REQUEST_ATTRIBUTE, stats, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        Object stats = request.getAttribute(RequestQueryStats.REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (stats instanceof RequestQueryStats requestStats) {
+            RequestQueryStats.resume(requestStats);
+        }
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        RequestQueryStats.clear();
+    }
+}
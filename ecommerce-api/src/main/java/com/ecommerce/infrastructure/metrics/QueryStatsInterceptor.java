@@ -0,0 +1,109 @@
+package com.ecommerce.infrastructure.metrics;
+
+import com.ecommerce.infrastructure.config.SqlMetricsProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QueryStatsInterceptor - コントローラーのリクエストごとに SQL の集計を開始・記録する
+ *
+ * - ecommerce.http.sql.statements / ecommerce.http.sql.rows: リクエストあたりの SQL 文の数・取得行数
+ * - ecommerce.http.sql.time: リクエストあたりの DB 時間
+ * - ecommerce.http.sql.budget.exceeded: SQL 文の数が上限を超えたリクエストの件数
+ * タグの controller は "OrderController.getOrderById" の形式
+ *
+ * 非同期処理のリクエストは、非同期処理の実行スレッドでの SQL も含めて、完了後の再ディスパッチで記録する
+ * （QueryStatsCallableInterceptor が集計を実行スレッドへ引き継ぐ）
+ */
+public class QueryStatsInterceptor implements AsyncHandlerInterceptor {
+    private static final Logger log = LoggerFactory.getLogger(QueryStatsInterceptor.class);
+
+    private final MeterRegistry registry;
+    private final SqlMetricsProperties properties;
+
+    public QueryStatsInterceptor(MeterRegistry registry, SqlMetricsProperties properties) {
+        this.registry = registry;
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+        // 非同期処理の完了後の再ディスパッチでは、開始時の集計を続ける
+        if (request.getDispatcherType() == DispatcherType.ASYNC
+                && request.getAttribute(RequestQueryStats.REQUEST_ATTRIBUTE) instanceof RequestQueryStats stats) {
+            RequestQueryStats.resume(stats);
+        } else {
+            RequestQueryStats.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        // 集計はリクエスト属性に移したため、リクエストを受けたスレッドからは外す
+        RequestQueryStats.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats == null || !(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        RequestQueryStats.clear();
+        request.removeAttribute(RequestQueryStats.REQUEST_ATTRIBUTE);
+
+        String controller = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        DistributionSummary.builder("ecommerce.http.sql.statements")
+            .description("SQL statements per request")
+            .tag("controller", controller)
+            .register(registry)
+            .record(stats.getStatements());
+        DistributionSummary.builder("ecommerce.http.sql.rows")
+            .description("Rows fetched per request")
+            .tag("controller", controller)
+            .register(registry)
+            .record(stats.getRows());
+        Timer.builder("ecommerce.http.sql.time")
+            .description("Database time per request")
+            .tag("controller", controller)
+            .register(registry)
+            .record(stats.getDbNanos(), TimeUnit.NANOSECONDS);
+
+        String endpoint = endpointOf(request);
+        Integer budget = properties.getBudgets().get(endpoint);
+        if (budget != null && stats.getStatements() > budget) {
+            log.warn("SQL budget exceeded for {}: {} statements (budget {})", endpoint, stats.getStatements(), budget);
+            Counter.builder("ecommerce.http.sql.budget.exceeded")
+                .description("Requests that exceeded their SQL statement budget")
+                .tag("controller", controller)
+                .register(registry)
+                .increment();
+        }
+    }
+
+    /**
+     * 上限設定のキーとなるエンドポイント名（"GET /api/orders/{id}" の形式）
+     */
+    static String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+}
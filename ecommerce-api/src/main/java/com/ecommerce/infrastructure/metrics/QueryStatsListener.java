@@ -0,0 +1,53 @@
+package com.ecommerce.infrastructure.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * QueryStatsListener - JDBC の実行を RequestQueryStats に加算する datasource-proxy のリスナー
+ * 文の数と実行時間は QueryExecutionListener、取得行数は ResultSet#next の呼び出しから数える
+ */
+public class QueryStatsListener implements QueryExecutionListener, MethodExecutionListener {
+    private static final String STARTED_AT = "queryStats.startedAt";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (RequestQueryStats.current() != null) {
+            execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        Long startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+        if (stats == null || startedAt == null) {
+            return;
+        }
+        // バッチ実行は1回のラウンドトリップでも文の数で数える
+        int count = execInfo.isBatch() ? Math.max(execInfo.getBatchSize(), 1) : queryInfoList.size();
+        stats.addStatements(count, System.nanoTime() - startedAt);
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && executionContext.getMethod().getName().equals("next")
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            RequestQueryStats stats = RequestQueryStats.current();
+            if (stats != null) {
+                stats.addRow();
+            }
+        }
+    }
+}
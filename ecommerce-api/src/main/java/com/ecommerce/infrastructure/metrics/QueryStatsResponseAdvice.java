@@ -0,0 +1,59 @@
+package com.ecommerce.infrastructure.metrics;
+
+import com.ecommerce.infrastructure.config.SqlMetricsProperties;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QueryStatsResponseAdvice - レスポンスの書き込み前に SQL の集計をヘッダーに付け、上限を検査する
+ * ヘッダー（X-SQL-Statements / X-SQL-Rows / X-SQL-Time-Ms）は debug プロファイルで有効にする
+ * fail-on-budget-exceeded が有効な場合は上限超過をエラーにし、テストで検出できるようにする
+ */
+@RestControllerAdvice
+public class QueryStatsResponseAdvice implements ResponseBodyAdvice<Object> {
+    private final SqlMetricsProperties properties;
+
+    public QueryStatsResponseAdvice(SqlMetricsProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return properties.isEnabled() && (properties.isResponseHeaders() || properties.isFailOnBudgetExceeded());
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats == null) {
+            return body;
+        }
+
+        if (properties.isFailOnBudgetExceeded() && request instanceof ServletServerHttpRequest servletRequest) {
+            String endpoint = QueryStatsInterceptor.endpointOf(servletRequest.getServletRequest());
+            Integer budget = properties.getBudgets().get(endpoint);
+            if (budget != null && stats.getStatements() > budget) {
+                throw new IllegalStateException(String.format(
+                    "SQL budget exceeded for %s: %d statements (budget %d)", endpoint, stats.getStatements(), budget));
+            }
+        }
+
+        if (properties.isResponseHeaders()) {
+            response.getHeaders().set("X-SQL-Statements", String.valueOf(stats.getStatements()));
+            response.getHeaders().set("X-SQL-Rows", String.valueOf(stats.getRows()));
+            response.getHeaders().set("X-SQL-Time-Ms",
+                String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.getDbNanos())));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,73 @@
+package com.ecommerce.infrastructure.metrics;
+
+/**
+ * RequestQueryStats - 1リクエスト中に発行された SQL の集計
+ * リクエストを処理するスレッドに紐づけて保持し、JDBC のリスナーから加算する
+ * 非同期処理（エクスポートの StreamingResponseBody）ではリクエスト属性に置いて実行スレッドへ引き継ぐ
+ */
+public final class RequestQueryStats {
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    /**
+     * 非同期処理へ引き継ぐ集計を置くリクエスト属性の名前
+     */
+    static final String REQUEST_ATTRIBUTE = RequestQueryStats.class.getName();
+
+    private int statements;
+    private long rows;
+    private long dbNanos;
+
+    private RequestQueryStats() {
+    }
+
+    /**
+     * 現在のスレッドで集計を開始
+     */
+    public static RequestQueryStats start() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * 現在のスレッドの集計（集計中でなければ null）
+     */
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 別のスレッドで開始した集計を現在のスレッドで続ける
+     */
+    static void resume(RequestQueryStats stats) {
+        CURRENT.set(stats);
+    }
+
+    /**
+     * 現在のスレッドの集計を終了
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    void addStatements(int count, long elapsedNanos) {
+        statements += count;
+        dbNanos += elapsedNanos;
+    }
+
+    void addRow() {
+        rows++;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getDbNanos() {
+        return dbNanos;
+    }
+}
@@ -0,0 +1,125 @@
+package com.ecommerce.infrastructure.metrics;
+
+import com.ecommerce.application.service.OrderApplicationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * UseCaseMetricsAspect - アプリケーションサービスとリポジトリ実装の計測
+ *
+ * アプリケーション層に計測コードを持ち込まないよう、AOP で外側から計測する。
+ * - ecommerce.usecase: ユースケースごとの処理時間（service, usecase, outcome, reason）
+ * - ecommerce.usecase.failures: 業務エラーの件数（service, usecase, reason）
+ * - ecommerce.repository: JPA リポジトリ実装の処理時間（repository, method, outcome）
+ * - ecommerce.order.basket.lines / ecommerce.order.basket.quantity: 注文作成時の明細数・数量の分布
+ * ユースケース全体の時間と在庫確保・保存などのリポジトリ呼び出しの時間を比べられるようにする。
+ */
+@Aspect
+@Component
+@Order(0)  // トランザクションの外側で計測し、コミットの時間も含める
+public class UseCaseMetricsAspect {
+    private static final double[] BASKET_BUCKETS = {1, 2, 3, 5, 10, 20, 50, 100};
+
+    private final MeterRegistry registry;
+    private final DistributionSummary basketLines;
+    private final DistributionSummary basketQuantity;
+
+    public UseCaseMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+        this.basketLines = DistributionSummary.builder("ecommerce.order.basket.lines")
+            .description("Number of lines per order request")
+            .serviceLevelObjectives(BASKET_BUCKETS)
+            .register(registry);
+        this.basketQuantity = DistributionSummary.builder("ecommerce.order.basket.quantity")
+            .description("Total quantity per order request")
+            .serviceLevelObjectives(BASKET_BUCKETS)
+            .register(registry);
+    }
+
+    @Around("execution(public * com.ecommerce.application.service.*ApplicationService.*(..))")
+    public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String useCase = joinPoint.getSignature().getName();
+        if (joinPoint.getTarget() instanceof OrderApplicationService && useCase.equals("createOrder")) {
+            recordBasket(joinPoint.getArgs()[1]);
+        }
+
+        Timer.Sample sample = Timer.start(registry);
+        try {
+            Object result = joinPoint.proceed();
+            sample.stop(useCaseTimer(service, useCase, "success", "none"));
+            return result;
+        } catch (Throwable e) {
+            FailureReason reason = FailureReason.of(e);
+            sample.stop(useCaseTimer(service, useCase, "failure", reason.getTag()));
+            Counter.builder("ecommerce.usecase.failures")
+                .description("Business failures per use case")
+                .tag("service", service)
+                .tag("usecase", useCase)
+                .tag("reason", reason.getTag())
+                .register(registry)
+                .increment();
+            throw e;
+        }
+    }
+
+    @Around("execution(public * com.ecommerce.infrastructure.persistence.*RepositoryImpl.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        // デコレーターが無効な場合は同じ実装が優先 Bean としても登録され二重にプロキシされるため、内側だけで計測する
+        if (AopUtils.isAopProxy(joinPoint.getTarget())) {
+            return joinPoint.proceed();
+        }
+
+        String repository = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "failure";
+        try {
+            Object result = joinPoint.proceed();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(Timer.builder("ecommerce.repository")
+                .description("Repository call latency")
+                .tag("repository", repository)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(registry));
+        }
+    }
+
+    private Timer useCaseTimer(String service, String useCase, String outcome, String reason) {
+        return Timer.builder("ecommerce.usecase")
+            .description("Application service use case latency")
+            .tag("service", service)
+            .tag("usecase", useCase)
+            .tag("outcome", outcome)
+            .tag("reason", reason)
+            .register(registry);
+    }
+
+    private void recordBasket(Object items) {
+        if (!(items instanceof List<?> lines)) {
+            return;
+        }
+        int quantity = 0;
+        for (Object line : lines) {
+            if (line instanceof OrderApplicationService.OrderItemInput input && input.quantity != null) {
+                quantity += input.quantity;
+            }
+        }
+        basketLines.record(lines.size());
+        basketQuantity.record(quantity);
+    }
+}
@@ -0,0 +1,80 @@
+package com.ecommerce.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * FileOutboxEventSink - イベントをローカルファイルに NDJSON（1行1イベント）で追記する配信先
+ * バッチごとにまとめて書き込み、ディスクへの書き出し（force）まで終えてから戻る
+ */
+public class FileOutboxEventSink implements OutboxEventSink, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(FileOutboxEventSink.class);
+    private static final char NEWLINE = '\n';
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private final FileChannel channel;
+
+    public FileOutboxEventSink(Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open outbox event file " + path, e);
+        }
+        log.info("Outbox events are appended to {}", path.toAbsolutePath());
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> events) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(events.size() * 256);
+        try {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(buffer)) {
+                // 行の区切りは改行だけにする（既定ではイベントの間に空白が入る）
+                generator.setRootValueSeparator(null);
+                for (OutboxEvent event : events) {
+                    generator.writeStartObject();
+                    generator.writeNumberField("id", event.getId());
+                    generator.writeStringField("aggregateType", event.getAggregateType());
+                    generator.writeNumberField("aggregateId", event.getAggregateId());
+                    generator.writeStringField("eventType", event.getEventType());
+                    generator.writeStringField("occurredAt", event.getOccurredAt().toString());
+                    generator.writeFieldName("payload");
+                    generator.writeRawValue(event.getPayload());
+                    generator.writeEndObject();
+                    generator.writeRaw(NEWLINE);
+                }
+            }
+            ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write outbox events to " + path, e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+}
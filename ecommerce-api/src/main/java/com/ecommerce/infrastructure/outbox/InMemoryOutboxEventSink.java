@@ -0,0 +1,50 @@
+package com.ecommerce.infrastructure.outbox;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * InMemoryOutboxEventSink - 配信したイベントを直近の一定件数だけメモリに保持する配信先（テスト・負荷試験用）
+ */
+public class InMemoryOutboxEventSink implements OutboxEventSink {
+    private final int capacity;
+    private final Deque<OutboxEvent> events = new ArrayDeque<>();
+    private long publishedCount;
+
+    public InMemoryOutboxEventSink(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> batch) {
+        for (OutboxEvent event : batch) {
+            if (events.size() == capacity) {
+                events.removeFirst();
+            }
+            events.addLast(event);
+        }
+        publishedCount += batch.size();
+    }
+
+    /**
+     * 保持している直近のイベント（配信順）
+     */
+    public synchronized List<OutboxEvent> getEvents() {
+        return List.copyOf(events);
+    }
+
+    /**
+     * これまでに配信されたイベントの件数（保持件数の上限で捨てたものを含む）
+     */
+    public synchronized long getPublishedCount() {
+        return publishedCount;
+    }
+
+    public synchronized void clear() {
+        events.clear();
+    }
+}
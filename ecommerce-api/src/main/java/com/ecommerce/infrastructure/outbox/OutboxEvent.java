@@ -0,0 +1,53 @@
+package com.ecommerce.infrastructure.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * OutboxEvent - 送信待ちテーブル（outbox_events）の1行
+ * 集約の種類と ID を付けたドメインイベント（payload は JSON）
+ */
+public final class OutboxEvent {
+    private final long id;
+    private final String aggregateType;
+    private final long aggregateId;
+    private final String eventType;
+    private final String payload;
+    private final LocalDateTime occurredAt;
+
+    public OutboxEvent(long id, String aggregateType, long aggregateId, String eventType, String payload,
+                       LocalDateTime occurredAt) {
+        this.id = id;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+    }
+
+    /**
+     * 送信待ちテーブルの ID（同じ集約のイベントではコミット順、配信先での重複排除に使う）
+     */
+    public long getId() {
+        return id;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    public long getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
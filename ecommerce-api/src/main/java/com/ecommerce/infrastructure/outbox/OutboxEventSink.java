@@ -0,0 +1,17 @@
+package com.ecommerce.infrastructure.outbox;
+
+import java.util.List;
+
+/**
+ * OutboxEventSink - 送信待ちのイベントの配信先
+ *
+ * OutboxRelay は ID 順のイベントをまとめて渡し、publish が正常に戻った分だけを送信待ちから削除する。
+ * 例外の場合は同じイベントを次の配信で先頭から渡し直すため、途中まで配信済みだったイベントは重複する
+ * （少なくとも1回の配信）。配信先は OutboxEvent#getId で重複を排除する前提とする。
+ */
+public interface OutboxEventSink {
+    /**
+     * イベントを渡された順に配信する（配信を確定できなかった場合は例外）
+     */
+    void publish(List<OutboxEvent> events);
+}
@@ -0,0 +1,159 @@
+package com.ecommerce.infrastructure.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * OutboxRelay - 送信待ちテーブル（outbox_events）のイベントを配信先へまとめて送る
+ *
+ * 一定間隔で送信待ちを ID 順に最大 batchSize 件ずつ行ロック付きで読み、配信先に渡してから削除する。
+ * 読み込み・配信・削除は1つのトランザクションで行い、配信に失敗した場合は削除せずに次の確認で先頭から送り直す
+ * （少なくとも1回の配信）。同じ集約のイベントは ID の順がコミットの順のため、ID 順の配信で集約ごとの順序が保たれる。
+ * 複数のインスタンスが配信しても、先に読んだ側が終わるまで後の側は同じ行で待つため順序は崩れない。
+ * READ COMMITTED で読むため、行ロックは読んだ行だけにかかり、イベントの書き込みは待たせない。
+ */
+public class OutboxRelay implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final String SELECT = "SELECT id, aggregate_type, aggregate_id, event_type, payload, occurred_at "
+        + "FROM outbox_events ORDER BY id LIMIT ? FOR UPDATE";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxEventSink sink;
+    private final int batchSize;
+    private final ScheduledExecutorService scheduler;
+    private final LongAdder publishedCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private volatile long lagMillis;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                       OutboxEventSink sink, int batchSize, Duration pollInterval) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        if (pollInterval.isNegative()) {
+            throw new IllegalArgumentException("Poll interval must not be negative");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = pollInterval.toMillis();
+        if (millis == 0) {
+            return;
+        }
+        this.scheduler.scheduleWithFixedDelay(this::poll, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 送信待ちがなくなるまでバッチ単位で配信し、配信した件数を返す（配信に失敗した場合は例外）
+     */
+    public long drain() {
+        long relayed = 0;
+        int count;
+        do {
+            count = relayBatch();
+            relayed += count;
+        } while (count == batchSize);
+        return relayed;
+    }
+
+    /**
+     * ID 順に最大 batchSize 件を1つのトランザクションで配信して削除し、配信した件数を返す
+     */
+    public int relayBatch() {
+        Integer count = transactionTemplate.execute(status -> {
+            List<OutboxEvent> batch = jdbcTemplate.query(SELECT, OutboxRelay::toEvent, batchSize);
+            if (batch.isEmpty()) {
+                lagMillis = 0;
+                return 0;
+            }
+            // 配信に失敗し続けている間も遅れが増えていくよう、配信の前に更新する
+            lagMillis = Math.max(0, Duration.between(batch.get(0).getOccurredAt(), LocalDateTime.now()).toMillis());
+
+            sink.publish(batch);
+
+            Object[] ids = batch.stream().map(OutboxEvent::getId).toArray();
+            jdbcTemplate.update("DELETE FROM outbox_events WHERE id IN ("
+                + String.join(", ", Collections.nCopies(ids.length, "?")) + ")", ids);
+            return batch.size();
+        });
+        publishedCount.add(count);
+        return count;
+    }
+
+    /**
+     * 直近の確認時点で最も古い送信待ちのイベントの経過時間（ミリ秒、送信待ちがなければ 0）
+     */
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    /**
+     * 配信したイベントの件数（送り直した分を含む）
+     */
+    public long getPublishedCount() {
+        return publishedCount.sum();
+    }
+
+    /**
+     * 配信に失敗した確認の回数
+     */
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    @Override
+    public void close() {
+        // 配信中のバッチは終わらせる（中断しても削除前のため次回の起動時に送り直される）
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void poll() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            // 削除していないため、次の確認で同じイベントから送り直す
+            failureCount.increment();
+            log.warn("Failed to relay outbox events", e);
+        }
+    }
+
+    private static OutboxEvent toEvent(ResultSet rs, int rowNum) throws SQLException {
+        return new OutboxEvent(
+            rs.getLong("id"),
+            rs.getString("aggregate_type"),
+            rs.getLong("aggregate_id"),
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getTimestamp("occurred_at").toLocalDateTime()
+        );
+    }
+}
@@ -0,0 +1,115 @@
+package com.ecommerce.infrastructure.outbox;
+
+import com.ecommerce.domain.event.DomainEvent;
+import com.ecommerce.domain.event.OrderCancelledEvent;
+import com.ecommerce.domain.event.OrderCreatedEvent;
+import com.ecommerce.domain.event.OrderStatusChangedEvent;
+import com.ecommerce.domain.event.StockDecreasedEvent;
+import com.ecommerce.domain.event.StockIncreasedEvent;
+import com.ecommerce.domain.model.OrderItem;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OutboxWriter - ドメインイベントを送信待ちテーブル（outbox_events）に書き込む
+ *
+ * リポジトリ実装が集約の保存と同じトランザクションで呼び出す（トランザクション外の呼び出しはエラー）。
+ * 書き込む前に永続化コンテキストをフラッシュし、集約の行ロックを取ってから ID（AUTO_INCREMENT）を採番させるため、
+ * 同じ集約のイベントは ID の順がコミットの順になる。
+ * 1回の呼び出し分は JDBC バッチの1回の INSERT で送る。
+ */
+@Component
+public class OutboxWriter {
+    public static final String ORDER = "Order";
+    public static final String PRODUCT = "Product";
+
+    private static final String INSERT = "INSERT INTO outbox_events "
+        + "(aggregate_type, aggregate_id, event_type, payload, occurred_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public OutboxWriter(JdbcTemplate jdbcTemplate, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 1つの集約のイベントを発生順に書き込む
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String aggregateType, Long aggregateId, List<DomainEvent> events) {
+        appendAll(aggregateType, Map.of(aggregateId, events));
+    }
+
+    /**
+     * 複数の集約のイベントを、集約ごとに発生順でまとめて書き込む
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(String aggregateType, Map<Long, List<DomainEvent>> eventsByAggregate) {
+        List<Object[]> rows = new ArrayList<>();
+        eventsByAggregate.forEach((aggregateId, events) -> {
+            for (DomainEvent event : events) {
+                rows.add(new Object[] {aggregateType, aggregateId, event.getEventType(), toPayload(event),
+                    event.getOccurredAt()});
+            }
+        });
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        entityManager.flush();
+        jdbcTemplate.batchUpdate(INSERT, rows);
+    }
+
+    /**
+     * イベントの内容を JSON にする（集約の ID と発生日時は列に持つため含めない）
+     */
+    private String toPayload(DomainEvent event) {
+        ObjectNode payload = objectMapper.createObjectNode();
+        if (event instanceof OrderCreatedEvent created) {
+            payload.put("customerId", created.getCustomerId().getValue());
+            payload.put("totalPrice", created.getTotalPrice().getAmount());
+            ArrayNode items = payload.putArray("items");
+            for (OrderItem item : created.getItems()) {
+                items.addObject()
+                    .put("productId", item.getProductId().getValue())
+                    .put("quantity", item.getQuantity())
+                    .put("priceAtPurchase", item.getPriceAtPurchase().getAmount());
+            }
+        } else if (event instanceof OrderStatusChangedEvent changed) {
+            payload.put("customerId", changed.getCustomerId().getValue());
+            payload.put("previousStatus", changed.getPreviousStatus().name());
+            payload.put("status", changed.getStatus().name());
+        } else if (event instanceof OrderCancelledEvent cancelled) {
+            payload.put("customerId", cancelled.getCustomerId().getValue());
+            payload.put("previousStatus", cancelled.getPreviousStatus().name());
+        } else if (event instanceof StockDecreasedEvent decreased) {
+            payload.put("quantity", decreased.getQuantity());
+        } else if (event instanceof StockIncreasedEvent increased) {
+            payload.put("quantity", increased.getQuantity());
+        } else {
+            throw new IllegalArgumentException("Unsupported domain event: " + event.getEventType());
+        }
+
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.ecommerce.infrastructure.persistence;
+
+import com.ecommerce.domain.model.Category;
+import com.ecommerce.domain.model.CategoryId;
+import com.ecommerce.domain.repository.CategoryRepository;
+import com.ecommerce.domain.repository.PageQuery;
+import com.ecommerce.domain.repository.PageResult;
+import com.ecommerce.infrastructure.config.CatalogCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * CachingCategoryRepository - カテゴリの ID 検索をプロセス内でキャッシュするデコレーター
+ *
+ * 保存・削除時は該当エントリを無効化する。
+ * 他ノードでの更新は有効期間（TTL）が切れるまで反映されない。
+ * 存在しない ID の結果はキャッシュしない。
+ */
+public class CachingCategoryRepository implements CategoryRepository {
+    private final CategoryRepository delegate;
+    private final Cache<CategoryId, Category> categories;
+
+    public CachingCategoryRepository(CategoryRepository delegate, CatalogCacheProperties.Spec spec) {
+        this.delegate = delegate;
+        this.categories = Caffeine.newBuilder()
+            .maximumSize(spec.getMaximumSize())
+            .expireAfterWrite(spec.getTtl())
+            .recordStats()
+            .build();
+    }
+
+    @Override
+    public Optional<Category> findById(CategoryId id) {
+        Category cached = categories.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<Category> loaded = delegate.findById(id);
+        loaded.ifPresent(category -> categories.put(id, category));
+        return loaded;
+    }
+
+    @Override
+    public Optional<Category> findByName(String name) {
+        // 名前の重複チェックに使われるため常に DB を参照する
+        return delegate.findByName(name);
+    }
+
+    @Override
+    public List<Category> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public PageResult<Category> findPage(PageQuery query) {
+        return delegate.findPage(query);
+    }
+
+    @Override
+    public void save(Category category) {
+        delegate.save(category);
+        if (category.getId() != null) {
+            categories.invalidate(category.getId());
+        }
+    }
+
+    @Override
+    public void delete(CategoryId id) {
+        delegate.delete(id);
+        categories.invalidate(id);
+    }
+
+    @Override
+    public boolean exists(CategoryId id) {
+        return findById(id).isPresent();
+    }
+
+    @Override
+    public Set<CategoryId> findExistingIds(Collection<CategoryId> ids) {
+        // キャッシュ済みのカテゴリは存在するものとし、残りだけを委譲先で確認する
+        Set<CategoryId> existing = new HashSet<>();
+        Set<CategoryId> missing = new HashSet<>();
+        for (CategoryId id : ids) {
+            if (categories.getIfPresent(id) != null) {
+                existing.add(id);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            existing.addAll(delegate.findExistingIds(missing));
+        }
+        return existing;
+    }
+
+    /**
+     * メトリクス登録用にキャッシュを名前付きで返す
+     */
+    public Map<String, Cache<?, ?>> caches() {
+        return Map.of("categories", categories);
+    }
+}
@@ -0,0 +1,355 @@
+package com.ecommerce.infrastructure.persistence;
+
+import com.ecommerce.domain.model.CategoryId;
+import com.ecommerce.domain.model.Money;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductId;
+import com.ecommerce.domain.repository.PageQuery;
+import com.ecommerce.domain.repository.PageResult;
+import com.ecommerce.domain.repository.ProductRepository;
+import com.ecommerce.infrastructure.config.CatalogCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * CachingProductRepository - 商品の ID 検索とカテゴリ別検索をプロセス内でキャッシュするデコレーター
+ *
+ * 商品情報（名前・価格など）と在庫は別のキャッシュに保持し、
+ * 在庫は短い有効期間で DB（または在庫予約台帳）から読み直す。
+ * 在庫の確保・解放は常に委譲先で原子的に行われるため、キャッシュ上の在庫は表示と事前チェックにのみ使われる。
+ * 保存・削除・在庫変更時は該当エントリを無効化する。他ノードでの更新は有効期間が切れるまで反映されない。
+ * トランザクション内の変更による無効化はコミット後に行い（ロールバック時は行わない）、
+ * コミット前に他のスレッドが古い行でキャッシュを埋め直さないようにする。
+ * それまでの間、変更したトランザクション自身は変更した商品・カテゴリについてキャッシュを使わずに委譲先を参照する。
+ * Product は可変のため、キャッシュには不変のスナップショットを保持し、ヒットのたびに新しいインスタンスを組み立てて返す。
+ */
+public class CachingProductRepository implements ProductRepository {
+    private final ProductRepository delegate;
+    private final Cache<ProductId, ProductSnapshot> products;
+    private final Cache<ProductId, Integer> stocks;
+    private final Cache<CategoryId, List<ProductId>> categoryProducts;
+
+    public CachingProductRepository(ProductRepository delegate, CatalogCacheProperties.Products spec) {
+        this.delegate = delegate;
+        this.products = Caffeine.newBuilder()
+            .maximumSize(spec.getMaximumSize())
+            .expireAfterWrite(spec.getTtl())
+            .recordStats()
+            .build();
+        this.stocks = Caffeine.newBuilder()
+            .maximumSize(spec.getMaximumSize())
+            .expireAfterWrite(spec.getStockTtl())
+            .recordStats()
+            .build();
+        this.categoryProducts = Caffeine.newBuilder()
+            .maximumSize(spec.getMaximumSize())
+            .expireAfterWrite(spec.getTtl())
+            .recordStats()
+            .build();
+    }
+
+    @Override
+    public Optional<Product> findById(ProductId id) {
+        PendingInvalidation pending = currentInvalidation();
+        if (bypasses(pending, id)) {
+            return delegate.findById(id);
+        }
+        Product cached = fromCache(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<Product> loaded = delegate.findById(id);
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+
+    @Override
+    public Map<ProductId, Product> findAllByIds(Collection<ProductId> ids) {
+        PendingInvalidation pending = currentInvalidation();
+        Map<ProductId, Product> result = new HashMap<>();
+        Set<ProductId> missing = new LinkedHashSet<>();
+        for (ProductId id : ids) {
+            Product cached = bypasses(pending, id) ? null : fromCache(id);
+            if (cached != null) {
+                result.put(id, cached);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        // キャッシュにない商品だけを1回の問い合わせで取得
+        if (!missing.isEmpty()) {
+            delegate.findAllByIds(missing).forEach((id, product) -> {
+                if (!bypasses(pending, id)) {
+                    put(product);
+                }
+                result.put(id, product);
+            });
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<Product> findByName(String name) {
+        // 名前の重複チェックに使われるため常に委譲先を参照する
+        return delegate.findByName(name);
+    }
+
+    @Override
+    public Map<String, Product> findAllByNames(Collection<String> names) {
+        // 名前の重複チェックに使われるため常に委譲先を参照する
+        return delegate.findAllByNames(names);
+    }
+
+    @Override
+    public List<Product> findByCategoryId(CategoryId categoryId) {
+        PendingInvalidation pending = currentInvalidation();
+        if (pending != null && pending.covers(categoryId)) {
+            return delegate.findByCategoryId(categoryId);
+        }
+        List<ProductId> ids = categoryProducts.getIfPresent(categoryId);
+        if (ids == null) {
+            List<Product> loaded = delegate.findByCategoryId(categoryId);
+            loaded.stream().filter(product -> !bypasses(pending, product.getId())).forEach(this::put);
+            categoryProducts.put(categoryId, loaded.stream().map(Product::getId).toList());
+            return loaded;
+        }
+
+        // 商品 ID の並びはキャッシュから、各商品の内容と在庫は個別のエントリから組み立てる
+        Map<ProductId, Product> found = findAllByIds(ids);
+        List<Product> result = new ArrayList<>(ids.size());
+        for (ProductId id : ids) {
+            Product product = found.get(id);
+            if (product != null) {
+                result.add(product);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public PageResult<Product> findPage(PageQuery query) {
+        return delegate.findPage(query);
+    }
+
+    @Override
+    public void save(Product product) {
+        delegate.save(product);
+        invalidation().product(product.getId()).category(product.getCategoryId()).applyUnlessTransactional();
+    }
+
+    @Override
+    public void saveAll(Collection<Product> products) {
+        delegate.saveAll(products);
+        PendingInvalidation invalidation = invalidation();
+        products.forEach(product -> invalidation.product(product.getId()).category(product.getCategoryId()));
+        invalidation.applyUnlessTransactional();
+    }
+
+    @Override
+    public boolean tryDecreaseStock(ProductId id, int quantity) {
+        try {
+            return delegate.tryDecreaseStock(id, quantity);
+        } finally {
+            invalidation().product(id).applyUnlessTransactional();
+        }
+    }
+
+    @Override
+    public void increaseStock(ProductId id, int quantity) {
+        try {
+            delegate.increaseStock(id, quantity);
+        } finally {
+            invalidation().product(id).applyUnlessTransactional();
+        }
+    }
+
+    @Override
+    public void delete(ProductId id) {
+        ProductSnapshot cached = products.getIfPresent(id);
+        delegate.delete(id);
+        PendingInvalidation invalidation = invalidation().product(id);
+        if (cached != null) {
+            invalidation.category(cached.categoryId());
+        } else {
+            // 所属カテゴリが分からないためカテゴリ別の一覧はすべて破棄する
+            invalidation.allCategories();
+        }
+        invalidation.applyUnlessTransactional();
+    }
+
+    @Override
+    public boolean exists(ProductId id) {
+        // 他のトランザクションで削除された商品を存在すると答えないよう、キャッシュではなく委譲先で確認する
+        return delegate.exists(id);
+    }
+
+    /**
+     * メトリクス登録用にキャッシュを名前付きで返す
+     */
+    public Map<String, Cache<?, ?>> caches() {
+        return Map.of(
+            "products", products,
+            "product-stocks", stocks,
+            "category-products", categoryProducts
+        );
+    }
+
+    /**
+     * 商品情報と在庫の両方がキャッシュにある場合のみ新しいインスタンスを組み立てて返す（どちらかが欠けていれば null）
+     */
+    private Product fromCache(ProductId id) {
+        ProductSnapshot snapshot = products.getIfPresent(id);
+        if (snapshot == null) {
+            return null;
+        }
+        Integer stock = stocks.getIfPresent(id);
+        if (stock == null) {
+            return null;
+        }
+        return snapshot.toProduct(stock);
+    }
+
+    private void put(Product product) {
+        products.put(product.getId(), ProductSnapshot.of(product));
+        stocks.put(product.getId(), product.getStock());
+    }
+
+    /**
+     * 現在のトランザクションに登録済みの無効化を返す（トランザクション外、または未登録の場合は null）
+     */
+    private PendingInvalidation currentInvalidation() {
+        return TransactionSynchronizationManager.isSynchronizationActive()
+            ? (PendingInvalidation) TransactionSynchronizationManager.getResource(this)
+            : null;
+    }
+
+    /**
+     * 現在のトランザクションで変更済みの商品か（キャッシュを使わず、読んだ内容もキャッシュに入れない）
+     */
+    private static boolean bypasses(PendingInvalidation pending, ProductId id) {
+        return pending != null && pending.covers(id);
+    }
+
+    /**
+     * 無効化の対象を集める。トランザクション内ではトランザクションに結び付け、コミット後にまとめて適用する
+     */
+    private PendingInvalidation invalidation() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new PendingInvalidation(false);
+        }
+        PendingInvalidation pending = currentInvalidation();
+        if (pending == null) {
+            pending = new PendingInvalidation(true);
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    /**
+     * 商品・カテゴリのキャッシュの無効化の対象
+     * トランザクション内ではコミット後に適用し、ロールバック時は何もしない
+     */
+    private final class PendingInvalidation implements TransactionSynchronization {
+        private final boolean transactional;
+        private final Set<ProductId> productIds = new LinkedHashSet<>();
+        private final Set<CategoryId> categoryIds = new LinkedHashSet<>();
+        private boolean allCategories;
+
+        private PendingInvalidation(boolean transactional) {
+            this.transactional = transactional;
+        }
+
+        PendingInvalidation product(ProductId id) {
+            if (id != null) {
+                productIds.add(id);
+            }
+            return this;
+        }
+
+        PendingInvalidation category(CategoryId id) {
+            if (id != null) {
+                categoryIds.add(id);
+            }
+            return this;
+        }
+
+        void allCategories() {
+            allCategories = true;
+        }
+
+        boolean covers(ProductId id) {
+            return productIds.contains(id);
+        }
+
+        boolean covers(CategoryId id) {
+            return allCategories || categoryIds.contains(id);
+        }
+
+        void applyUnlessTransactional() {
+            if (!transactional) {
+                apply();
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+            apply();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(CachingProductRepository.this);
+        }
+
+        private void apply() {
+            products.invalidateAll(productIds);
+            stocks.invalidateAll(productIds);
+            if (allCategories) {
+                categoryProducts.invalidateAll();
+            } else {
+                categoryProducts.invalidateAll(categoryIds);
+            }
+        }
+    }
+
+    /**
+     * キャッシュに保持する商品情報（在庫を除く）の不変スナップショット
+     */
+    private record ProductSnapshot(Long id, String name, String description, Money price,
+                                   CategoryId categoryId, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        static ProductSnapshot of(Product product) {
+            return new ProductSnapshot(
+                product.getId().getValue(),
+                product.getName(),
+                product.getDescription(),
+                product.getPrice(),
+                product.getCategoryId(),
+                product.getCreatedAt(),
+                product.getUpdatedAt()
+            );
+        }
+
+        Product toProduct(int stock) {
+            return Product.restore(id, name, description, price, stock, categoryId, createdAt, updatedAt);
+        }
+    }
+}
@@ -3,12 +3,19 @@ package com.ecommerce.infrastructure.persistence;
 import com.ecommerce.domain.model.Category;
 import com.ecommerce.domain.model.CategoryId;
 import com.ecommerce.domain.repository.CategoryRepository;
+import com.ecommerce.domain.repository.PageQuery;
+import com.ecommerce.domain.repository.PageResult;
 import com.ecommerce.infrastructure.persistence.jpa.CategoryJpaEntity;
 import com.ecommerce.infrastructure.persistence.jpa.CategoryJpaRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * CategoryRepositoryImpl - ドメイン層のリポジトリインターフェースの実装
@@ -41,6 +48,15 @@ public class CategoryRepositoryImpl implements CategoryRepository {
             .toList();
     }
 
+    @Override
+    public PageResult<Category> findPage(PageQuery query) {
+        Pageable pageable = PageQueries.toPageable(query);
+        Slice<CategoryJpaEntity> slice = query.isKeyset()
+            ? jpaRepository.findByIdGreaterThan(query.getAfterId(), pageable)
+            : jpaRepository.findAllBy(pageable);
+        return PageQueries.toResult(slice, this::toDomain, CategoryJpaEntity::getId);
+    }
+
     @Override
     public void save(Category category) {
         CategoryJpaEntity entity = toJpa(category);
@@ -57,6 +73,22 @@ public class CategoryRepositoryImpl implements CategoryRepository {
         return jpaRepository.existsById(id.getValue());
     }
 
+    @Override
+    public Set<CategoryId> findExistingIds(Collection<CategoryId> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+
+        // IN 句による1回の問い合わせで ID のみ取得
+        List<Long> rawIds = ids.stream()
+            .map(CategoryId::getValue)
+            .distinct()
+            .toList();
+        return jpaRepository.findExistingIds(rawIds).stream()
+            .map(CategoryId::new)
+            .collect(Collectors.toSet());
+    }
+
     /**
      * JPA エンティティからドメインモデルへの変換
      */
@@ -3,12 +3,19 @@ package com.ecommerce.infrastructure.persistence;
 import com.ecommerce.domain.model.Customer;
 import com.ecommerce.domain.model.CustomerId;
 import com.ecommerce.domain.repository.CustomerRepository;
+import com.ecommerce.domain.repository.PageQuery;
+import com.ecommerce.domain.repository.PageResult;
 import com.ecommerce.infrastructure.persistence.jpa.CustomerJpaEntity;
 import com.ecommerce.infrastructure.persistence.jpa.CustomerJpaRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * CustomerRepositoryImpl - ドメイン層のリポジトリインターフェースの実装
@@ -46,6 +53,15 @@ public class CustomerRepositoryImpl implements CustomerRepository {
             .toList();
     }
 
+    @Override
+    public PageResult<Customer> findPage(PageQuery query) {
+        Pageable pageable = PageQueries.toPageable(query);
+        Slice<CustomerJpaEntity> slice = query.isKeyset()
+            ? jpaRepository.findByIdGreaterThan(query.getAfterId(), pageable)
+            : jpaRepository.findAllBy(pageable);
+        return PageQueries.toResult(slice, this::toDomain, CustomerJpaEntity::getId);
+    }
+
     @Override
     public void save(Customer customer) {
         CustomerJpaEntity entity = toJpa(customer);
@@ -62,6 +78,22 @@ public class CustomerRepositoryImpl implements CustomerRepository {
         return jpaRepository.existsById(id.getValue());
     }
 
+    @Override
+    public Set<CustomerId> findExistingIds(Collection<CustomerId> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+
+        // IN 句による1回の問い合わせで ID のみ取得
+        List<Long> rawIds = ids.stream()
+            .map(CustomerId::getValue)
+            .distinct()
+            .toList();
+        return jpaRepository.findExistingIds(rawIds).stream()
+            .map(CustomerId::new)
+            .collect(Collectors.toSet());
+    }
+
     /**
      * JPA エンティティからドメインモデルへの変換
      */
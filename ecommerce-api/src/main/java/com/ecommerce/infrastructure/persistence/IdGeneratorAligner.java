@@ -0,0 +1,87 @@
+package com.ecommerce.infrastructure.persistence;
+
+import com.ecommerce.infrastructure.config.IdGeneratorProperties;
+import com.ecommerce.infrastructure.persistence.jpa.IdGenerators;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * IdGeneratorAligner - 採番テーブルを既存データに合わせる
+ *
+ * IDENTITY 採番で作られた既存行や、JDBC で直接投入された行の ID と重複しないよう、
+ * 起動時（Web サーバーが受付を始める前）に採番テーブルの値を既存の最大 ID より後ろへ進める。
+ * pooled 最適化では保存値 V に対して (V - 確保件数, V] の ID が払い出されるため、
+ * V は「最大 ID + 確保件数」以上にする。値を戻すことはない。
+ */
+@Component
+public class IdGeneratorAligner {
+    private static final Logger log = LoggerFactory.getLogger(IdGeneratorAligner.class);
+
+    /**
+     * テーブル採番を使うテーブル（採番テーブルのセグメント名と同じ）
+     */
+    static final List<String> TABLES = List.of(
+        "categories", "products", "customers", "orders", "order_items");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int allocationSize;
+
+    /**
+     * EntityManagerFactory はスキーマの作成（Flyway のマイグレーション）の完了を待つために受け取る
+     */
+    public IdGeneratorAligner(JdbcTemplate jdbcTemplate, IdGeneratorProperties properties,
+                              EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.allocationSize = properties.getAllocationSize();
+        align();
+    }
+
+    /**
+     * すべての採番対象について採番テーブルを既存の最大 ID に合わせる
+     * 採番を経由せずに行を追加した後にも呼び出す
+     */
+    public void align() {
+        for (String table : TABLES) {
+            align(table);
+        }
+    }
+
+    private void align(String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        long required = maxId + allocationSize;
+
+        int updated = jdbcTemplate.update(
+            "UPDATE " + IdGenerators.TABLE + " SET " + IdGenerators.VALUE_COLUMN + " = ? "
+                + "WHERE " + IdGenerators.SEGMENT_COLUMN + " = ? AND " + IdGenerators.VALUE_COLUMN + " < ?",
+            required, table, required);
+        if (updated == 0 && !segmentExists(table)) {
+            try {
+                jdbcTemplate.update(
+                    "INSERT INTO " + IdGenerators.TABLE + " (" + IdGenerators.SEGMENT_COLUMN + ", "
+                        + IdGenerators.VALUE_COLUMN + ") VALUES (?, ?)",
+                    table, required);
+            } catch (DuplicateKeyException e) {
+                // 別のインスタンスが同時に作成した場合は、その値を改めて進める
+                align(table);
+                return;
+            }
+            updated = 1;
+        }
+        if (updated > 0) {
+            log.info("Aligned id generator '{}' to {} (max id {})", table, required, maxId);
+        }
+    }
+
+    private boolean segmentExists(String table) {
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM " + IdGenerators.TABLE + " WHERE " + IdGenerators.SEGMENT_COLUMN + " = ?",
+            Integer.class, table);
+        return count != null && count > 0;
+    }
+}
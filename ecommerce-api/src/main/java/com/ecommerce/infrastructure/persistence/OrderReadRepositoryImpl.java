@@ -0,0 +1,142 @@
+package com.ecommerce.infrastructure.persistence;
+
+import com.ecommerce.application.dto.CustomerOrderHistoryDTO;
+import com.ecommerce.application.dto.OrderDTO;
+import com.ecommerce.application.query.OrderReadRepository;
+import com.ecommerce.domain.model.OrderStatus;
+import com.ecommerce.domain.repository.PageQuery;
+import com.ecommerce.domain.repository.PageResult;
+import com.ecommerce.infrastructure.mapper.OrderMapper;
+import com.ecommerce.infrastructure.persistence.jpa.CustomerJpaRepository;
+import com.ecommerce.infrastructure.persistence.jpa.CustomerOrderSummaryJpaEntity;
+import com.ecommerce.infrastructure.persistence.jpa.CustomerOrderSummaryJpaRepository;
+import com.ecommerce.infrastructure.persistence.jpa.OrderItemView;
+import com.ecommerce.infrastructure.persistence.jpa.OrderJpaEntity;
+import com.ecommerce.infrastructure.persistence.jpa.OrderJpaRepository;
+import com.ecommerce.infrastructure.persistence.jpa.OrderView;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * OrderReadRepositoryImpl - 注文の読み取り専用リポジトリの実装
+ * プロジェクションで OrderDTO を組み立て、永続化コンテキストを経由しない
+ * ヘッダーと明細をそれぞれ1回ずつ問い合わせる
+ * 顧客の注文履歴は注文を集計せず、保存時に更新される集計（customer_order_summaries）を読む
+ */
+@Component
+@Transactional(readOnly = true)
+public class OrderReadRepositoryImpl implements OrderReadRepository {
+    private final OrderJpaRepository jpaRepository;
+    private final CustomerOrderSummaryJpaRepository summaryJpaRepository;
+    private final CustomerJpaRepository customerJpaRepository;
+    private final OrderMapper mapper;
+
+    public OrderReadRepositoryImpl(OrderJpaRepository jpaRepository,
+                               CustomerOrderSummaryJpaRepository summaryJpaRepository,
+                               CustomerJpaRepository customerJpaRepository,
+                               OrderMapper mapper) {
+        this.jpaRepository = jpaRepository;
+        this.summaryJpaRepository = summaryJpaRepository;
+        this.customerJpaRepository = customerJpaRepository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Optional<OrderDTO> findById(Long id) {
+        return jpaRepository.findViewById(id)
+            .map(view -> toDTOs(List.of(view)).get(0));
+    }
+
+    @Override
+    public PageResult<OrderDTO> findPage(PageQuery query) {
+        Pageable pageable = PageQueries.toPageable(query);
+        Slice<OrderView> slice = query.isKeyset()
+            ? jpaRepository.findViewsByIdGreaterThan(query.getAfterId(), pageable)
+            : jpaRepository.findViewsBy(pageable);
+        return toPage(slice);
+    }
+
+    /**
+     * 顧客の注文を明細付きでページ単位に取得（ID 昇順）
+     */
+    @Override
+    public PageResult<OrderDTO> findPageByCustomerId(Long customerId, PageQuery query) {
+        Pageable pageable = PageQueries.toPageable(query);
+        Slice<OrderView> slice = query.isKeyset()
+            ? jpaRepository.findViewPageByCustomerIdAndIdGreaterThan(customerId, query.getAfterId(), pageable)
+            : jpaRepository.findViewPageByCustomerId(customerId, pageable);
+        return toPage(slice);
+    }
+
+    /**
+     * ステータスごとの注文を明細付きでページ単位に取得（ID 昇順）
+     */
+    @Override
+    public PageResult<OrderDTO> findPageByStatus(OrderStatus status, PageQuery query) {
+        Pageable pageable = PageQueries.toPageable(query);
+        OrderJpaEntity.OrderStatusJpa jpaStatus = OrderJpaEntity.OrderStatusJpa.valueOf(status.name());
+        Slice<OrderView> slice = query.isKeyset()
+            ? jpaRepository.findViewPageByStatusAndIdGreaterThan(jpaStatus, query.getAfterId(), pageable)
+            : jpaRepository.findViewPageByStatus(jpaStatus, pageable);
+        return toPage(slice);
+    }
+
+    /**
+     * 顧客の注文履歴の集計と新しい順の直近 recent 件の注文（顧客が存在しない場合は空）
+     * 注文数によらず、集計1行と直近の注文ヘッダーの2回の問い合わせで返す
+     */
+    @Override
+    public Optional<CustomerOrderHistoryDTO> findHistoryByCustomerId(Long customerId, int recent) {
+        if (recent < 0 || recent > MAX_RECENT_ORDERS) {
+            throw new IllegalArgumentException("Recent orders must be between 0 and " + MAX_RECENT_ORDERS);
+        }
+
+        Optional<CustomerOrderSummaryJpaEntity> summary = summaryJpaRepository.findById(customerId);
+        if (summary.isEmpty()) {
+            // 注文したことのない顧客には集計の行がない
+            if (!customerJpaRepository.existsById(customerId)) {
+                return Optional.empty();
+            }
+            CustomerOrderSummaryJpaEntity empty =
+                new CustomerOrderSummaryJpaEntity(customerId, 0, 0, BigDecimal.ZERO, null, null);
+            return Optional.of(mapper.toDTO(empty, List.of()));
+        }
+
+        List<OrderView> recentOrders = recent == 0 || summary.get().getOrderCount() == 0
+            ? List.of()
+            : jpaRepository.findRecentViewsByCustomerId(customerId, PageRequest.of(0, recent));
+        return Optional.of(mapper.toDTO(summary.get(), recentOrders));
+    }
+
+    private PageResult<OrderDTO> toPage(Slice<OrderView> slice) {
+        List<OrderDTO> dtos = toDTOs(slice.getContent());
+        Long nextCursor = slice.hasNext() && !dtos.isEmpty() ? dtos.get(dtos.size() - 1).getId() : null;
+        return new PageResult<>(dtos, slice.hasNext(), nextCursor);
+    }
+
+    /**
+     * ヘッダーに明細を結合して DTO に変換（明細は1回の問い合わせでまとめて取得）
+     * ヘッダーは1ページ分（最大 PageQuery.MAX_LIMIT 件）なので、IN の要素数もその件数に収まる
+     */
+    private List<OrderDTO> toDTOs(List<OrderView> views) {
+        if (views.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> orderIds = views.stream().map(OrderView::getId).toList();
+        Map<Long, List<OrderItemView>> itemsByOrder = jpaRepository.findItemViewsByOrderIds(orderIds).stream()
+            .collect(Collectors.groupingBy(OrderItemView::getOrderId));
+        return views.stream()
+            .map(view -> mapper.toDTO(view, itemsByOrder.getOrDefault(view.getId(), List.of())))
+            .toList();
+    }
+}
@@ -1,5 +1,6 @@
 package com.ecommerce.infrastructure.persistence;
 
+import com.ecommerce.domain.event.DomainEvent;
 import com.ecommerce.domain.model.CustomerId;
 import com.ecommerce.domain.model.Money;
 import com.ecommerce.domain.model.Order;
@@ -8,29 +9,56 @@ import com.ecommerce.domain.model.OrderItem;
 import com.ecommerce.domain.model.OrderStatus;
 import com.ecommerce.domain.model.ProductId;
 import com.ecommerce.domain.repository.OrderRepository;
+import com.ecommerce.domain.repository.PageQuery;
+import com.ecommerce.domain.repository.PageResult;
+import com.ecommerce.infrastructure.outbox.OutboxWriter;
+import com.ecommerce.infrastructure.persistence.jpa.CustomerJpaRepository;
+import com.ecommerce.infrastructure.persistence.jpa.CustomerOrderSummaryJpaRepository;
 import com.ecommerce.infrastructure.persistence.jpa.OrderJpaEntity;
 import com.ecommerce.infrastructure.persistence.jpa.OrderItemJpaEntity;
 import com.ecommerce.infrastructure.persistence.jpa.OrderJpaRepository;
+import com.ecommerce.infrastructure.persistence.jpa.ProductJpaRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * OrderRepositoryImpl - ドメイン層のリポジトリインターフェースの実装
+ * 注文の追加・キャンセル・削除は、同じトランザクションで顧客ごとの注文履歴の集計（customer_order_summaries）にも反映する
+ * 保存時は注文に記録されたドメインイベントを同じトランザクションで送信待ち（outbox_events）に書き込む
  */
 @Component
 public class OrderRepositoryImpl implements OrderRepository {
     private final OrderJpaRepository jpaRepository;
+    private final CustomerJpaRepository customerJpaRepository;
+    private final ProductJpaRepository productJpaRepository;
+    private final CustomerOrderSummaryJpaRepository summaryJpaRepository;
+    private final OutboxWriter outboxWriter;
 
-    public OrderRepositoryImpl(OrderJpaRepository jpaRepository) {
+    public OrderRepositoryImpl(OrderJpaRepository jpaRepository,
+                               CustomerJpaRepository customerJpaRepository,
+                               ProductJpaRepository productJpaRepository,
+                               CustomerOrderSummaryJpaRepository summaryJpaRepository,
+                               OutboxWriter outboxWriter) {
         this.jpaRepository = jpaRepository;
+        this.customerJpaRepository = customerJpaRepository;
+        this.productJpaRepository = productJpaRepository;
+        this.summaryJpaRepository = summaryJpaRepository;
+        this.outboxWriter = outboxWriter;
     }
 
     @Override
     public Optional<Order> findById(OrderId id) {
-        return jpaRepository.findById(id.getValue())
+        return jpaRepository.findWithDetailsById(id.getValue())
             .map(this::toDomain);
     }
 
@@ -57,14 +85,85 @@ public class OrderRepositoryImpl implements OrderRepository {
     }
 
     @Override
-    public void save(Order order) {
-        OrderJpaEntity entity = toJpa(order);
-        jpaRepository.save(entity);
+    public PageResult<Order> findPage(PageQuery query) {
+        Pageable pageable = PageQueries.toPageable(query);
+        Slice<OrderJpaEntity> slice = query.isKeyset()
+            ? jpaRepository.findByIdGreaterThan(query.getAfterId(), pageable)
+            : jpaRepository.findAllBy(pageable);
+        return PageQueries.toResult(slice, this::toDomain, OrderJpaEntity::getId);
     }
 
     @Override
+    @Transactional
+    public Order save(Order order) {
+        // 更新前のステータス（行ロックを取って読み、並行した保存が同じ変更を集計に二重に反映しないようにする。
+        // 先に読み込んだ行は保存時の merge でもそのまま使われる）
+        OrderJpaEntity.OrderStatusJpa previous = order.getId() == null ? null
+            : jpaRepository.findForUpdateById(order.getId().getValue()).map(OrderJpaEntity::getStatus).orElse(null);
+
+        Order saved = toDomain(jpaRepository.save(toJpa(order)));
+        if (previous == null) {
+            addToSummaries(List.of(saved));
+        } else if (previous != OrderJpaEntity.OrderStatusJpa.CANCELLED && saved.getStatus() == OrderStatus.CANCELLED) {
+            summaryJpaRepository.cancelOrder(saved.getCustomerId().getValue(), saved.getTotalPrice().getAmount());
+        }
+        outboxWriter.append(OutboxWriter.ORDER, saved.getId().getValue(), order.pullDomainEvents());
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public List<Order> saveAll(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+
+        // ID はテーブル採番でまとめて確保されるため、INSERT は JDBC バッチで送られる
+        List<OrderJpaEntity> entities = orders.stream()
+            .map(this::toJpa)
+            .toList();
+        List<Order> saved = jpaRepository.saveAll(entities).stream()
+            .map(this::toDomain)
+            .toList();
+        addToSummaries(saved);
+
+        // 保存後の注文は入力と同じ順序のため、採番された ID に入力側のイベントを対応付ける
+        Map<Long, List<DomainEvent>> events = new LinkedHashMap<>();
+        for (int i = 0; i < orders.size(); i++) {
+            events.put(saved.get(i).getId().getValue(), orders.get(i).pullDomainEvents());
+        }
+        outboxWriter.appendAll(OutboxWriter.ORDER, events);
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public boolean saveStatusChange(Order order, OrderStatus expected) {
+        Long id = order.getId().getValue();
+        if (jpaRepository.updateStatusIfCurrent(id, toJpaStatus(expected), toJpaStatus(order.getStatus()),
+                order.getUpdatedAt()) == 0) {
+            return false;
+        }
+        // ステータスを変更できた1件だけが集計に反映する
+        if (expected != OrderStatus.CANCELLED && order.getStatus() == OrderStatus.CANCELLED) {
+            summaryJpaRepository.cancelOrder(order.getCustomerId().getValue(), order.getTotalPrice().getAmount());
+        }
+        outboxWriter.append(OutboxWriter.ORDER, id, order.pullDomainEvents());
+        return true;
+    }
+
+    @Override
+    @Transactional
     public void delete(OrderId id) {
-        jpaRepository.deleteById(id.getValue());
+        jpaRepository.findById(id.getValue()).ifPresent(entity -> {
+            Long customerId = entity.getCustomer().getId();
+            boolean cancelled = entity.getStatus() == OrderJpaEntity.OrderStatusJpa.CANCELLED;
+            jpaRepository.delete(entity);
+            // 削除は次の問い合わせの前に自動でフラッシュされるため、残りの注文から最終注文日時を求められる
+            summaryJpaRepository.removeOrder(customerId, cancelled ? 1 : 0,
+                cancelled ? BigDecimal.ZERO : entity.getTotalPrice(),
+                jpaRepository.findLastCreatedAtByCustomerId(customerId));
+        });
     }
 
     @Override
@@ -72,6 +171,27 @@ public class OrderRepositoryImpl implements OrderRepository {
         return jpaRepository.existsById(id.getValue());
     }
 
+    /**
+     * 追加した注文（作成直後のためキャンセルされていない）を顧客ごとにまとめて集計に加える（顧客ごとに1回の更新）
+     */
+    private void addToSummaries(List<Order> added) {
+        Map<CustomerId, List<Order>> byCustomer = new LinkedHashMap<>();
+        for (Order order : added) {
+            byCustomer.computeIfAbsent(order.getCustomerId(), key -> new ArrayList<>()).add(order);
+        }
+        byCustomer.forEach((customerId, customerOrders) -> {
+            BigDecimal spend = BigDecimal.ZERO;
+            LocalDateTime lastOrderedAt = null;
+            for (Order order : customerOrders) {
+                spend = spend.add(order.getTotalPrice().getAmount());
+                if (lastOrderedAt == null || order.getCreatedAt().isAfter(lastOrderedAt)) {
+                    lastOrderedAt = order.getCreatedAt();
+                }
+            }
+            summaryJpaRepository.addOrders(customerId.getValue(), customerOrders.size(), spend, lastOrderedAt);
+        });
+    }
+
     /**
      * JPA エンティティからドメインモデルへの変換
      */
@@ -113,10 +233,22 @@ public class OrderRepositoryImpl implements OrderRepository {
         if (domain.getId() != null) {
             entity.setId(domain.getId().getValue());
         }
+        entity.setCustomer(customerJpaRepository.getReferenceById(domain.getCustomerId().getValue()));
         entity.setStatus(toJpaStatus(domain.getStatus()));
         entity.setTotalPrice(domain.getTotalPrice().getAmount());
         entity.setCreatedAt(domain.getCreatedAt());
         entity.setUpdatedAt(domain.getUpdatedAt());
+
+        for (OrderItem item : domain.getItems()) {
+            OrderItemJpaEntity itemEntity = new OrderItemJpaEntity();
+            itemEntity.setId(item.getId());
+            itemEntity.setOrder(entity);
+            itemEntity.setProduct(productJpaRepository.getReferenceById(item.getProductId().getValue()));
+            itemEntity.setQuantity(item.getQuantity());
+            itemEntity.setPriceAtPurchase(item.getPriceAtPurchase().getAmount());
+            itemEntity.setCreatedAt(item.getCreatedAt());
+            entity.getItems().add(itemEntity);
+        }
         return entity;
     }
 
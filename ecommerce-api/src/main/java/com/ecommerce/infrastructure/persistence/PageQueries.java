@@ -0,0 +1,42 @@
+package com.ecommerce.infrastructure.persistence;
+
+import com.ecommerce.domain.repository.PageQuery;
+import com.ecommerce.domain.repository.PageResult;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * PageQueries - ドメインのページング条件と Spring Data のページングの相互変換
+ */
+public final class PageQueries {
+    private static final Sort BY_ID = Sort.by("id");
+
+    private PageQueries() {
+    }
+
+    /**
+     * PageQuery を ID 昇順の Pageable に変換
+     * キーセット方式では常に先頭ページ（ID による絞り込みはクエリ側で行う）
+     */
+    public static Pageable toPageable(PageQuery query) {
+        int page = query.isKeyset() ? 0 : query.getPage();
+        return PageRequest.of(page, query.getLimit(), BY_ID);
+    }
+
+    /**
+     * Slice をドメインのページング結果に変換（次ページのカーソルは末尾要素のID）
+     */
+    public static <E, T> PageResult<T> toResult(Slice<E> slice, Function<E, T> mapper,
+                                                Function<E, Long> idOf) {
+        List<E> content = slice.getContent();
+        Long nextCursor = slice.hasNext() && !content.isEmpty()
+            ? idOf.apply(content.get(content.size() - 1))
+            : null;
+        return new PageResult<>(content.stream().map(mapper).toList(), slice.hasNext(), nextCursor);
+    }
+}
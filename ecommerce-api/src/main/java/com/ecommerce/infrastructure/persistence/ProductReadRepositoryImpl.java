@@ -0,0 +1,58 @@
+package com.ecommerce.infrastructure.persistence;
+
+import com.ecommerce.application.dto.ProductDTO;
+import com.ecommerce.application.query.ProductReadRepository;
+import com.ecommerce.domain.repository.PageQuery;
+import com.ecommerce.domain.repository.PageResult;
+import com.ecommerce.infrastructure.persistence.jpa.ProductJpaRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * ProductReadRepositoryImpl - 商品の読み取り専用リポジトリの実装
+ * プロジェクションで ProductDTO を組み立て、永続化コンテキストを経由しない
+ */
+@Component
+@Transactional(readOnly = true)
+public class ProductReadRepositoryImpl implements ProductReadRepository {
+    private final ProductJpaRepository jpaRepository;
+
+    public ProductReadRepositoryImpl(ProductJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public Optional<ProductDTO> findById(Long id) {
+        return jpaRepository.findDTOById(id);
+    }
+
+    @Override
+    public List<ProductDTO> findAllByIds(Collection<Long> ids) {
+        return ids.isEmpty() ? List.of() : jpaRepository.findDTOsByIdIn(ids);
+    }
+
+    @Override
+    public PageResult<ProductDTO> findPage(PageQuery query) {
+        Pageable pageable = PageQueries.toPageable(query);
+        Slice<ProductDTO> slice = query.isKeyset()
+            ? jpaRepository.findDTOsByIdGreaterThan(query.getAfterId(), pageable)
+            : jpaRepository.findDTOsBy(pageable);
+        return PageQueries.toResult(slice, Function.identity(), ProductDTO::getId);
+    }
+
+    @Override
+    public PageResult<ProductDTO> findPageByCategoryId(Long categoryId, PageQuery query) {
+        Pageable pageable = PageQueries.toPageable(query);
+        Slice<ProductDTO> slice = query.isKeyset()
+            ? jpaRepository.findDTOPageByCategoryIdAndIdGreaterThan(categoryId, query.getAfterId(), pageable)
+            : jpaRepository.findDTOPageByCategoryId(categoryId, pageable);
+        return PageQueries.toResult(slice, Function.identity(), ProductDTO::getId);
+    }
+}
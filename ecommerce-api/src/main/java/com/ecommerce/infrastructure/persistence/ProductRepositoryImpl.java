@@ -1,26 +1,50 @@
 package com.ecommerce.infrastructure.persistence;
 
+import com.ecommerce.domain.event.StockDecreasedEvent;
+import com.ecommerce.domain.event.StockIncreasedEvent;
 import com.ecommerce.domain.model.CategoryId;
 import com.ecommerce.domain.model.Money;
 import com.ecommerce.domain.model.Product;
 import com.ecommerce.domain.model.ProductId;
+import com.ecommerce.domain.repository.PageQuery;
+import com.ecommerce.domain.repository.PageResult;
 import com.ecommerce.domain.repository.ProductRepository;
+import com.ecommerce.infrastructure.outbox.OutboxWriter;
+import com.ecommerce.infrastructure.persistence.jpa.CategoryJpaRepository;
 import com.ecommerce.infrastructure.persistence.jpa.ProductJpaEntity;
 import com.ecommerce.infrastructure.persistence.jpa.ProductJpaRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * ProductRepositoryImpl - ドメイン層のリポジトリインターフェースの実装
+ * 在庫の原子的な増減が成功したときだけ、在庫のイベントを同じトランザクションで送信待ち（outbox_events）に書き込む
+ * （在庫は save では書き込まれないため、イベントの発行元は条件付き UPDATE の1か所に限る）
  */
 @Component
 public class ProductRepositoryImpl implements ProductRepository {
     private final ProductJpaRepository jpaRepository;
+    private final CategoryJpaRepository categoryJpaRepository;
+    private final OutboxWriter outboxWriter;
 
-    public ProductRepositoryImpl(ProductJpaRepository jpaRepository) {
+    public ProductRepositoryImpl(ProductJpaRepository jpaRepository,
+                                 CategoryJpaRepository categoryJpaRepository,
+                                 OutboxWriter outboxWriter) {
         this.jpaRepository = jpaRepository;
+        this.categoryJpaRepository = categoryJpaRepository;
+        this.outboxWriter = outboxWriter;
     }
 
     @Override
@@ -29,12 +53,46 @@ public class ProductRepositoryImpl implements ProductRepository {
             .map(this::toDomain);
     }
 
+    @Override
+    public Map<ProductId, Product> findAllByIds(Collection<ProductId> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        // IN 句による1回の問い合わせで取得
+        List<Long> rawIds = ids.stream()
+            .map(ProductId::getValue)
+            .distinct()
+            .toList();
+        Map<ProductId, Product> result = new HashMap<>();
+        for (ProductJpaEntity entity : jpaRepository.findAllById(rawIds)) {
+            Product product = toDomain(entity);
+            result.put(product.getId(), product);
+        }
+        return result;
+    }
+
     @Override
     public Optional<Product> findByName(String name) {
         return jpaRepository.findByName(name)
             .map(this::toDomain);
     }
 
+    @Override
+    public Map<String, Product> findAllByNames(Collection<String> names) {
+        if (names.isEmpty()) {
+            return Map.of();
+        }
+
+        // IN 句による1回の問い合わせで取得
+        Map<String, Product> result = new HashMap<>();
+        for (ProductJpaEntity entity : jpaRepository.findByNameIn(names.stream().distinct().toList())) {
+            Product product = toDomain(entity);
+            result.put(product.getName(), product);
+        }
+        return result;
+    }
+
     @Override
     public List<Product> findByCategoryId(CategoryId categoryId) {
         return jpaRepository.findByCategoryId(categoryId.getValue()).stream()
@@ -49,12 +107,79 @@ public class ProductRepositoryImpl implements ProductRepository {
             .toList();
     }
 
+    @Override
+    public PageResult<Product> findPage(PageQuery query) {
+        Pageable pageable = PageQueries.toPageable(query);
+        Slice<ProductJpaEntity> slice = query.isKeyset()
+            ? jpaRepository.findByIdGreaterThan(query.getAfterId(), pageable)
+            : jpaRepository.findAllBy(pageable);
+        return PageQueries.toResult(slice, this::toDomain, ProductJpaEntity::getId);
+    }
+
     @Override
     public void save(Product product) {
         ProductJpaEntity entity = toJpa(product);
         jpaRepository.save(entity);
     }
 
+    @Override
+    @Transactional
+    public void saveAll(Collection<Product> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+
+        // 既存商品は1回の問い合わせで管理状態にし、merge ごとの SELECT を避ける
+        List<Long> existingIds = products.stream()
+            .filter(product -> product.getId() != null)
+            .map(product -> product.getId().getValue())
+            .toList();
+        Map<Long, ProductJpaEntity> managed = jpaRepository.findAllById(existingIds).stream()
+            .collect(Collectors.toMap(ProductJpaEntity::getId, Function.identity()));
+
+        List<ProductJpaEntity> newEntities = new ArrayList<>();
+        for (Product product : products) {
+            ProductJpaEntity entity = product.getId() != null
+                ? managed.get(product.getId().getValue())
+                : null;
+            if (entity != null) {
+                copyToJpa(product, entity);
+            } else {
+                newEntities.add(toJpa(product));
+            }
+        }
+
+        // 更新分はトランザクション終了時にまとめてフラッシュされる
+        jpaRepository.saveAll(newEntities);
+    }
+
+    @Override
+    @Transactional
+    public boolean tryDecreaseStock(ProductId id, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive");
+        }
+        if (jpaRepository.decreaseStockIfAvailable(id.getValue(), quantity) == 0) {
+            return false;
+        }
+        outboxWriter.append(OutboxWriter.PRODUCT, id.getValue(),
+            List.of(new StockDecreasedEvent(quantity, LocalDateTime.now())));
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public void increaseStock(ProductId id, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive");
+        }
+        if (jpaRepository.increaseStock(id.getValue(), quantity) == 0) {
+            throw new IllegalArgumentException("Product not found with id: " + id);
+        }
+        outboxWriter.append(OutboxWriter.PRODUCT, id.getValue(),
+            List.of(new StockIncreasedEvent(quantity, LocalDateTime.now())));
+    }
+
     @Override
     public void delete(ProductId id) {
         jpaRepository.deleteById(id.getValue());
@@ -89,12 +214,21 @@ public class ProductRepositoryImpl implements ProductRepository {
         if (domain.getId() != null) {
             entity.setId(domain.getId().getValue());
         }
+        copyToJpa(domain, entity);
+        entity.setStock(domain.getStock());
+        entity.setCreatedAt(domain.getCreatedAt());
+        return entity;
+    }
+
+    /**
+     * ドメインモデルの可変項目を JPA エンティティへ反映
+     * 在庫は含めない（既存商品の在庫は加減算の UPDATE でのみ変更する）
+     */
+    private void copyToJpa(Product domain, ProductJpaEntity entity) {
         entity.setName(domain.getName());
         entity.setDescription(domain.getDescription());
         entity.setPrice(domain.getPrice().getAmount());
-        entity.setStock(domain.getStock());
-        entity.setCreatedAt(domain.getCreatedAt());
+        entity.setCategory(categoryJpaRepository.getReferenceById(domain.getCategoryId().getValue()));
         entity.setUpdatedAt(domain.getUpdatedAt());
-        return entity;
     }
 }
@@ -0,0 +1,491 @@
+package com.ecommerce.infrastructure.persistence;
+
+import com.ecommerce.domain.model.CategoryId;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductId;
+import com.ecommerce.domain.repository.PageQuery;
+import com.ecommerce.domain.repository.PageResult;
+import com.ecommerce.domain.repository.ProductRepository;
+import com.ecommerce.infrastructure.config.StockLedgerProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * StockReservationLedger - 人気商品向けのインメモリ在庫予約台帳
+ * ProductRepository の前段に置くデコレーター
+ *
+ * 対象商品の在庫はメモリ上のカウンタを CAS で減らして確保し、
+ * DB（products.stock）には商品ごとの書き込み遅延ウィンドウ単位で差分をまとめて反映する。
+ * 対象商品の在庫変更はすべてこの台帳を経由する前提。
+ * ID 以外での検索結果の在庫はウィンドウ分だけ遅れる場合がある。
+ *
+ * セルは利用可能在庫 available と DB に反映済みの在庫 persisted を持ち、その差が未反映の差分になる。
+ * セルの破棄は未反映の差分がない状態で available を RETIRED に置き換えて行うため、確保した在庫が失われることはない。
+ * 破棄されたセルに当たった確保・解放は、DB から読み直した新しいセルでやり直す。
+ *
+ * トランザクション内の確保・解放は、トランザクションの結果に合わせて台帳に確定させる。
+ * 確保は売り越さないよう即時に available から差し引き、コミットまでは未確定（uncommitted）として DB に反映せず、
+ * ロールバックされた場合は available に戻す。解放はコミット後に available に加え、ロールバックされた場合は捨てる。
+ */
+public class StockReservationLedger implements ProductRepository, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(StockReservationLedger.class);
+
+    private final ProductRepository delegate;
+    private final StockLedgerProperties properties;
+    private final Map<ProductId, StockCell> cells = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+
+    public StockReservationLedger(ProductRepository delegate, StockLedgerProperties properties) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stock-ledger-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getFlushInterval().toMillis();
+        this.flusher.scheduleWithFixedDelay(this::flushDue, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public boolean tryDecreaseStock(ProductId id, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive");
+        }
+        if (!isTracked(id)) {
+            return delegate.tryDecreaseStock(id, quantity);
+        }
+
+        boolean transactional = TransactionSynchronizationManager.isSynchronizationActive();
+        while (true) {
+            StockCell cell = cellFor(id);
+            if (cell == null) {
+                return !cells.containsKey(id) && isFull() && delegate.tryDecreaseStock(id, quantity);
+            }
+            if (cell.tryReserve(quantity, transactional)) {
+                if (transactional) {
+                    TransactionSynchronizationManager.registerSynchronization(new PendingReservation(cell, quantity));
+                }
+                return true;
+            }
+            if (!cell.isRetired()) {
+                return false;
+            }
+        }
+    }
+
+    @Override
+    public void increaseStock(ProductId id, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive");
+        }
+        if (!isTracked(id)) {
+            delegate.increaseStock(id, quantity);
+            return;
+        }
+
+        while (true) {
+            StockCell cell = cellFor(id);
+            if (cell == null) {
+                if (!cells.containsKey(id) && isFull()) {
+                    delegate.increaseStock(id, quantity);
+                    return;
+                }
+                throw new IllegalArgumentException("Product not found with id: " + id);
+            }
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                if (cell.registerPendingRelease()) {
+                    TransactionSynchronizationManager.registerSynchronization(new PendingRelease(cell, quantity));
+                    return;
+                }
+            } else if (cell.release(quantity)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public Optional<Product> findById(ProductId id) {
+        return delegate.findById(id).map(this::withLedgerStock);
+    }
+
+    @Override
+    public Map<ProductId, Product> findAllByIds(Collection<ProductId> ids) {
+        Map<ProductId, Product> result = new HashMap<>();
+        delegate.findAllByIds(ids).forEach((id, product) -> result.put(id, withLedgerStock(product)));
+        return result;
+    }
+
+    @Override
+    public Optional<Product> findByName(String name) {
+        return delegate.findByName(name);
+    }
+
+    @Override
+    public Map<String, Product> findAllByNames(Collection<String> names) {
+        // 取り込み後の検索インデックス更新に使われるため、台帳上の在庫を反映して返す
+        Map<String, Product> result = new HashMap<>();
+        delegate.findAllByNames(names).forEach((name, product) -> result.put(name, withLedgerStock(product)));
+        return result;
+    }
+
+    @Override
+    public List<Product> findByCategoryId(CategoryId categoryId) {
+        return delegate.findByCategoryId(categoryId);
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public PageResult<Product> findPage(PageQuery query) {
+        return delegate.findPage(query);
+    }
+
+    @Override
+    public void save(Product product) {
+        // save は在庫の列を書き込まないため、台帳のセルはそのまま使い続けられる
+        delegate.save(product);
+    }
+
+    @Override
+    public void saveAll(Collection<Product> products) {
+        delegate.saveAll(products);
+    }
+
+    @Override
+    public void delete(ProductId id) {
+        // 削除する商品の未反映差分は反映先がなくなるため、セルを破棄するだけでよい
+        StockCell cell = cells.remove(id);
+        if (cell != null) {
+            cell.retire();
+        }
+        delegate.delete(id);
+    }
+
+    @Override
+    public boolean exists(ProductId id) {
+        return delegate.exists(id);
+    }
+
+    /**
+     * すべての未反映差分を即時に DB へ反映
+     */
+    public void flushAll() {
+        cells.forEach(this::flush);
+    }
+
+    /**
+     * 管理中のセル数
+     */
+    public int size() {
+        return cells.size();
+    }
+
+    @Override
+    public void close() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(properties.getFlushInterval().toMillis() * 2, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushAll();
+    }
+
+    private boolean isTracked(ProductId id) {
+        return properties.getProductIds().isEmpty()
+            || properties.getProductIds().contains(id.getValue());
+    }
+
+    private boolean isFull() {
+        return cells.size() >= properties.getMaximumCells();
+    }
+
+    /**
+     * 台帳のセルを取得（初回は DB の在庫で初期化）
+     * 商品が存在しない場合と、セル数が上限に達している場合は null
+     */
+    private StockCell cellFor(ProductId id) {
+        StockCell cell = cells.get(id);
+        if (cell != null || isFull()) {
+            return cell;
+        }
+        return cells.computeIfAbsent(id, key -> delegate.findById(key)
+            .map(product -> new StockCell(product.getStock(), windowFor(key)))
+            .orElse(null));
+    }
+
+    private Duration windowFor(ProductId id) {
+        return properties.getWindows().getOrDefault(id.getValue(), properties.getWriteBehindWindow());
+    }
+
+    /**
+     * 台帳で管理中の商品は台帳上の在庫で置き換える
+     */
+    private Product withLedgerStock(Product product) {
+        StockCell cell = cells.get(product.getId());
+        if (cell == null) {
+            return product;
+        }
+        long available = cell.available.get();
+        if (available == StockCell.RETIRED) {
+            return product;
+        }
+        return Product.restore(
+            product.getId().getValue(),
+            product.getName(),
+            product.getDescription(),
+            product.getPrice(),
+            (int) available,
+            product.getCategoryId(),
+            product.getCreatedAt(),
+            product.getUpdatedAt()
+        );
+    }
+
+    private void flushDue() {
+        long now = System.nanoTime();
+        long idleNanos = properties.getIdleTimeout().toNanos();
+        cells.forEach((id, cell) -> {
+            if (now - cell.lastFlushNanos >= cell.windowNanos) {
+                flush(id, cell);
+            }
+            // 一定時間使われていないセルは、未反映の差分がなければ破棄して次回 DB から読み直す
+            if (now - cell.lastAccessNanos >= idleNanos && cell.retireIfFlushed()) {
+                cells.remove(id, cell);
+            }
+        });
+    }
+
+    /**
+     * セルの差分を DB に反映
+     * 例外で失敗した場合や DB の在庫が足りず減算が拒否された場合（台帳を経由しない在庫の変更があった場合）は、
+     * 差分を保持したまま次回に再試行する。拒否が続く場合はエラーとして記録する。
+     */
+    private void flush(ProductId id, StockCell cell) {
+        synchronized (cell) {
+            cell.lastFlushNanos = System.nanoTime();
+            long current = cell.available.get();
+            if (current == StockCell.RETIRED) {
+                return;
+            }
+            // 未確定の確保はまだ DB に反映しない
+            current += cell.uncommitted.get();
+            long delta = current - cell.persisted;
+            if (delta == 0) {
+                return;
+            }
+
+            try {
+                if (delta < 0) {
+                    if (!delegate.tryDecreaseStock(id, Math.toIntExact(-delta))) {
+                        rejected(id, cell, delta);
+                        return;
+                    }
+                } else {
+                    delegate.increaseStock(id, Math.toIntExact(delta));
+                }
+                cell.persisted = current;
+                cell.rejectedFlushes = 0;
+            } catch (RuntimeException e) {
+                log.warn("Stock ledger flush failed for product {}: delta {}", id, delta, e);
+            }
+        }
+    }
+
+    /**
+     * 減算が拒否された場合の処理（呼び出し元でセルをロック済み）
+     * 差分は捨てずにセルに残し、次のウィンドウで再試行する
+     */
+    private void rejected(ProductId id, StockCell cell, long delta) {
+        cell.rejectedFlushes++;
+        if (cell.rejectedFlushes < properties.getMaxFlushAttempts()) {
+            log.warn("Stock ledger flush rejected for product {}: delta {} (attempt {})",
+                id, delta, cell.rejectedFlushes);
+        } else {
+            log.error("Stock ledger flush rejected for product {} {} times; keeping unapplied delta {} pending",
+                id, cell.rejectedFlushes, delta);
+        }
+    }
+
+    /**
+     * トランザクション内の確保を、コミット時に確定し、ロールバック時に取り消す
+     */
+    private static final class PendingReservation implements TransactionSynchronization {
+        private final StockCell cell;
+        private final int quantity;
+
+        private PendingReservation(StockCell cell, int quantity) {
+            this.cell = cell;
+            this.quantity = quantity;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status == STATUS_COMMITTED) {
+                cell.commitReservation(quantity);
+            } else {
+                cell.rollbackReservation(quantity);
+            }
+        }
+    }
+
+    /**
+     * トランザクション内の解放を、コミット後に台帳に加える（ロールバック時は捨てる）
+     */
+    private static final class PendingRelease implements TransactionSynchronization {
+        private final StockCell cell;
+        private final int quantity;
+
+        private PendingRelease(StockCell cell, int quantity) {
+            this.cell = cell;
+            this.quantity = quantity;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            cell.completeRelease(status == STATUS_COMMITTED ? quantity : 0);
+        }
+    }
+
+    /**
+     * 商品ごとの在庫カウンタ
+     * available は CAS で確保する利用可能在庫、persisted は DB に反映済みの在庫（セルのロック下で更新）、
+     * uncommitted は available から差し引いた未確定の確保の合計、inFlight は完了待ちのトランザクション内の確保・解放の数
+     */
+    private static final class StockCell {
+        private static final long RETIRED = Long.MIN_VALUE;
+
+        private final AtomicLong available;
+        private final AtomicLong uncommitted = new AtomicLong();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final long windowNanos;
+        private long persisted;
+        private int rejectedFlushes;
+        private volatile long lastFlushNanos = System.nanoTime();
+        private volatile long lastAccessNanos = System.nanoTime();
+
+        private StockCell(int stock, Duration window) {
+            this.available = new AtomicLong(stock);
+            this.persisted = stock;
+            this.windowNanos = window.toNanos();
+        }
+
+        /**
+         * 在庫を確保（在庫不足またはセルが破棄済みの場合は false）
+         * pending の場合は、available から差し引く前に未確定の確保として数える
+         * （反映の途中に見えても DB の在庫を実際より減らさず、完了待ちのあるセルは破棄されない）
+         */
+        private boolean tryReserve(int quantity, boolean pending) {
+            lastAccessNanos = System.nanoTime();
+            if (pending) {
+                inFlight.incrementAndGet();
+                uncommitted.addAndGet(quantity);
+            }
+            long current;
+            do {
+                current = available.get();
+                if (current == RETIRED || current < quantity) {
+                    if (pending) {
+                        uncommitted.addAndGet(-quantity);
+                        inFlight.decrementAndGet();
+                    }
+                    return false;
+                }
+            } while (!available.compareAndSet(current, current - quantity));
+            return true;
+        }
+
+        /**
+         * 未確定の確保を確定（available からは差し引き済みのため、次の反映で DB に書き込まれる）
+         */
+        private void commitReservation(int quantity) {
+            uncommitted.addAndGet(-quantity);
+            inFlight.decrementAndGet();
+        }
+
+        /**
+         * 未確定の確保を取り消して available に戻す
+         * 反映と同時に行うと戻した分を二重に数えるため、セルのロック下で行う
+         */
+        private synchronized void rollbackReservation(int quantity) {
+            release(quantity);
+            uncommitted.addAndGet(-quantity);
+            inFlight.decrementAndGet();
+        }
+
+        /**
+         * トランザクション内の解放を登録（セルが破棄済みの場合は false）
+         * 完了するまでセルは破棄されないため、コミット後の解放は必ずこのセルに加えられる
+         */
+        private synchronized boolean registerPendingRelease() {
+            lastAccessNanos = System.nanoTime();
+            if (isRetired()) {
+                return false;
+            }
+            inFlight.incrementAndGet();
+            return true;
+        }
+
+        /**
+         * トランザクション内の解放を完了（quantity が 0 の場合は取り消し）
+         */
+        private void completeRelease(int quantity) {
+            if (quantity > 0) {
+                release(quantity);
+            }
+            inFlight.decrementAndGet();
+        }
+
+        /**
+         * 在庫を解放（セルが破棄済みの場合は false）
+         */
+        private boolean release(int quantity) {
+            lastAccessNanos = System.nanoTime();
+            long current;
+            do {
+                current = available.get();
+                if (current == RETIRED) {
+                    return false;
+                }
+            } while (!available.compareAndSet(current, current + quantity));
+            return true;
+        }
+
+        private boolean isRetired() {
+            return available.get() == RETIRED;
+        }
+
+        /**
+         * セルを破棄し、破棄直前の利用可能在庫を返す
+         */
+        private long retire() {
+            return available.getAndSet(RETIRED);
+        }
+
+        /**
+         * 未反映の差分と完了待ちの確保・解放がない場合のみセルを破棄
+         */
+        private synchronized boolean retireIfFlushed() {
+            return inFlight.get() == 0 && available.compareAndSet(persisted, RETIRED);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 
 import java.time.LocalDateTime;
 
@@ -19,7 +20,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class CategoryJpaEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "categories_id")
+    @GenericGenerator(name = "categories_id", type = PooledTableIdGenerator.class)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -1,8 +1,14 @@
 package com.ecommerce.infrastructure.persistence.jpa;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -12,4 +18,20 @@ import java.util.Optional;
 @Repository
 public interface CategoryJpaRepository extends JpaRepository<CategoryJpaEntity, Long> {
     Optional<CategoryJpaEntity> findByName(String name);
+
+    /**
+     * オフセット方式のページ取得（件数の COUNT は行わない）
+     */
+    Slice<CategoryJpaEntity> findAllBy(Pageable pageable);
+
+    /**
+     * キーセット方式のページ取得（指定IDより後ろ）
+     */
+    Slice<CategoryJpaEntity> findByIdGreaterThan(Long id, Pageable pageable);
+
+    /**
+     * 指定されたIDのうち存在するものだけを返す（エンティティは読み込まない）
+     */
+    @Query("SELECT c.id FROM CategoryJpaEntity c WHERE c.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
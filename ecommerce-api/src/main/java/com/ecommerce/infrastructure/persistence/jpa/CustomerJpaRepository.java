@@ -1,8 +1,14 @@
 package com.ecommerce.infrastructure.persistence.jpa;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -12,4 +18,20 @@ import java.util.Optional;
 public interface CustomerJpaRepository extends JpaRepository<CustomerJpaEntity, Long> {
     Optional<CustomerJpaEntity> findByEmail(String email);
     Optional<CustomerJpaEntity> findByPhoneNumber(String phoneNumber);
+
+    /**
+     * オフセット方式のページ取得（件数の COUNT は行わない）
+     */
+    Slice<CustomerJpaEntity> findAllBy(Pageable pageable);
+
+    /**
+     * キーセット方式のページ取得（指定IDより後ろ）
+     */
+    Slice<CustomerJpaEntity> findByIdGreaterThan(Long id, Pageable pageable);
+
+    /**
+     * 指定されたIDのうち存在するものだけを返す（エンティティは読み込まない）
+     */
+    @Query("SELECT c.id FROM CustomerJpaEntity c WHERE c.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
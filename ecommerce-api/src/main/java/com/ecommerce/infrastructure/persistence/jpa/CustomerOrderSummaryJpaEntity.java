@@ -0,0 +1,40 @@
+package com.ecommerce.infrastructure.persistence.jpa;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * CustomerOrderSummaryJpaEntity - JPA エンティティ
+ * 顧客ごとの注文履歴の集計（読み取りモデル）のマッピング専用
+ * 行の作成・更新は CustomerOrderSummaryJpaRepository の原子的な UPDATE で行い、エンティティとしては保存しない
+ */
+@Entity
+@Table(name = "customer_order_summaries")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerOrderSummaryJpaEntity {
+    @Id
+    @Column(name = "customer_id")
+    private Long customerId;
+
+    @Column(nullable = false)
+    private long orderCount;
+
+    @Column(nullable = false)
+    private long cancelledCount;
+
+    @Column(nullable = false)
+    private BigDecimal lifetimeSpend;
+
+    @Column(name = "last_ordered_at")
+    private LocalDateTime lastOrderedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,53 @@
+package com.ecommerce.infrastructure.persistence.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * CustomerOrderSummaryJpaRepository - Spring Data JPA リポジトリ
+ * 集計は読み込んで書き戻さず、加減算の UPDATE で更新する（同じ顧客の注文が並行しても失われない）
+ * 金額の加減算は JPQL では方言によって型変換が正しく生成されないため、いずれもネイティブクエリで行う
+ */
+@Repository
+public interface CustomerOrderSummaryJpaRepository extends JpaRepository<CustomerOrderSummaryJpaEntity, Long> {
+
+    /**
+     * 注文の追加を集計に加える（初回は行を作成）
+     * 同じ顧客の初回の注文が並行しても重複キーにならないよう、INSERT ... ON DUPLICATE KEY UPDATE で行う
+     */
+    @Modifying
+    @Query(value = "INSERT INTO customer_order_summaries "
+        + "(customer_id, order_count, cancelled_count, lifetime_spend, last_ordered_at, updated_at) "
+        + "VALUES (:customerId, :count, 0, :spend, :orderedAt, CURRENT_TIMESTAMP(6)) "
+        + "ON DUPLICATE KEY UPDATE order_count = order_count + :count, lifetime_spend = lifetime_spend + :spend, "
+        + "last_ordered_at = GREATEST(COALESCE(last_ordered_at, :orderedAt), :orderedAt), "
+        + "updated_at = CURRENT_TIMESTAMP(6)", nativeQuery = true)
+    int addOrders(@Param("customerId") Long customerId, @Param("count") long count,
+                  @Param("spend") BigDecimal spend, @Param("orderedAt") LocalDateTime orderedAt);
+
+    /**
+     * 注文のキャンセルを集計に反映（キャンセルした注文の金額を合計から除く）
+     */
+    @Modifying
+    @Query(value = "UPDATE customer_order_summaries SET cancelled_count = cancelled_count + 1, "
+        + "lifetime_spend = lifetime_spend - :spend, updated_at = CURRENT_TIMESTAMP(6) "
+        + "WHERE customer_id = :customerId", nativeQuery = true)
+    int cancelOrder(@Param("customerId") Long customerId, @Param("spend") BigDecimal spend);
+
+    /**
+     * 注文の削除を集計に反映（最終注文日時は残っている注文から求め直した値）
+     */
+    @Modifying
+    @Query(value = "UPDATE customer_order_summaries SET order_count = order_count - 1, "
+        + "cancelled_count = cancelled_count - :cancelled, lifetime_spend = lifetime_spend - :spend, "
+        + "last_ordered_at = :lastOrderedAt, updated_at = CURRENT_TIMESTAMP(6) "
+        + "WHERE customer_id = :customerId", nativeQuery = true)
+    int removeOrder(@Param("customerId") Long customerId, @Param("cancelled") long cancelled,
+                    @Param("spend") BigDecimal spend, @Param("lastOrderedAt") LocalDateTime lastOrderedAt);
+}
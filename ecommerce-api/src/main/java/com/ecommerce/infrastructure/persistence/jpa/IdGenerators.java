@@ -0,0 +1,41 @@
+package com.ecommerce.infrastructure.persistence.jpa;
+
+/**
+ * IdGenerators - テーブル採番の共通定義
+ * IDENTITY 採番では INSERT ごとに採番結果を待つ必要があり JDBC バッチが効かないため、
+ * 採番テーブルから確保件数分の ID をまとめて確保する（pooled 最適化）
+ */
+public final class IdGenerators {
+    /**
+     * 採番テーブル名
+     */
+    public static final String TABLE = "id_generators";
+
+    /**
+     * 採番対象（テーブル名）を保持する列
+     */
+    public static final String SEGMENT_COLUMN = "sequence_name";
+
+    /**
+     * 次に払い出す ID の上限を保持する列
+     */
+    public static final String VALUE_COLUMN = "next_val";
+
+    /**
+     * 確保件数を渡す Hibernate の設定名（ecommerce.id-generator.allocation-size から設定される）
+     */
+    public static final String ALLOCATION_SIZE_SETTING = "ecommerce.id_generator.allocation_size";
+
+    /**
+     * 採番専用の接続を取得する DataSource を渡す Hibernate の設定名（IdGeneratorConfig から設定される）
+     */
+    public static final String DATA_SOURCE_SETTING = "ecommerce.id_generator.data_source";
+
+    /**
+     * 確保件数の既定値
+     */
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    private IdGenerators() {
+    }
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.infrastructure.persistence.jpa;
+
+import java.math.BigDecimal;
+
+/**
+ * OrderItemView - 注文明細の読み取り専用プロジェクション
+ * エンティティを生成せず、OrderItemDTO に必要な列のみを取得する
+ */
+public interface OrderItemView {
+    Long getOrderId();
+
+    Long getId();
+
+    Long getProductId();
+
+    String getProductName();
+
+    Integer getQuantity();
+
+    BigDecimal getPriceAtPurchase();
+}
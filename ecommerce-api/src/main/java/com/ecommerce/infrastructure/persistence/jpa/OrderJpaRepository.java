@@ -1,15 +1,146 @@
 package com.ecommerce.infrastructure.persistence.jpa;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * OrderJpaRepository - Spring Data JPA リポジトリ
  */
 @Repository
 public interface OrderJpaRepository extends JpaRepository<OrderJpaEntity, Long> {
+    String EXPORT_FETCH_SIZE = "500";
+
+    String ORDER_VIEW_SELECT = "SELECT o.id AS id, c.id AS customerId, "
+        + "CONCAT(c.firstName, ' ', c.lastName) AS customerName, o.status AS status, "
+        + "o.totalPrice AS totalPrice, o.createdAt AS createdAt, o.updatedAt AS updatedAt "
+        + "FROM OrderJpaEntity o JOIN o.customer c ";
+
+    @EntityGraph(attributePaths = {"customer", "items", "items.product"})
     List<OrderJpaEntity> findByCustomerId(Long customerId);
+
+    @EntityGraph(attributePaths = {"customer", "items", "items.product"})
     List<OrderJpaEntity> findByStatus(OrderJpaEntity.OrderStatusJpa status);
+
+    /**
+     * 詳細表示用に顧客・明細・商品をまとめて取得
+     */
+    @EntityGraph(attributePaths = {"customer", "items", "items.product"})
+    Optional<OrderJpaEntity> findWithDetailsById(Long id);
+
+    /**
+     * 更新前の状態を確定させるため、行ロック（SELECT ... FOR UPDATE）を取って取得
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<OrderJpaEntity> findForUpdateById(Long id);
+
+    /**
+     * 現在のステータスが expected の場合のみステータスを更新する条件付き UPDATE（更新件数 0 は他の更新が先に確定した）
+     */
+    @Modifying
+    @Query("UPDATE OrderJpaEntity o SET o.status = :status, o.updatedAt = :updatedAt "
+        + "WHERE o.id = :id AND o.status = :expected")
+    int updateStatusIfCurrent(@Param("id") Long id,
+                              @Param("expected") OrderJpaEntity.OrderStatusJpa expected,
+                              @Param("status") OrderJpaEntity.OrderStatusJpa status,
+                              @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * オフセット方式のページ取得（件数の COUNT は行わない）
+     * 明細はページング後にバッチフェッチで読み込む（コレクションの JOIN FETCH はページングと併用しない）
+     */
+    @EntityGraph(attributePaths = "customer")
+    Slice<OrderJpaEntity> findAllBy(Pageable pageable);
+
+    /**
+     * キーセット方式のページ取得（指定IDより後ろ）
+     */
+    @EntityGraph(attributePaths = "customer")
+    Slice<OrderJpaEntity> findByIdGreaterThan(Long id, Pageable pageable);
+
+    /**
+     * エクスポート用に全件を ID 順でストリーミング取得
+     * 呼び出し側でトランザクションを開き、ストリームを閉じること
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("SELECT o FROM OrderJpaEntity o JOIN FETCH o.customer ORDER BY o.id")
+    Stream<OrderJpaEntity> streamAll();
+
+    /**
+     * 注文ヘッダーのプロジェクション取得（ページング）
+     */
+    @Query(ORDER_VIEW_SELECT)
+    Slice<OrderView> findViewsBy(Pageable pageable);
+
+    /**
+     * 注文ヘッダーのプロジェクション取得（キーセット方式）
+     */
+    @Query(ORDER_VIEW_SELECT + "WHERE o.id > :id")
+    Slice<OrderView> findViewsByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
+    @Query(ORDER_VIEW_SELECT + "WHERE o.id = :id")
+    Optional<OrderView> findViewById(@Param("id") Long id);
+
+    /**
+     * 顧客の注文ヘッダーのプロジェクション取得（オフセット方式のページング）
+     */
+    @Query(ORDER_VIEW_SELECT + "WHERE c.id = :customerId")
+    Slice<OrderView> findViewPageByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
+
+    /**
+     * 顧客の注文ヘッダーのプロジェクション取得（キーセット方式）
+     */
+    @Query(ORDER_VIEW_SELECT + "WHERE c.id = :customerId AND o.id > :id")
+    Slice<OrderView> findViewPageByCustomerIdAndIdGreaterThan(@Param("customerId") Long customerId,
+                                                              @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 顧客の注文ヘッダーを新しい順に取得（件数は pageable で指定）
+     */
+    @Query(ORDER_VIEW_SELECT + "WHERE c.id = :customerId ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderView> findRecentViewsByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
+
+    /**
+     * 顧客の最後の注文日時（注文がない場合は null）
+     */
+    @Query("SELECT MAX(o.createdAt) FROM OrderJpaEntity o WHERE o.customer.id = :customerId")
+    LocalDateTime findLastCreatedAtByCustomerId(@Param("customerId") Long customerId);
+
+    /**
+     * ステータスごとの注文ヘッダーのプロジェクション取得（オフセット方式のページング）
+     */
+    @Query(ORDER_VIEW_SELECT + "WHERE o.status = :status")
+    Slice<OrderView> findViewPageByStatus(@Param("status") OrderJpaEntity.OrderStatusJpa status, Pageable pageable);
+
+    /**
+     * ステータスごとの注文ヘッダーのプロジェクション取得（キーセット方式）
+     */
+    @Query(ORDER_VIEW_SELECT + "WHERE o.status = :status AND o.id > :id")
+    Slice<OrderView> findViewPageByStatusAndIdGreaterThan(@Param("status") OrderJpaEntity.OrderStatusJpa status,
+                                                          @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 複数注文の明細を商品名付きで1回の問い合わせで取得
+     */
+    @Query("SELECT i.order.id AS orderId, i.id AS id, p.id AS productId, p.name AS productName, "
+        + "i.quantity AS quantity, i.priceAtPurchase AS priceAtPurchase "
+        + "FROM OrderItemJpaEntity i JOIN i.product p "
+        + "WHERE i.order.id IN :orderIds ORDER BY i.order.id, i.id")
+    List<OrderItemView> findItemViewsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
 }
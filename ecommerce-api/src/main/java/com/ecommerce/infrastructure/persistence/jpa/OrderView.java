@@ -0,0 +1,24 @@
+package com.ecommerce.infrastructure.persistence.jpa;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * OrderView - 注文ヘッダーの読み取り専用プロジェクション
+ * エンティティを生成せず、OrderDTO に必要な列のみを取得する
+ */
+public interface OrderView {
+    Long getId();
+
+    Long getCustomerId();
+
+    String getCustomerName();
+
+    OrderJpaEntity.OrderStatusJpa getStatus();
+
+    BigDecimal getTotalPrice();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
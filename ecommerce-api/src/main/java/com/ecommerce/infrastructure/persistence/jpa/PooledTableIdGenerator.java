@@ -0,0 +1,155 @@
+package com.ecommerce.infrastructure.persistence.jpa;
+
+import org.hibernate.MappingException;
+import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerationException;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Properties;
+
+/**
+ * PooledTableIdGenerator - 全エンティティ共通のテーブル採番
+ * id_generators テーブルにエンティティのテーブル名ごとの行を持ち、pooled 最適化で ID をまとめて確保する。
+ * 確保件数は Hibernate の設定 IdGenerators.ALLOCATION_SIZE_SETTING から読み込む
+ *
+ * IdGenerators.DATA_SOURCE_SETTING に DataSource が設定されている場合、ID の確保はその接続で行う。
+ * TableGenerator は確保のたびにセッションの接続プールから別の接続を取得し、その間は同じエンティティの採番を
+ * 待たせるため、プールの接続をすべて採番待ちのトランザクションが保持すると確保できなくなる。
+ * SQL と値の扱い（hibernate.id.generator.stored_last_used）は TableGenerator と同じ
+ */
+public class PooledTableIdGenerator extends TableGenerator {
+    private DataSource dataSource;
+    private boolean storeLastUsedValue;
+    private String selectQuery;
+    private String insertQuery;
+    private String updateQuery;
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        ConfigurationService configuration = serviceRegistry.getService(ConfigurationService.class);
+        int allocationSize = configuration.getSetting(
+            IdGenerators.ALLOCATION_SIZE_SETTING, StandardConverters.INTEGER, IdGenerators.DEFAULT_ALLOCATION_SIZE);
+        dataSource = (DataSource) configuration.getSettings().get(IdGenerators.DATA_SOURCE_SETTING);
+        storeLastUsedValue = configuration.getSetting(
+            AvailableSettings.TABLE_GENERATOR_STORE_LAST_USED, StandardConverters.BOOLEAN, true);
+
+        params.setProperty(TABLE_PARAM, IdGenerators.TABLE);
+        params.setProperty(SEGMENT_COLUMN_PARAM, IdGenerators.SEGMENT_COLUMN);
+        params.setProperty(VALUE_COLUMN_PARAM, IdGenerators.VALUE_COLUMN);
+        params.setProperty(CONFIG_PREFER_SEGMENT_PER_ENTITY, "true");
+        params.setProperty(INCREMENT_PARAM, String.valueOf(allocationSize));
+        params.setProperty(OPT_PARAM, StandardOptimizerDescriptor.POOLED.getExternalName());
+        super.configure(type, params, serviceRegistry);
+    }
+
+    @Override
+    protected String buildSelectQuery(String formattedPhysicalTableName, SqlStringGenerationContext context) {
+        selectQuery = super.buildSelectQuery(formattedPhysicalTableName, context);
+        return selectQuery;
+    }
+
+    @Override
+    protected String buildInsertQuery(String formattedPhysicalTableName, SqlStringGenerationContext context) {
+        insertQuery = super.buildInsertQuery(formattedPhysicalTableName, context);
+        return insertQuery;
+    }
+
+    @Override
+    protected String buildUpdateQuery(String formattedPhysicalTableName, SqlStringGenerationContext context) {
+        updateQuery = super.buildUpdateQuery(formattedPhysicalTableName, context);
+        return updateQuery;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        if (dataSource == null) {
+            return super.generate(session, object);
+        }
+        return getOptimizer().generate(new AccessCallback() {
+            @Override
+            public IntegralDataTypeHolder getNextValue() {
+                return allocate();
+            }
+
+            @Override
+            public String getTenantIdentifier() {
+                return session.getTenantIdentifier();
+            }
+        });
+    }
+
+    /**
+     * 採番専用の接続で、独立したトランザクションとして次の値を確保する
+     */
+    private IntegralDataTypeHolder allocate() {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                IntegralDataTypeHolder value = nextValue(connection);
+                connection.commit();
+                return value;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IdentifierGenerationException("Could not allocate ids for " + getSegmentValue(), e);
+        }
+    }
+
+    /**
+     * 行を読み、読んだ値が変わっていない場合だけ確保件数分進める（他の確保と競合した場合は読み直す）
+     */
+    private IntegralDataTypeHolder nextValue(Connection connection) throws SQLException {
+        IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder(
+            getIdentifierType().getReturnedClass());
+        int updated;
+        do {
+            try (PreparedStatement select = connection.prepareStatement(selectQuery)) {
+                select.setString(1, getSegmentValue());
+                try (ResultSet resultSet = select.executeQuery()) {
+                    if (resultSet.next()) {
+                        value.initialize(resultSet, storeLastUsedValue ? 0 : 1);
+                    } else {
+                        value.initialize(storeLastUsedValue ? getInitialValue() - 1 : getInitialValue());
+                        try (PreparedStatement insert = connection.prepareStatement(insertQuery)) {
+                            insert.setString(1, getSegmentValue());
+                            value.bind(insert, 2);
+                            insert.executeUpdate();
+                        }
+                    }
+                }
+            }
+
+            try (PreparedStatement update = connection.prepareStatement(updateQuery)) {
+                IntegralDataTypeHolder next = value.copy();
+                if (getOptimizer().applyIncrementSizeToSourceValues()) {
+                    next.add(getIncrementSize());
+                } else {
+                    next.increment();
+                }
+                next.bind(update, 1);
+                value.bind(update, 2);
+                update.setString(3, getSegmentValue());
+                updated = update.executeUpdate();
+            }
+        } while (updated == 0);
+
+        return storeLastUsedValue ? value.increment() : value;
+    }
+}
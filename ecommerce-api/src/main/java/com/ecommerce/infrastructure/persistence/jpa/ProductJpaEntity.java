@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -19,7 +20,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class ProductJpaEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "products_id")
+    @GenericGenerator(name = "products_id", type = PooledTableIdGenerator.class)
     private Long id;
 
     @Column(nullable = false)
@@ -31,10 +33,14 @@ public class ProductJpaEntity {
     @Column(nullable = false)
     private BigDecimal price;
 
-    @Column(nullable = false)
+    /**
+     * 在庫は作成時のみ書き込み、以降は ProductJpaRepository の加減算の UPDATE だけで変更する
+     * （読み込んだ値での上書きが、その間に確定した在庫の確保を打ち消さないようにする）
+     */
+    @Column(nullable = false, updatable = false)
     private Integer stock;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", nullable = false)
     private CategoryJpaEntity category;
 
@@ -1,16 +1,129 @@
 package com.ecommerce.infrastructure.persistence.jpa;
 
+import com.ecommerce.application.dto.ProductDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * ProductJpaRepository - Spring Data JPA リポジトリ
  */
 @Repository
 public interface ProductJpaRepository extends JpaRepository<ProductJpaEntity, Long> {
+    String EXPORT_FETCH_SIZE = "500";
+
+    String PRODUCT_DTO_SELECT = "SELECT new com.ecommerce.application.dto.ProductDTO("
+        + "p.id, p.name, p.description, p.price, p.stock, c.id, c.name) "
+        + "FROM ProductJpaEntity p JOIN p.category c ";
+
     Optional<ProductJpaEntity> findByName(String name);
+
+    List<ProductJpaEntity> findByNameIn(Collection<String> names);
+
+    @EntityGraph(attributePaths = "category")
     List<ProductJpaEntity> findByCategoryId(Long categoryId);
+
+    /**
+     * 表示用にカテゴリをまとめて取得
+     */
+    @EntityGraph(attributePaths = "category")
+    Optional<ProductJpaEntity> findWithCategoryById(Long id);
+
+    /**
+     * 在庫が足りる場合のみ減算する条件付き UPDATE（更新件数 0 は在庫不足）
+     */
+    @Modifying
+    @Query("UPDATE ProductJpaEntity p SET p.stock = p.stock - :quantity, p.updatedAt = CURRENT_TIMESTAMP "
+        + "WHERE p.id = :id AND p.stock >= :quantity")
+    int decreaseStockIfAvailable(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * 在庫を加算する UPDATE
+     */
+    @Modifying
+    @Query("UPDATE ProductJpaEntity p SET p.stock = p.stock + :quantity, p.updatedAt = CURRENT_TIMESTAMP "
+        + "WHERE p.id = :id")
+    int increaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * オフセット方式のページ取得（件数の COUNT は行わない）
+     */
+    @EntityGraph(attributePaths = "category")
+    Slice<ProductJpaEntity> findAllBy(Pageable pageable);
+
+    /**
+     * キーセット方式のページ取得（指定IDより後ろ）
+     */
+    @EntityGraph(attributePaths = "category")
+    Slice<ProductJpaEntity> findByIdGreaterThan(Long id, Pageable pageable);
+
+    /**
+     * エクスポート用に全件を ID 順でストリーミング取得
+     * 呼び出し側でトランザクションを開き、ストリームを閉じること
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("SELECT p FROM ProductJpaEntity p JOIN FETCH p.category ORDER BY p.id")
+    Stream<ProductJpaEntity> streamAll();
+
+    /**
+     * 検索索引の構築用に全商品を ID 順でストリーミング取得（エンティティは読み込まない）
+     * 呼び出し側でトランザクションを開き、ストリームを閉じること
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query(PRODUCT_DTO_SELECT + "ORDER BY p.id")
+    Stream<ProductDTO> streamDTOs();
+
+    /**
+     * ProductDTO を直接生成するプロジェクション取得（ページング）
+     */
+    @Transactional(readOnly = true)
+    @Query(PRODUCT_DTO_SELECT)
+    Slice<ProductDTO> findDTOsBy(Pageable pageable);
+
+    /**
+     * ProductDTO を直接生成するプロジェクション取得（キーセット方式）
+     */
+    @Transactional(readOnly = true)
+    @Query(PRODUCT_DTO_SELECT + "WHERE p.id > :id")
+    Slice<ProductDTO> findDTOsByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(PRODUCT_DTO_SELECT + "WHERE p.id = :id")
+    Optional<ProductDTO> findDTOById(@Param("id") Long id);
+
+    /**
+     * 指定IDの商品を ProductDTO で一括取得（ID 昇順、存在しないIDは含まれない）
+     */
+    @Transactional(readOnly = true)
+    @Query(PRODUCT_DTO_SELECT + "WHERE p.id IN :ids ORDER BY p.id")
+    List<ProductDTO> findDTOsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * カテゴリの商品を ProductDTO で取得（ページング、(category_id, id) の索引を使う）
+     */
+    @Transactional(readOnly = true)
+    @Query(PRODUCT_DTO_SELECT + "WHERE c.id = :categoryId")
+    Slice<ProductDTO> findDTOPageByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    /**
+     * カテゴリの商品を ProductDTO で取得（キーセット方式）
+     */
+    @Transactional(readOnly = true)
+    @Query(PRODUCT_DTO_SELECT + "WHERE c.id = :categoryId AND p.id > :id")
+    Slice<ProductDTO> findDTOPageByCategoryIdAndIdGreaterThan(@Param("categoryId") Long categoryId,
+                                                              @Param("id") Long id, Pageable pageable);
 }
@@ -0,0 +1,590 @@
+package com.ecommerce.infrastructure.search;
+
+import com.ecommerce.domain.model.CategoryId;
+import com.ecommerce.domain.model.Money;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductId;
+import com.ecommerce.domain.repository.CategoryProductCount;
+import com.ecommerce.domain.repository.ProductFacetQuery;
+import com.ecommerce.domain.repository.ProductFacetResult;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.roaringbitmap.RoaringBitmapWriter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * FacetBitmaps - カテゴリ・価格・在庫ごとの商品IDの圧縮ビットマップと件数
+ * スレッドセーフではない（排他は InMemoryProductFacetIndex で行う）
+ *
+ * 商品IDをそのままビット位置に使い、カテゴリ・在庫あり・価格の区間（価格帯の境界と約 9% 刻みの境界）ごとに
+ * ビットマップを持つ。一致した商品は、最も小さいビットマップを ID 昇順に走査して他の条件を確かめるか、
+ * ビットマップの積集合を取って取り出す。
+ * 件数はカテゴリごとに価格の区間別の件数（全件・在庫あり）を保持し、範囲に収まる区間は保持している件数の和、
+ * 範囲の境界をまたぐ区間（最大2つ）だけ商品ごとの価格を確認して数える。
+ */
+final class FacetBitmaps {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * 価格の区間の細かさ（価格が2倍になるまでの区間数）
+     */
+    private static final int SLICES_PER_DOUBLING = 8;
+
+    /**
+     * 価格の区間の上限（最小単位、これ以上は1つの区間）
+     */
+    private static final long MAX_SLICED_PRICE = 10_000_000_000L;
+
+    /**
+     * 一致した商品を取り出すときに、ビットマップを走査して条件を確かめる件数の見込みの上限
+     * （超える場合は積集合を作ってから取り出す）
+     */
+    private static final long MAX_PAGE_SCAN = 65_536;
+
+    /**
+     * 価格帯の境界（最小単位、昇順）：価格帯 i は [boundaries[i-1], boundaries[i])、最後の価格帯は上限なし
+     */
+    private final long[] boundaries;
+
+    /**
+     * 価格の区間の境界（価格帯の境界を含む）：区間 i は [sliceBoundaries[i-1], sliceBoundaries[i])
+     */
+    private final long[] sliceBoundaries;
+    private final RoaringBitmap[] priceSlices;
+
+    /**
+     * 価格帯 i の最初の区間（最後の要素は区間の数）
+     */
+    private final int[] rangeFirstSlices;
+
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final RoaringBitmap inStock = new RoaringBitmap();
+    private final SliceCounts total;
+    private final TreeMap<Long, Category> categories = new TreeMap<>();
+    private final List<Category> categoriesBySlot = new ArrayList<>();
+    private int[] categorySlots = new int[INITIAL_CAPACITY];
+    private long[] prices = new long[INITIAL_CAPACITY];
+    private int[] stocks = new int[INITIAL_CAPACITY];
+
+    FacetBitmaps(long[] boundaries) {
+        this.boundaries = boundaries;
+        this.sliceBoundaries = sliceBoundaries(boundaries);
+        this.priceSlices = new RoaringBitmap[sliceBoundaries.length + 1];
+        for (int slice = 0; slice < priceSlices.length; slice++) {
+            priceSlices[slice] = new RoaringBitmap();
+        }
+        this.rangeFirstSlices = new int[boundaries.length + 2];
+        for (int range = 1; range <= boundaries.length; range++) {
+            rangeFirstSlices[range] = indexOf(sliceBoundaries, boundaries[range - 1]);
+        }
+        this.rangeFirstSlices[boundaries.length + 1] = priceSlices.length;
+        this.total = new SliceCounts(priceSlices.length);
+    }
+
+    /**
+     * 索引に含まれる商品数
+     */
+    int size() {
+        return all.getCardinality();
+    }
+
+    /**
+     * ビットマップ・件数・商品ごとの属性の使用メモリ（概算、バイト）
+     */
+    long sizeInBytes() {
+        long bytes = all.getLongSizeInBytes() + inStock.getLongSizeInBytes() + total.sizeInBytes();
+        for (RoaringBitmap bitmap : priceSlices) {
+            bytes += bitmap.getLongSizeInBytes();
+        }
+        for (Category category : categoriesBySlot) {
+            bytes += category.products.getLongSizeInBytes() + category.counts.sizeInBytes();
+        }
+        return bytes + (long) prices.length * (Long.BYTES + Integer.BYTES * 2);
+    }
+
+    /**
+     * 商品を追加（登録済みの場合は各ビットマップから外して置き換える）
+     */
+    void add(Product product) {
+        int id = toBit(product.getId().getValue());
+        if (all.contains(id)) {
+            clear(id);
+        }
+        ensureCapacity(id + 1);
+        Category category = categories.computeIfAbsent(product.getCategoryId().getValue(), key -> {
+            Category created = new Category(key, categoriesBySlot.size(), priceSlices.length);
+            categoriesBySlot.add(created);
+            return created;
+        });
+        categorySlots[id] = category.slot;
+        prices[id] = product.getPrice().getMinorUnits();
+        stocks[id] = product.getStock();
+
+        int slice = indexOf(sliceBoundaries, prices[id]);
+        boolean available = stocks[id] > 0;
+        all.add(id);
+        category.products.add(id);
+        priceSlices[slice].add(id);
+        if (available) {
+            inStock.add(id);
+        }
+        category.counts.add(slice, available, 1);
+        total.add(slice, available, 1);
+    }
+
+    /**
+     * 商品を削除（登録されていない場合は false）
+     */
+    boolean remove(long productId) {
+        if (productId > Integer.MAX_VALUE || !all.contains((int) productId)) {
+            return false;
+        }
+        clear((int) productId);
+        return true;
+    }
+
+    /**
+     * 在庫数を増減し、在庫の有無が変わった場合のみ在庫ありのビットマップと件数を更新する
+     */
+    void adjustStock(long productId, int delta) {
+        if (productId > Integer.MAX_VALUE || !all.contains((int) productId)) {
+            return;
+        }
+        int id = (int) productId;
+        boolean wasAvailable = stocks[id] > 0;
+        // 索引上の在庫は DB の条件付き UPDATE の結果に追従するだけなので負にはしない
+        stocks[id] = Math.max(0, stocks[id] + delta);
+        boolean available = stocks[id] > 0;
+        if (wasAvailable == available) {
+            return;
+        }
+        if (available) {
+            inStock.add(id);
+        } else {
+            inStock.remove(id);
+        }
+        int slice = indexOf(sliceBoundaries, prices[id]);
+        int change = available ? 1 : -1;
+        categoriesBySlot.get(categorySlots[id]).counts.addInStock(slice, change);
+        total.addInStock(slice, change);
+    }
+
+    /**
+     * カテゴリごとの商品数と在庫のある商品数（ID 昇順、商品のないカテゴリは含まない）
+     */
+    Map<CategoryId, CategoryProductCount> countByCategory() {
+        Map<CategoryId, CategoryProductCount> counts = new LinkedHashMap<>();
+        for (Category category : categories.values()) {
+            long products = category.counts.between(0, priceSlices.length, false);
+            if (products > 0) {
+                counts.put(new CategoryId(category.id), new CategoryProductCount(products,
+                    category.counts.between(0, priceSlices.length, true)));
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 連続した ID を区間表現に変換し、余分な領域を解放する（一括構築の後に呼び出す）
+     */
+    void trim() {
+        optimize(all);
+        optimize(inStock);
+        for (RoaringBitmap bitmap : priceSlices) {
+            optimize(bitmap);
+        }
+        for (Category category : categoriesBySlot) {
+            optimize(category.products);
+        }
+        int capacity = all.isEmpty() ? INITIAL_CAPACITY : all.last() + 1;
+        categorySlots = Arrays.copyOf(categorySlots, capacity);
+        prices = Arrays.copyOf(prices, capacity);
+        stocks = Arrays.copyOf(stocks, capacity);
+    }
+
+    /**
+     * 条件に一致する商品と、絞り込み項目ごとの件数（その項目以外の条件を適用）を求める
+     */
+    ProductFacetResult search(ProductFacetQuery query) {
+        Category category = null;
+        boolean unknownCategory = false;
+        if (query.getCategoryId() != null) {
+            category = categories.get(query.getCategoryId().getValue());
+            unknownCategory = category == null;
+        }
+        boolean inStockOnly = query.isInStockOnly();
+        PriceFilter price = new PriceFilter(
+            query.getMinPrice() != null ? query.getMinPrice().getMinorUnits() : 0L,
+            query.getMaxPrice() != null ? query.getMaxPrice().getMinorUnits() : Long.MAX_VALUE);
+
+        // カテゴリごとの件数（価格・在庫の条件を適用）
+        Map<CategoryId, Long> categoryCounts = new LinkedHashMap<>();
+        for (Category each : categories.values()) {
+            long count = price.count(each, inStockOnly);
+            if (count > 0) {
+                categoryCounts.put(new CategoryId(each.id), count);
+            }
+        }
+
+        // 価格帯ごとの件数（カテゴリ・在庫の条件を適用）
+        SliceCounts scope = category != null ? category.counts : total;
+        List<ProductFacetResult.PriceRangeCount> priceRangeCounts = new ArrayList<>(boundaries.length + 1);
+        for (int range = 0; range <= boundaries.length; range++) {
+            priceRangeCounts.add(new ProductFacetResult.PriceRangeCount(
+                Money.ofMinorUnits(range == 0 ? 0L : boundaries[range - 1]),
+                range < boundaries.length ? Money.ofMinorUnits(boundaries[range]) : null,
+                unknownCategory ? 0 : scope.between(rangeFirstSlices[range], rangeFirstSlices[range + 1], inStockOnly)));
+        }
+
+        // 在庫の有無ごとの件数（カテゴリ・価格の条件を適用）
+        long inStockCount = unknownCategory ? 0 : price.count(category, true);
+        long outOfStockCount = unknownCategory ? 0 : price.count(category, false) - inStockCount;
+
+        long matched = inStockOnly ? inStockCount : inStockCount + outOfStockCount;
+        Page page = matched == 0 ? Page.EMPTY : page(query, category, price, matched);
+        return new ProductFacetResult(matched, page.ids, page.hasNext, page.nextCursor,
+            categoryCounts, priceRangeCounts, inStockCount, outOfStockCount);
+    }
+
+    /**
+     * 一致した商品を ID 昇順に指定ID の後ろから limit 件取り出す（次ページの有無のため1件多く読む）
+     * 条件のビットマップのうち最も小さいものを走査して残りの条件を確かめ、
+     * 一致する割合が低く走査が長くなる見込みの場合は積集合を作ってから取り出す
+     */
+    private Page page(ProductFacetQuery query, Category category, PriceFilter price, long matched) {
+        if (query.getAfterId() >= Integer.MAX_VALUE) {
+            return Page.EMPTY;
+        }
+        boolean inStockOnly = query.isInStockOnly();
+        RoaringBitmap driver = all;
+        if (category != null && category.products.getLongCardinality() < driver.getLongCardinality()) {
+            driver = category.products;
+        }
+        if (inStockOnly && inStock.getLongCardinality() < driver.getLongCardinality()) {
+            driver = inStock;
+        }
+
+        PeekableIntIterator iterator;
+        boolean check = (query.getLimit() + 1L) * driver.getLongCardinality() / matched <= MAX_PAGE_SCAN;
+        if (check) {
+            iterator = driver.getIntIterator();
+        } else {
+            iterator = intersect(category != null ? category.products : null,
+                price.isWhole() ? null : price.bitmap(),
+                inStockOnly ? inStock : null).getIntIterator();
+        }
+        iterator.advanceIfNeeded((int) query.getAfterId() + 1);
+
+        int categorySlot = category != null ? category.slot : -1;
+        List<ProductId> ids = new ArrayList<>(query.getLimit());
+        boolean hasNext = false;
+        while (iterator.hasNext()) {
+            int id = iterator.next();
+            if (check && ((categorySlot >= 0 && categorySlots[id] != categorySlot)
+                    || (inStockOnly && stocks[id] <= 0)
+                    || !price.contains(prices[id]))) {
+                continue;
+            }
+            if (ids.size() == query.getLimit()) {
+                hasNext = true;
+                break;
+            }
+            ids.add(new ProductId((long) id));
+        }
+        return new Page(ids, hasNext, hasNext ? ids.get(ids.size() - 1).getValue() : null);
+    }
+
+    /**
+     * 指定された条件（null は条件なし）の積集合
+     * 条件が1つだけの場合は索引のビットマップをそのまま返すため、呼び出し側で変更しないこと
+     */
+    private RoaringBitmap intersect(RoaringBitmap category, RoaringBitmap price, RoaringBitmap stock) {
+        List<RoaringBitmap> filters = new ArrayList<>(3);
+        if (category != null) {
+            filters.add(category);
+        }
+        if (price != null) {
+            filters.add(price);
+        }
+        if (stock != null) {
+            filters.add(stock);
+        }
+        if (filters.isEmpty()) {
+            return all;
+        }
+        if (filters.size() == 1) {
+            return filters.get(0);
+        }
+        return FastAggregation.and(filters.iterator());
+    }
+
+    private void clear(int id) {
+        Category category = categoriesBySlot.get(categorySlots[id]);
+        int slice = indexOf(sliceBoundaries, prices[id]);
+        boolean available = inStock.checkedRemove(id);
+        all.remove(id);
+        category.products.remove(id);
+        priceSlices[slice].remove(id);
+        category.counts.add(slice, available, -1);
+        total.add(slice, available, -1);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= prices.length) {
+            return;
+        }
+        int grown = Math.max(capacity, prices.length * 2);
+        categorySlots = Arrays.copyOf(categorySlots, grown);
+        prices = Arrays.copyOf(prices, grown);
+        stocks = Arrays.copyOf(stocks, grown);
+    }
+
+    /**
+     * 境界の配列で price が属する区間の番号
+     */
+    private static int indexOf(long[] bounds, long price) {
+        int found = Arrays.binarySearch(bounds, price);
+        return found >= 0 ? found + 1 : -found - 1;
+    }
+
+    /**
+     * 価格帯の境界と、1（最小単位）から SLICES_PER_DOUBLING 刻みで倍になる境界を合わせたもの
+     */
+    private static long[] sliceBoundaries(long[] boundaries) {
+        TreeSet<Long> bounds = new TreeSet<>();
+        for (long boundary : boundaries) {
+            bounds.add(boundary);
+        }
+        for (int step = 1; ; step++) {
+            long bound = Math.round(Math.pow(2, (double) step / SLICES_PER_DOUBLING));
+            if (bound > MAX_SLICED_PRICE) {
+                break;
+            }
+            bounds.add(bound);
+        }
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static int toBit(long productId) {
+        if (productId < 0 || productId >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Product id is out of range for the facet index: " + productId);
+        }
+        return (int) productId;
+    }
+
+    private static void optimize(RoaringBitmap bitmap) {
+        bitmap.runOptimize();
+        bitmap.trim();
+    }
+
+    /**
+     * 価格の範囲（min 以上 max 以下）
+     * 範囲に収まる区間 [firstWhole, endWhole) は保持している件数で数え、
+     * 境界をまたぐ区間の商品は最初に数えるときに1回だけ走査してカテゴリごとの件数を求めておく
+     */
+    private final class PriceFilter {
+        private final long min;
+        private final long max;
+        private final int firstWhole;
+        private final int endWhole;
+        private final int[] partialSlices;
+        private long[] partialAll;
+        private long[] partialInStock;
+
+        private PriceFilter(long min, long max) {
+            this.min = min;
+            this.max = max;
+            int first = indexOf(sliceBoundaries, min);
+            int last = indexOf(sliceBoundaries, max);
+            boolean firstCovered = lowerBound(first) >= min && (first != last || upperBound(last) - 1 <= max);
+            boolean lastCovered = upperBound(last) - 1 <= max && (first != last || lowerBound(first) >= min);
+            this.firstWhole = firstCovered ? first : first + 1;
+            this.endWhole = Math.max(firstWhole, lastCovered ? last + 1 : last);
+            if (first == last) {
+                this.partialSlices = firstCovered ? new int[0] : new int[]{first};
+            } else if (!firstCovered && !lastCovered) {
+                this.partialSlices = new int[]{first, last};
+            } else if (!firstCovered) {
+                this.partialSlices = new int[]{first};
+            } else if (!lastCovered) {
+                this.partialSlices = new int[]{last};
+            } else {
+                this.partialSlices = new int[0];
+            }
+        }
+
+        /**
+         * 価格で絞り込まない（すべての区間が範囲に収まる）か
+         */
+        boolean isWhole() {
+            return partialSlices.length == 0 && firstWhole == 0 && endWhole == priceSlices.length;
+        }
+
+        boolean contains(long price) {
+            return price >= min && price <= max;
+        }
+
+        /**
+         * カテゴリ（null はすべて）の商品のうち価格が範囲内のものの件数
+         */
+        long count(Category category, boolean inStockOnly) {
+            SliceCounts counts = category != null ? category.counts : total;
+            long count = counts.between(firstWhole, endWhole, inStockOnly);
+            if (partialSlices.length > 0) {
+                scanPartialSlices();
+                long[] partial = inStockOnly ? partialInStock : partialAll;
+                count += category != null ? partial[category.slot] : partial[partial.length - 1];
+            }
+            return count;
+        }
+
+        /**
+         * 価格が範囲内の商品のビットマップ（範囲に収まる区間の和集合と境界の区間の一致分）
+         */
+        RoaringBitmap bitmap() {
+            List<RoaringBitmap> union = new ArrayList<>(Arrays.asList(priceSlices).subList(firstWhole, endWhole));
+            RoaringBitmapWriter<RoaringBitmap> partial = RoaringBitmapWriter.writer().get();
+            for (int slice : partialSlices) {
+                IntIterator iterator = priceSlices[slice].getIntIterator();
+                while (iterator.hasNext()) {
+                    int id = iterator.next();
+                    if (contains(prices[id])) {
+                        partial.add(id);
+                    }
+                }
+            }
+            union.add(partial.get());
+            return FastAggregation.or(union.iterator());
+        }
+
+        /**
+         * 境界の区間の商品をカテゴリごとに数える（最後の要素は全カテゴリの合計）
+         */
+        private void scanPartialSlices() {
+            if (partialAll != null) {
+                return;
+            }
+            int totalSlot = categoriesBySlot.size();
+            partialAll = new long[totalSlot + 1];
+            partialInStock = new long[totalSlot + 1];
+            for (int slice : partialSlices) {
+                IntIterator iterator = priceSlices[slice].getIntIterator();
+                while (iterator.hasNext()) {
+                    int id = iterator.next();
+                    if (!contains(prices[id])) {
+                        continue;
+                    }
+                    int slot = categorySlots[id];
+                    partialAll[slot]++;
+                    partialAll[totalSlot]++;
+                    if (stocks[id] > 0) {
+                        partialInStock[slot]++;
+                        partialInStock[totalSlot]++;
+                    }
+                }
+            }
+        }
+
+        private long lowerBound(int slice) {
+            return slice == 0 ? 0L : sliceBoundaries[slice - 1];
+        }
+
+        private long upperBound(int slice) {
+            return slice < sliceBoundaries.length ? sliceBoundaries[slice] : Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * 価格の区間ごとの件数（全件・在庫あり）
+     * 区間 [from, to) の件数を区間数によらず数回の加算で求められるよう、Fenwick 木で保持する
+     */
+    private static final class SliceCounts {
+        private final int[] tree;
+        private final int[] inStockTree;
+
+        private SliceCounts(int slices) {
+            this.tree = new int[slices + 1];
+            this.inStockTree = new int[slices + 1];
+        }
+
+        void add(int slice, boolean available, int change) {
+            add(tree, slice, change);
+            if (available) {
+                add(inStockTree, slice, change);
+            }
+        }
+
+        void addInStock(int slice, int change) {
+            add(inStockTree, slice, change);
+        }
+
+        long between(int from, int to, boolean inStockOnly) {
+            int[] counts = inStockOnly ? inStockTree : tree;
+            return prefix(counts, to) - prefix(counts, from);
+        }
+
+        long sizeInBytes() {
+            return (long) (tree.length + inStockTree.length) * Integer.BYTES;
+        }
+
+        private static void add(int[] counts, int slice, int change) {
+            for (int i = slice + 1; i < counts.length; i += i & -i) {
+                counts[i] += change;
+            }
+        }
+
+        /**
+         * 区間 [0, end) の件数
+         */
+        private static long prefix(int[] counts, int end) {
+            long sum = 0;
+            for (int i = end; i > 0; i -= i & -i) {
+                sum += counts[i];
+            }
+            return sum;
+        }
+    }
+
+    /**
+     * カテゴリの商品のビットマップと件数
+     * slot は商品ごとのカテゴリの参照と件数の集計に使う連番（商品がなくなっても再利用しない）
+     */
+    private static final class Category {
+        private final long id;
+        private final int slot;
+        private final RoaringBitmap products = new RoaringBitmap();
+        private final SliceCounts counts;
+
+        private Category(long id, int slot, int slices) {
+            this.id = id;
+            this.slot = slot;
+            this.counts = new SliceCounts(slices);
+        }
+    }
+
+    /**
+     * 取り出した商品IDと次ページの情報
+     */
+    private static final class Page {
+        private static final Page EMPTY = new Page(List.of(), false, null);
+
+        private final List<ProductId> ids;
+        private final boolean hasNext;
+        private final Long nextCursor;
+
+        private Page(List<ProductId> ids, boolean hasNext, Long nextCursor) {
+            this.ids = ids;
+            this.hasNext = hasNext;
+            this.nextCursor = nextCursor;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.ecommerce.infrastructure.search;
+
+import com.ecommerce.domain.model.CategoryId;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductId;
+import com.ecommerce.domain.repository.CategoryProductCount;
+import com.ecommerce.domain.repository.ProductFacetIndex;
+import com.ecommerce.domain.repository.ProductFacetQuery;
+import com.ecommerce.domain.repository.ProductFacetResult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * InMemoryProductFacetIndex - プロセス内の圧縮ビットマップによる商品の絞り込み
+ *
+ * 検索は読み取りロック、索引の変更は書き込みロックの下で行う。
+ * 再構築は新しい索引を別に作ってから置き換えるため、作成中も古い索引で検索できる。
+ * 再構築中の変更や在庫の増減は古い索引に反映しつつ記録し、置き換えの直前に新しい索引へ再適用する
+ * （全商品の読み込み中も注文による在庫の増減を止めない）。
+ * 読み込み開始の直前にコミットされた在庫の増減は二重に反映されることがあるが、次の照合で解消する。
+ */
+public class InMemoryProductFacetIndex implements ProductFacetIndex {
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object writeMonitor = new Object();
+    private final Object rebuildMonitor = new Object();
+    private final long[] priceBoundaries;
+    private FacetBitmaps bitmaps;
+    private List<Consumer<FacetBitmaps>> pendingChanges;
+
+    /**
+     * @param priceBoundaries 価格帯の境界（最小単位、正の値の昇順）
+     */
+    public InMemoryProductFacetIndex(long[] priceBoundaries) {
+        for (int i = 0; i < priceBoundaries.length; i++) {
+            if (priceBoundaries[i] <= 0 || (i > 0 && priceBoundaries[i] <= priceBoundaries[i - 1])) {
+                throw new IllegalArgumentException("Price boundaries must be positive and strictly increasing");
+            }
+        }
+        this.priceBoundaries = priceBoundaries.clone();
+        this.bitmaps = new FacetBitmaps(this.priceBoundaries);
+    }
+
+    @Override
+    public void index(Product product) {
+        indexAll(List.of(product));
+    }
+
+    @Override
+    public void indexAll(Collection<Product> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+        apply(target -> {
+            for (Product product : products) {
+                target.add(product);
+            }
+        });
+    }
+
+    @Override
+    public void remove(ProductId id) {
+        apply(target -> target.remove(id.getValue()));
+    }
+
+    @Override
+    public void adjustStock(ProductId id, int delta) {
+        apply(target -> target.adjustStock(id.getValue(), delta));
+    }
+
+    @Override
+    public ProductFacetResult search(ProductFacetQuery query) {
+        lock.readLock().lock();
+        try {
+            return bitmaps.search(query);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<CategoryId, CategoryProductCount> countByCategory() {
+        lock.readLock().lock();
+        try {
+            return bitmaps.countByCategory();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 全商品から索引を作り直して置き換え、索引に含まれる商品数を返す
+     * source は受け取った処理に全商品を順に渡す（読み込み中の変更は置き換えの前に再適用する）
+     */
+    public int rebuild(Consumer<Consumer<Product>> source) {
+        return replace(source, (current, rebuilt) -> { });
+    }
+
+    /**
+     * 全商品から索引を作り直して置き換え、置き換え前の索引とのカテゴリごとの件数の差（商品数と在庫のある商品数の
+     * 差の絶対値の合計）を返す。差は索引を経由しない変更や、索引への反映に失敗した変更によるずれを表す
+     */
+    public long reconcile(Consumer<Consumer<Product>> source) {
+        long[] drift = new long[1];
+        replace(source, (current, rebuilt) -> drift[0] = drift(current.countByCategory(), rebuilt.countByCategory()));
+        return drift[0];
+    }
+
+    /**
+     * 索引に含まれる商品数
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return bitmaps.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 索引の使用メモリ（概算、バイト）
+     */
+    public long sizeInBytes() {
+        lock.readLock().lock();
+        try {
+            return bitmaps.sizeInBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 現在の索引に変更を適用し、再構築中であれば置き換え前に再適用するため記録する
+     */
+    private void apply(Consumer<FacetBitmaps> change) {
+        synchronized (writeMonitor) {
+            lock.writeLock().lock();
+            try {
+                change.accept(bitmaps);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        }
+    }
+
+    /**
+     * 新しい索引を作り、読み込み中に記録した変更を再適用してから置き換える（再構築どうしは直列化する）
+     * beforeSwap は置き換えの直前に、同じ変更を反映済みの現在の索引と新しい索引を受け取る
+     */
+    private int replace(Consumer<Consumer<Product>> source,
+                        BiConsumer<FacetBitmaps, FacetBitmaps> beforeSwap) {
+        synchronized (rebuildMonitor) {
+            List<Consumer<FacetBitmaps>> changes = new ArrayList<>();
+            synchronized (writeMonitor) {
+                pendingChanges = changes;
+            }
+            FacetBitmaps rebuilt = new FacetBitmaps(priceBoundaries);
+            try {
+                source.accept(rebuilt::add);
+                rebuilt.trim();
+            } catch (RuntimeException e) {
+                synchronized (writeMonitor) {
+                    pendingChanges = null;
+                }
+                throw e;
+            }
+
+            synchronized (writeMonitor) {
+                pendingChanges = null;
+                for (Consumer<FacetBitmaps> change : changes) {
+                    change.accept(rebuilt);
+                }
+                beforeSwap.accept(bitmaps, rebuilt);
+                lock.writeLock().lock();
+                try {
+                    bitmaps = rebuilt;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                return rebuilt.size();
+            }
+        }
+    }
+
+    private static long drift(Map<CategoryId, CategoryProductCount> before, Map<CategoryId, CategoryProductCount> after) {
+        Set<CategoryId> categories = new HashSet<>(before.keySet());
+        categories.addAll(after.keySet());
+        long drift = 0;
+        for (CategoryId category : categories) {
+            CategoryProductCount was = before.getOrDefault(category, CategoryProductCount.EMPTY);
+            CategoryProductCount now = after.getOrDefault(category, CategoryProductCount.EMPTY);
+            drift += Math.abs(now.getProductCount() - was.getProductCount())
+                + Math.abs(now.getInStockCount() - was.getInStockCount());
+        }
+        return drift;
+    }
+}
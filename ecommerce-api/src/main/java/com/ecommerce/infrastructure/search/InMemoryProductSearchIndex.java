@@ -0,0 +1,134 @@
+package com.ecommerce.infrastructure.search;
+
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductId;
+import com.ecommerce.domain.repository.ProductSearchIndex;
+import com.ecommerce.domain.repository.ProductSearchQuery;
+import com.ecommerce.domain.repository.ProductSearchResult;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * InMemoryProductSearchIndex - プロセス内の転置索引による商品検索
+ *
+ * 検索は読み取りロック、索引の変更は書き込みロックの下で行う。
+ * 再構築は新しい索引を別に作ってから置き換えるため、作成中も古い索引で検索できる。
+ * 変更と再構築は直列化し、再構築中に保存された商品の変更は置き換えの後に反映する。
+ * 同じ商品を複数のリクエストが同時に更新した場合は、後から索引に反映した内容が残る。
+ */
+public class InMemoryProductSearchIndex implements ProductSearchIndex {
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object writeMonitor = new Object();
+    private final int minPrefixLength;
+    private final int maxPrefixExpansions;
+    private InvertedIndex index = new InvertedIndex();
+
+    /**
+     * @param minPrefixLength     前方一致で照合する最後の語の最小文字数（これより短い語は完全一致）
+     * @param maxPrefixExpansions 前方一致で展開する語の最大数
+     */
+    public InMemoryProductSearchIndex(int minPrefixLength, int maxPrefixExpansions) {
+        if (minPrefixLength < 1) {
+            throw new IllegalArgumentException("Minimum prefix length must be positive");
+        }
+        if (maxPrefixExpansions < 1) {
+            throw new IllegalArgumentException("Maximum prefix expansions must be positive");
+        }
+        this.minPrefixLength = minPrefixLength;
+        this.maxPrefixExpansions = maxPrefixExpansions;
+    }
+
+    @Override
+    public void index(Product product) {
+        indexAll(List.of(product));
+    }
+
+    @Override
+    public void indexAll(Collection<Product> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+        synchronized (writeMonitor) {
+            lock.writeLock().lock();
+            try {
+                for (Product product : products) {
+                    index.add(product);
+                }
+                index.compactIfNeeded();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @Override
+    public void remove(ProductId id) {
+        synchronized (writeMonitor) {
+            lock.writeLock().lock();
+            try {
+                if (index.remove(id.getValue())) {
+                    index.compactIfNeeded();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @Override
+    public ProductSearchResult search(ProductSearchQuery query) {
+        lock.readLock().lock();
+        try {
+            return index.search(query, minPrefixLength, maxPrefixExpansions);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 全商品から索引を作り直して置き換え、索引に含まれる商品数を返す
+     * source は受け取った処理に全商品を順に渡す（読み込みは変更を止めている間に行うこと）
+     */
+    public int rebuild(Consumer<Consumer<Product>> source) {
+        synchronized (writeMonitor) {
+            InvertedIndex rebuilt = new InvertedIndex();
+            source.accept(rebuilt::add);
+            rebuilt.trim();
+
+            lock.writeLock().lock();
+            try {
+                index = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return rebuilt.size();
+        }
+    }
+
+    /**
+     * 索引に含まれる商品数
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 索引に含まれる語の数
+     */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return index.termCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
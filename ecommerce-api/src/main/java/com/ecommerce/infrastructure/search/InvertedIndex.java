@@ -0,0 +1,610 @@
+package com.ecommerce.infrastructure.search;
+
+import com.ecommerce.domain.model.CategoryId;
+import com.ecommerce.domain.model.Money;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductId;
+import com.ecommerce.domain.repository.ProductSearchQuery;
+import com.ecommerce.domain.repository.ProductSearchResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * InvertedIndex - 商品名・説明の転置索引
+ * スレッドセーフではない（排他は InMemoryProductSearchIndex で行う）
+ *
+ * 商品には追加順の連番（文書番号）を振り、語ごとの出現リストは文書番号の昇順の配列で持つ。
+ * 更新は古い文書番号を削除済みにして新しい番号で追加し、削除済みが一定の割合を超えたら詰め直す。
+ * 検索は出現リストの最も短い語を起点に、他の語の出現リストを二分探索で進めながら積集合を取る。
+ */
+final class InvertedIndex {
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    /**
+     * 商品名に含まれる語の重み（説明の語の何回分として数えるか）
+     */
+    static final int NAME_WEIGHT = 3;
+
+    /**
+     * 前方一致で展開した語（入力そのものと完全一致する語を除く）の得点の倍率
+     */
+    private static final float PREFIX_WEIGHT = 0.8f;
+
+    /**
+     * 前方一致で展開する語を選ぶために調べる語数の、展開数に対する倍率
+     */
+    private static final int PREFIX_SCAN_FACTOR = 16;
+
+    /**
+     * 詰め直しを行う削除済み文書数の下限
+     */
+    private static final int COMPACT_MIN_DELETED = 1024;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final TreeMap<String, Postings> terms = new TreeMap<>();
+    private final Map<Long, Integer> docsByProductId = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private long[] productIds = new long[INITIAL_CAPACITY];
+    private long[] categoryIds = new long[INITIAL_CAPACITY];
+    private long[] prices = new long[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    private int docCount;
+    private int deletedCount;
+    private long totalLength;
+
+    /**
+     * 索引に含まれる商品数（削除済みを除く）
+     */
+    int size() {
+        return docCount - deletedCount;
+    }
+
+    /**
+     * 索引に含まれる語の数
+     */
+    int termCount() {
+        return terms.size();
+    }
+
+    /**
+     * 商品を追加（登録済みの場合は古い文書を削除済みにして置き換える）
+     */
+    void add(Product product) {
+        long productId = product.getId().getValue();
+        Integer previous = docsByProductId.get(productId);
+        if (previous != null) {
+            markDeleted(previous);
+        }
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = count(frequencies, product.getName(), NAME_WEIGHT)
+            + count(frequencies, product.getDescription(), 1);
+
+        int doc = docCount++;
+        ensureCapacity(docCount);
+        productIds[doc] = productId;
+        categoryIds[doc] = product.getCategoryId().getValue();
+        prices[doc] = product.getPrice().getMinorUnits();
+        names[doc] = product.getName();
+        lengths[doc] = length;
+        totalLength += length;
+        docsByProductId.put(productId, doc);
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            terms.computeIfAbsent(entry.getKey(), term -> new Postings()).add(doc, entry.getValue());
+        }
+    }
+
+    /**
+     * 商品を削除（登録されていない場合は false）
+     */
+    boolean remove(long productId) {
+        Integer doc = docsByProductId.remove(productId);
+        if (doc == null) {
+            return false;
+        }
+        markDeleted(doc);
+        return true;
+    }
+
+    /**
+     * 削除済みの文書が残りの 1/4 を超えていれば詰め直す
+     */
+    void compactIfNeeded() {
+        if (deletedCount >= COMPACT_MIN_DELETED && deletedCount * 4L > size()) {
+            compact();
+        }
+    }
+
+    /**
+     * 削除済みの文書を取り除いて文書番号を振り直す（出現リストの昇順は保たれる）
+     */
+    void compact() {
+        int[] remap = new int[docCount];
+        int next = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (deleted.get(doc)) {
+                remap[doc] = -1;
+                continue;
+            }
+            remap[doc] = next;
+            productIds[next] = productIds[doc];
+            categoryIds[next] = categoryIds[doc];
+            prices[next] = prices[doc];
+            names[next] = names[doc];
+            lengths[next] = lengths[doc];
+            next++;
+        }
+        Arrays.fill(names, next, docCount, null);
+
+        Iterator<Postings> iterator = terms.values().iterator();
+        while (iterator.hasNext()) {
+            Postings postings = iterator.next();
+            postings.remap(remap);
+            if (postings.size == 0) {
+                iterator.remove();
+            }
+        }
+        docsByProductId.replaceAll((productId, doc) -> remap[doc]);
+        deleted.clear();
+        docCount = next;
+        deletedCount = 0;
+    }
+
+    /**
+     * 一括構築の後に配列の余りを切り詰める
+     */
+    void trim() {
+        productIds = Arrays.copyOf(productIds, docCount);
+        categoryIds = Arrays.copyOf(categoryIds, docCount);
+        prices = Arrays.copyOf(prices, docCount);
+        names = Arrays.copyOf(names, docCount);
+        lengths = Arrays.copyOf(lengths, docCount);
+        for (Postings postings : terms.values()) {
+            postings.trim();
+        }
+    }
+
+    /**
+     * 条件に一致する商品を関連度（BM25）の高い順に返す
+     */
+    ProductSearchResult search(ProductSearchQuery query, int minPrefixLength, int maxPrefixExpansions) {
+        List<String> tokens = SearchTokenizer.tokenize(query.getText());
+        if (tokens.isEmpty() || size() == 0) {
+            return ProductSearchResult.empty();
+        }
+
+        // 最後の語は入力途中とみなして前方一致、それ以外は完全一致
+        String last = tokens.get(tokens.size() - 1);
+        LinkedHashSet<String> exact = new LinkedHashSet<>(tokens.subList(0, tokens.size() - 1));
+        exact.remove(last);
+
+        List<Clause> clauses = new ArrayList<>(exact.size() + 1);
+        for (String term : exact) {
+            Postings postings = terms.get(term);
+            if (postings == null) {
+                return ProductSearchResult.empty();
+            }
+            clauses.add(new Clause(List.of(postings), postings, size()));
+        }
+        List<Postings> expansions = last.length() >= minPrefixLength
+            ? expand(last, maxPrefixExpansions)
+            : single(terms.get(last));
+        if (expansions.isEmpty()) {
+            return ProductSearchResult.empty();
+        }
+        clauses.add(new Clause(expansions, terms.get(last), size()));
+        clauses.sort(Comparator.comparingLong(Clause::cost));
+
+        long categoryId = query.getCategoryId() != null ? query.getCategoryId().getValue() : 0;
+        boolean filterCategory = query.getCategoryId() != null;
+        float averageLength = (float) totalLength / size();
+        TopHits top = new TopHits(query.getOffset() + query.getLimit());
+        long total = 0;
+
+        // 最も出現の少ない語の文書を候補とし、他の語を含まない文書を出現リストだけで除いてから得点を計算する
+        // （文書ごとの配列を参照するのは絞り込み後の文書だけにする）
+        Clause driver = clauses.get(0);
+        int[] candidates = driver.candidates();
+        int count = driver.candidateCount();
+        if (clauses.size() > 1) {
+            candidates = Arrays.copyOf(candidates, count);
+            for (int i = 1; i < clauses.size() && count > 0; i++) {
+                count = clauses.get(i).retain(candidates, count);
+            }
+        }
+        for (int c = 0; c < count; c++) {
+            int doc = candidates[c];
+            if (deleted.get(doc) || (filterCategory && categoryIds[doc] != categoryId)) {
+                continue;
+            }
+            float norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+            float score = 0;
+            for (Clause clause : clauses) {
+                score += clause.score(doc, norm);
+            }
+            total++;
+            top.offer(doc, score, productIds[doc]);
+        }
+
+        int[] docs = top.sortedDocs();
+        float[] scores = top.sortedScores();
+        List<ProductSearchResult.Hit> hits = new ArrayList<>();
+        for (int i = query.getOffset(); i < docs.length; i++) {
+            int doc = docs[i];
+            hits.add(new ProductSearchResult.Hit(
+                new ProductId(productIds[doc]),
+                names[doc],
+                Money.ofMinorUnits(prices[doc]),
+                new CategoryId(categoryIds[doc]),
+                scores[i]
+            ));
+        }
+        return new ProductSearchResult(total, hits);
+    }
+
+    /**
+     * 前方一致する語を最大 max 件に展開（完全一致する語を優先し、残りは出現数の多い順）
+     */
+    private List<Postings> expand(String prefix, int max) {
+        SortedMap<String, Postings> range = terms.subMap(prefix, prefix + Character.MAX_VALUE);
+        List<Postings> candidates = new ArrayList<>();
+        Postings exactMatch = null;
+        int scanned = 0;
+        for (Map.Entry<String, Postings> entry : range.entrySet()) {
+            if (++scanned > max * PREFIX_SCAN_FACTOR) {
+                break;
+            }
+            if (entry.getKey().equals(prefix)) {
+                exactMatch = entry.getValue();
+            } else {
+                candidates.add(entry.getValue());
+            }
+        }
+        candidates.sort(Comparator.comparingInt((Postings postings) -> postings.size).reversed());
+
+        List<Postings> expansions = new ArrayList<>(Math.min(max, candidates.size() + 1));
+        if (exactMatch != null) {
+            expansions.add(exactMatch);
+        }
+        for (Postings postings : candidates) {
+            if (expansions.size() >= max) {
+                break;
+            }
+            expansions.add(postings);
+        }
+        return expansions;
+    }
+
+    /**
+     * 昇順の配列の index 以降で doc 以上となる最初の位置（ギャロップ探索、見つからない場合は size）
+     */
+    static int advance(int[] docs, int size, int index, int doc) {
+        if (index >= size || docs[index] >= doc) {
+            return index;
+        }
+        int step = 1;
+        int low = index;
+        int high = index + step;
+        while (high < size && docs[high] < doc) {
+            low = high;
+            step <<= 1;
+            high = index + step;
+        }
+        int found = Arrays.binarySearch(docs, low + 1, Math.min(high + 1, size), doc);
+        return found >= 0 ? found : -found - 1;
+    }
+
+    private static List<Postings> single(Postings postings) {
+        return postings != null ? List.of(postings) : List.of();
+    }
+
+    private void markDeleted(int doc) {
+        deleted.set(doc);
+        deletedCount++;
+        totalLength -= lengths[doc];
+        names[doc] = null;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= productIds.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, productIds.length + (productIds.length >> 1));
+        productIds = Arrays.copyOf(productIds, newCapacity);
+        categoryIds = Arrays.copyOf(categoryIds, newCapacity);
+        prices = Arrays.copyOf(prices, newCapacity);
+        names = Arrays.copyOf(names, newCapacity);
+        lengths = Arrays.copyOf(lengths, newCapacity);
+    }
+
+    private static int count(Map<String, Integer> frequencies, String text, int weight) {
+        List<String> tokens = SearchTokenizer.tokenize(text);
+        for (String token : tokens) {
+            frequencies.merge(token, weight, Integer::sum);
+        }
+        return tokens.size() * weight;
+    }
+
+    /**
+     * 語の出現リスト（文書番号の昇順と、文書内の重み付き出現回数）
+     */
+    static final class Postings {
+        private static final int MAX_FREQUENCY = 255;
+
+        int[] docs = new int[2];
+        byte[] frequencies = new byte[2];
+        int size;
+
+        void add(int doc, int frequency) {
+            if (size == docs.length) {
+                int newCapacity = size + Math.max(2, size >> 1);
+                docs = Arrays.copyOf(docs, newCapacity);
+                frequencies = Arrays.copyOf(frequencies, newCapacity);
+            }
+            docs[size] = doc;
+            frequencies[size] = (byte) Math.min(frequency, MAX_FREQUENCY);
+            size++;
+        }
+
+        int frequency(int index) {
+            return frequencies[index] & 0xFF;
+        }
+
+        int advance(int index, int doc) {
+            return InvertedIndex.advance(docs, size, index, doc);
+        }
+
+        void remap(int[] remap) {
+            int next = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = remap[docs[i]];
+                if (doc >= 0) {
+                    docs[next] = doc;
+                    frequencies[next] = frequencies[i];
+                    next++;
+                }
+            }
+            size = next;
+        }
+
+        void trim() {
+            docs = Arrays.copyOf(docs, size);
+            frequencies = Arrays.copyOf(frequencies, size);
+        }
+    }
+
+    /**
+     * 検索語1つ分の照合（前方一致の場合は展開したいずれかの語を含めば一致）
+     * 候補の文書番号は昇順に渡されるため、各出現リストの位置は戻さずに進める
+     */
+    private static final class Clause {
+        private final List<Postings> postings;
+        private final float[] weights;
+        private final int[] positions;
+        private final long cost;
+        private int candidateCount;
+
+        /**
+         * @param exact 入力と完全一致する語の出現リスト（ない場合は null）
+         */
+        Clause(List<Postings> postings, Postings exact, int documents) {
+            this.postings = postings;
+            this.weights = new float[postings.size()];
+            this.positions = new int[postings.size()];
+            long total = 0;
+            for (int i = 0; i < postings.size(); i++) {
+                // 出現数は詰め直すまで削除済みの文書を含むため、文書数を上限にする
+                int df = Math.min(postings.get(i).size, documents);
+                float idf = (float) Math.log(1 + (documents - df + 0.5) / (df + 0.5));
+                weights[i] = postings.get(i) == exact ? idf : idf * PREFIX_WEIGHT;
+                total += postings.get(i).size;
+            }
+            this.cost = total;
+            this.candidateCount = postings.size() == 1 ? postings.get(0).size : 0;
+        }
+
+        long cost() {
+            return cost;
+        }
+
+        /**
+         * 候補となる文書番号（昇順、重複なし）
+         * 語が1つの場合は出現リストの配列をそのまま返すため、先頭から candidateCount 件だけを使う
+         */
+        int[] candidates() {
+            if (postings.size() == 1) {
+                return postings.get(0).docs;
+            }
+            int[] docs = new int[(int) cost];
+            int offset = 0;
+            for (Postings each : postings) {
+                System.arraycopy(each.docs, 0, docs, offset, each.size);
+                offset += each.size;
+            }
+            Arrays.sort(docs);
+            int unique = 0;
+            for (int i = 0; i < docs.length; i++) {
+                if (unique == 0 || docs[unique - 1] != docs[i]) {
+                    docs[unique++] = docs[i];
+                }
+            }
+            candidateCount = unique;
+            return docs;
+        }
+
+        int candidateCount() {
+            return candidateCount;
+        }
+
+        /**
+         * 候補（昇順）のうち、この語を含む文書だけを先頭に詰めて残し、その件数を返す
+         * 出現リストと候補の短い方を順に走査し、長い方をギャロップ探索で進める
+         */
+        int retain(int[] candidates, int count) {
+            boolean[] matched = new boolean[count];
+            for (Postings each : postings) {
+                if (each.size < count) {
+                    int position = 0;
+                    for (int i = 0; i < each.size && position < count; i++) {
+                        position = advance(candidates, count, position, each.docs[i]);
+                        if (position < count && candidates[position] == each.docs[i]) {
+                            matched[position] = true;
+                        }
+                    }
+                } else {
+                    int position = 0;
+                    for (int i = 0; i < count && position < each.size; i++) {
+                        position = each.advance(position, candidates[i]);
+                        if (position < each.size && each.docs[position] == candidates[i]) {
+                            matched[i] = true;
+                        }
+                    }
+                }
+            }
+            int retained = 0;
+            for (int i = 0; i < count; i++) {
+                if (matched[i]) {
+                    candidates[retained++] = candidates[i];
+                }
+            }
+            return retained;
+        }
+
+        /**
+         * 文書の得点（展開した語のうち最大のもの、一致しない場合は -1）
+         */
+        float score(int doc, float norm) {
+            float best = -1;
+            for (int i = 0; i < positions.length; i++) {
+                Postings each = postings.get(i);
+                int position = each.advance(positions[i], doc);
+                positions[i] = position;
+                if (position < each.size && each.docs[position] == doc) {
+                    int frequency = each.frequency(position);
+                    best = Math.max(best, weights[i] * frequency * (K1 + 1) / (frequency + norm));
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * 得点の上位 capacity 件を保持する最小ヒープ（同点は商品IDの小さい方を優先）
+     */
+    private static final class TopHits {
+        private final int[] docs;
+        private final float[] scores;
+        private final long[] ids;
+        private int size;
+        private int sortedSize = -1;
+
+        TopHits(int capacity) {
+            this.docs = new int[capacity];
+            this.scores = new float[capacity];
+            this.ids = new long[capacity];
+        }
+
+        void offer(int doc, float score, long id) {
+            if (size < docs.length) {
+                docs[size] = doc;
+                scores[size] = score;
+                ids[size] = id;
+                siftUp(size++);
+            } else if (worse(0, score, id)) {
+                docs[0] = doc;
+                scores[0] = score;
+                ids[0] = id;
+                siftDown(0);
+            }
+        }
+
+        /**
+         * 得点の高い順の文書番号
+         */
+        int[] sortedDocs() {
+            sort();
+            return Arrays.copyOf(docs, sortedSize);
+        }
+
+        /**
+         * sortedDocs と同じ順の得点
+         */
+        float[] sortedScores() {
+            sort();
+            return Arrays.copyOf(scores, sortedSize);
+        }
+
+        private void sort() {
+            if (sortedSize >= 0) {
+                return;
+            }
+            // ヒープの先頭（最小）を末尾へ移していくと、配列は得点の降順に並ぶ
+            sortedSize = size;
+            for (int end = size - 1; end > 0; end--) {
+                swap(0, end);
+                size = end;
+                siftDown(0);
+            }
+            size = 0;
+        }
+
+        /**
+         * i の要素が (score, id) より下位か
+         */
+        private boolean worse(int i, float score, long id) {
+            return scores[i] < score || (scores[i] == score && ids[i] > id);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!worse(i, scores[parent], ids[parent])) {
+                    break;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    return;
+                }
+                int right = left + 1;
+                int smallest = right < size && worse(right, scores[left], ids[left]) ? right : left;
+                if (!worse(smallest, scores[i], ids[i])) {
+                    return;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int doc = docs[a];
+            docs[a] = docs[b];
+            docs[b] = doc;
+            float score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+            long id = ids[a];
+            ids[a] = ids[b];
+            ids[b] = id;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.ecommerce.infrastructure.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProductFacetReconciler - 絞り込み索引（カテゴリごとの件数を含む）の定期的な照合
+ *
+ * 索引は保存・削除・在庫の増減のたびに差分で更新されるため、索引を経由しない DB の変更や
+ * 反映前の失敗、他のインスタンスでの変更があると件数がずれていく。
+ * 一定間隔で全商品をストリーミングで読み込んで索引を作り直し、ずれを解消する（間隔が 0 の場合は照合しない）。
+ */
+public class ProductFacetReconciler implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ProductFacetReconciler.class);
+
+    private final ProductSearchIndexLoader loader;
+    private final ScheduledExecutorService scheduler;
+    private volatile long lastDrift;
+
+    public ProductFacetReconciler(ProductSearchIndexLoader loader, Duration interval) {
+        if (interval.isNegative()) {
+            throw new IllegalArgumentException("Reconcile interval must not be negative");
+        }
+        this.loader = loader;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "facet-reconciler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = interval.toMillis();
+        if (millis == 0) {
+            return;
+        }
+        this.scheduler.scheduleWithFixedDelay(this::reconcile, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 直近の照合で見つかったカテゴリごとの件数のずれ
+     */
+    public long getLastDrift() {
+        return lastDrift;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void reconcile() {
+        try {
+            lastDrift = loader.reconcileFacets();
+        } catch (RuntimeException e) {
+            // 失敗しても古い索引はそのまま使えるため、次の照合で再試行する
+            log.warn("Failed to reconcile product facet index", e);
+        }
+    }
+}
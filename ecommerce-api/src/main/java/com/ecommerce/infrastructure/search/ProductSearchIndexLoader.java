@@ -0,0 +1,92 @@
+package com.ecommerce.infrastructure.search;
+
+import com.ecommerce.application.dto.ProductDTO;
+import com.ecommerce.domain.model.CategoryId;
+import com.ecommerce.domain.model.Money;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.infrastructure.persistence.jpa.ProductJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * ProductSearchIndexLoader - 商品検索索引と絞り込み索引の構築
+ *
+ * 起動時（Web サーバーが受付を始める前）に全商品を1回のストリーミングで読み込み、両方の索引を作る。
+ * エンティティではなく DTO で読み込むため、商品数に関係なく永続化コンテキストは大きくならない。
+ * 起動後の変更は ProductApplicationService が保存・削除のたびに、注文による在庫の増減は OrderApplicationService が索引へ反映する。
+ * 索引を経由しない変更によるずれは、絞り込み索引の定期的な照合（reconcileFacets）で解消する。
+ */
+@Component
+public class ProductSearchIndexLoader {
+    private static final Logger log = LoggerFactory.getLogger(ProductSearchIndexLoader.class);
+
+    private final InMemoryProductSearchIndex searchIndex;
+    private final InMemoryProductFacetIndex facetIndex;
+    private final ProductJpaRepository productJpaRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public ProductSearchIndexLoader(InMemoryProductSearchIndex searchIndex,
+                                    InMemoryProductFacetIndex facetIndex,
+                                    ProductJpaRepository productJpaRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.searchIndex = searchIndex;
+        this.facetIndex = facetIndex;
+        this.productJpaRepository = productJpaRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        load();
+    }
+
+    /**
+     * 全商品から両方の索引を作り直す
+     * 索引を経由せずに商品を追加・変更した後にも呼び出す
+     */
+    public void load() {
+        long started = System.nanoTime();
+        int documents = searchIndex.rebuild(searchSink -> facetIndex.rebuild(facetSink ->
+            scan(product -> {
+                searchSink.accept(product);
+                facetSink.accept(product);
+            })));
+        log.info("Built product search index: {} products, {} terms, {} facet bytes in {} ms",
+            documents, searchIndex.termCount(), facetIndex.sizeInBytes(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * 全商品から絞り込み索引だけを作り直し、保持していたカテゴリごとの件数とのずれを返す
+     * 読み込み中も索引の変更は止めない（ProductFacetReconciler が定期的に呼び出す）
+     */
+    public long reconcileFacets() {
+        long started = System.nanoTime();
+        long drift = facetIndex.reconcile(this::scan);
+        if (drift > 0) {
+            log.warn("Reconciled product facet index: category counts drifted by {} in {} ms",
+                drift, (System.nanoTime() - started) / 1_000_000);
+        } else {
+            log.debug("Reconciled product facet index: no drift in {} ms", (System.nanoTime() - started) / 1_000_000);
+        }
+        return drift;
+    }
+
+    /**
+     * 全商品を読み取り専用トランザクション内で1回のストリーミングで読み込み、順に渡す
+     */
+    private void scan(Consumer<Product> sink) {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<ProductDTO> stream = productJpaRepository.streamDTOs()) {
+                stream.map(ProductSearchIndexLoader::toProduct).forEach(sink);
+            }
+        });
+    }
+
+    private static Product toProduct(ProductDTO dto) {
+        return Product.restore(dto.getId(), dto.getName(), dto.getDescription(), new Money(dto.getPrice()),
+            dto.getStock(), new CategoryId(dto.getCategoryId()), null, null);
+    }
+}
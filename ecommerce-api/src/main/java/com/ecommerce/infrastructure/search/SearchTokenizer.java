@@ -0,0 +1,86 @@
+package com.ecommerce.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * SearchTokenizer - 検索用の語の切り出し
+ * NFKC 正規化（全角英数字・半角カナの統一）と小文字化の後、英数字の連続を1語とする。
+ * 空白で区切られない漢字・ひらがな・カタカナの連続は2文字ずつ（1文字だけの場合はその1文字）に分ける
+ */
+final class SearchTokenizer {
+    /**
+     * これより長い語は索引に含めない（型番の羅列やエンコード済み文字列など）
+     */
+    static final int MAX_TOKEN_LENGTH = 64;
+
+    private SearchTokenizer() {
+    }
+
+    /**
+     * 文字列を語に分割（出現順、重複を含む）
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int i = 0;
+        while (i < length) {
+            int codePoint = normalized.codePointAt(i);
+            if (isCjk(codePoint)) {
+                int start = i;
+                while (i < length && isCjk(normalized.codePointAt(i))) {
+                    i += Character.charCount(normalized.codePointAt(i));
+                }
+                addBigrams(tokens, normalized.substring(start, i));
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                int start = i;
+                while (i < length) {
+                    int next = normalized.codePointAt(i);
+                    if (!Character.isLetterOrDigit(next) || isCjk(next)) {
+                        break;
+                    }
+                    i += Character.charCount(next);
+                }
+                if (i - start <= MAX_TOKEN_LENGTH) {
+                    tokens.add(normalized.substring(start, i));
+                }
+            } else {
+                i += Character.charCount(codePoint);
+            }
+        }
+        return tokens;
+    }
+
+    private static void addBigrams(List<String> tokens, String run) {
+        int count = run.codePointCount(0, run.length());
+        if (count == 1) {
+            tokens.add(run);
+            return;
+        }
+        int start = 0;
+        for (int n = 0; n < count - 1; n++) {
+            int second = run.offsetByCodePoints(start, 1);
+            int end = run.offsetByCodePoints(second, 1);
+            tokens.add(run.substring(start, end));
+            start = second;
+        }
+    }
+
+    private static boolean isCjk(int codePoint) {
+        // 長音符（ー）は Common に分類されるため個別に扱う
+        if (codePoint == 'ー') {
+            return true;
+        }
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN
+            || script == Character.UnicodeScript.HIRAGANA
+            || script == Character.UnicodeScript.KATAKANA;
+    }
+}
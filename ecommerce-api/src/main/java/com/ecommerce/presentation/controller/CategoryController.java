@@ -1,14 +1,20 @@
 package com.ecommerce.presentation.controller;
 
 import com.ecommerce.application.dto.CategoryDTO;
+import com.ecommerce.application.dto.PageDTO;
 import com.ecommerce.application.service.CategoryApplicationService;
+import com.ecommerce.domain.model.Category;
+import com.ecommerce.domain.model.CategoryId;
+import com.ecommerce.domain.repository.CategoryProductCount;
+import com.ecommerce.domain.repository.PageQuery;
+import com.ecommerce.domain.repository.PageResult;
 import com.ecommerce.infrastructure.mapper.CategoryMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.util.Map;
 
 /**
  * CategoryController - Presentation層
@@ -23,12 +29,25 @@ public class CategoryController {
     private final CategoryMapper mapper;
 
     @GetMapping
-    public ResponseEntity<List<CategoryDTO>> getAllCategories() {
-        return ResponseEntity.ok(
-            applicationService.getAllCategories().stream()
-                .map(mapper::toDTO)
-                .toList()
-        );
+    public ResponseEntity<PageDTO<CategoryDTO>> getAllCategories(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "false") boolean withCounts) {
+        try {
+            PageQuery query = PageQuery.of(after, page, limit);
+            PageResult<Category> categories = applicationService.getCategoriesPage(query);
+            if (!withCounts) {
+                return ResponseEntity.ok(PageDTO.from(categories.map(mapper::toDTO)));
+            }
+
+            // 商品数は保持済みの件数から引くため、商品テーブルは集計しない
+            Map<CategoryId, CategoryProductCount> counts = applicationService.getProductCounts();
+            return ResponseEntity.ok(PageDTO.from(categories.<CategoryDTO>map(category -> mapper.toDTO(category,
+                counts.getOrDefault(category.getId(), CategoryProductCount.EMPTY)))));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/{id}")
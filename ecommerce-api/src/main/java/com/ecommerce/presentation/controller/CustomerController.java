@@ -1,15 +1,18 @@
 package com.ecommerce.presentation.controller;
 
 import com.ecommerce.application.dto.CustomerDTO;
+import com.ecommerce.application.dto.CustomerOrderHistoryDTO;
+import com.ecommerce.application.dto.OrderDTO;
+import com.ecommerce.application.dto.PageDTO;
 import com.ecommerce.application.service.CustomerApplicationService;
+import com.ecommerce.application.service.OrderApplicationService;
+import com.ecommerce.domain.repository.PageQuery;
 import com.ecommerce.infrastructure.mapper.CustomerMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 /**
  * CustomerController - Presentation層
  * HTTP リクエスト/レスポンスの処理
@@ -21,14 +24,21 @@ import java.util.List;
 public class CustomerController {
     private final CustomerApplicationService applicationService;
     private final CustomerMapper mapper;
+    private final OrderApplicationService orderApplicationService;
 
     @GetMapping
-    public ResponseEntity<List<CustomerDTO>> getAllCustomers() {
-        return ResponseEntity.ok(
-            applicationService.getAllCustomers().stream()
-                .map(mapper::toDTO)
-                .toList()
-        );
+    public ResponseEntity<PageDTO<CustomerDTO>> getAllCustomers(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            PageQuery query = PageQuery.of(after, page, limit);
+            return ResponseEntity.ok(
+                PageDTO.from(applicationService.getCustomersPage(query).map(mapper::toDTO))
+            );
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/{id}")
@@ -39,6 +49,33 @@ public class CustomerController {
             .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/{id}/order-summary")
+    public ResponseEntity<CustomerOrderHistoryDTO> getOrderSummary(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int recent) {
+        try {
+            return applicationService.getOrderHistory(id, recent)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/{id}/orders")
+    public ResponseEntity<PageDTO<OrderDTO>> getOrders(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            PageQuery query = PageQuery.of(after, page, limit);
+            return ResponseEntity.ok(PageDTO.from(orderApplicationService.getOrderDTOsPageByCustomer(id, query)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PostMapping
     public ResponseEntity<CustomerDTO> createCustomer(@RequestBody CustomerDTO customerDTO) {
         try {
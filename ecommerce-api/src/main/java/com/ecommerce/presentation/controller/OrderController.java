@@ -1,14 +1,20 @@
 package com.ecommerce.presentation.controller;
 
+import com.ecommerce.application.dto.BatchOrderResultDTO;
 import com.ecommerce.application.dto.OrderDTO;
+import com.ecommerce.application.dto.PageDTO;
 import com.ecommerce.application.service.OrderApplicationService;
+import com.ecommerce.domain.model.Order;
 import com.ecommerce.domain.model.OrderStatus;
+import com.ecommerce.domain.repository.PageQuery;
+import com.ecommerce.infrastructure.export.NdjsonExporter;
 import com.ecommerce.infrastructure.mapper.OrderMapper;
-import com.ecommerce.infrastructure.persistence.jpa.OrderJpaRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -24,43 +30,59 @@ import java.util.Map;
 public class OrderController {
     private final OrderApplicationService applicationService;
     private final OrderMapper mapper;
-    private final OrderJpaRepository jpaRepository;
+    private final NdjsonExporter exporter;
 
     @GetMapping
-    public ResponseEntity<List<OrderDTO>> getAllOrders() {
-        return ResponseEntity.ok(
-            jpaRepository.findAll().stream()
-                .map(mapper::toDTOWithCustomer)
-                .toList()
-        );
+    public ResponseEntity<PageDTO<OrderDTO>> getAllOrders(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            PageQuery query = PageQuery.of(after, page, limit);
+            return ResponseEntity.ok(PageDTO.from(applicationService.getOrderDTOsPage(query)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportOrders() {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(exporter::exportOrders);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<OrderDTO> getOrderById(@PathVariable Long id) {
-        return jpaRepository.findById(id)
-            .map(mapper::toDTOWithCustomer)
+        return applicationService.getOrderDTO(id)
             .map(ResponseEntity::ok)
             .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/customer/{customerId}")
-    public ResponseEntity<List<OrderDTO>> getOrdersByCustomer(@PathVariable Long customerId) {
-        return ResponseEntity.ok(
-            jpaRepository.findByCustomerId(customerId).stream()
-                .map(mapper::toDTOWithCustomer)
-                .toList()
-        );
+    public ResponseEntity<PageDTO<OrderDTO>> getOrdersByCustomer(
+            @PathVariable Long customerId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            PageQuery query = PageQuery.of(after, page, limit);
+            return ResponseEntity.ok(PageDTO.from(applicationService.getOrderDTOsPageByCustomer(customerId, query)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<OrderDTO>> getOrdersByStatus(@PathVariable String status) {
+    public ResponseEntity<PageDTO<OrderDTO>> getOrdersByStatus(
+            @PathVariable String status,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer limit) {
         try {
             OrderStatus orderStatus = OrderStatus.valueOf(status.toUpperCase());
-            return ResponseEntity.ok(
-                applicationService.getOrdersByStatus(orderStatus).stream()
-                    .map(mapper::toDTO)
-                    .toList()
-            );
+            PageQuery query = PageQuery.of(after, page, limit);
+            return ResponseEntity.ok(PageDTO.from(applicationService.getOrderDTOsPageByStatus(orderStatus, query)));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
@@ -79,19 +101,32 @@ public class OrderController {
                 ))
                 .toList();
 
-            applicationService.createOrder(customerId, orderItems);
+            Order order = applicationService.createOrder(customerId, orderItems);
 
-            // 作成した注文を取得して返却
-            return applicationService.getOrdersByCustomer(customerId).stream()
-                .max((o1, o2) -> o1.getCreatedAt().compareTo(o2.getCreatedAt()))
-                .map(mapper::toDTO)
-                .map(dto -> ResponseEntity.status(HttpStatus.CREATED).body(dto))
-                .orElse(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+            // 作成した注文をそのまま返却
+            return ResponseEntity.status(HttpStatus.CREATED).body(mapper.toDTO(order));
         } catch (IllegalArgumentException | IllegalStateException e) {
             return ResponseEntity.badRequest().build();
         }
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchOrderResultDTO>> createOrders(@RequestBody List<CreateOrderRequest> orders) {
+        try {
+            List<OrderApplicationService.OrderInput> inputs = orders.stream()
+                .map(OrderController::toInput)
+                .toList();
+
+            // 一部の注文が失敗しても、注文ごとの結果を入力順で返す
+            List<BatchOrderResultDTO> results = applicationService.createOrders(inputs).stream()
+                .map(mapper::toDTO)
+                .toList();
+            return ResponseEntity.ok(results);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PutMapping("/{id}/status")
     public ResponseEntity<OrderDTO> updateOrderStatus(
             @PathVariable Long id,
@@ -101,8 +136,7 @@ public class OrderController {
             OrderStatus status = OrderStatus.fromString(statusStr);
             applicationService.updateOrderStatus(id, status);
 
-            return jpaRepository.findById(id)
-                .map(mapper::toDTOWithCustomer)
+            return applicationService.getOrderDTO(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
         } catch (IllegalArgumentException | IllegalStateException e) {
@@ -120,6 +154,23 @@ public class OrderController {
         }
     }
 
+    /**
+     * 一括注文の1件分を OrderInput に変換（不正な要素は検証で失敗となるよう null のまま渡す）
+     */
+    private static OrderApplicationService.OrderInput toInput(CreateOrderRequest order) {
+        if (order == null) {
+            return null;
+        }
+        List<OrderApplicationService.OrderItemInput> items = order.getItems() == null ? null
+            : order.getItems().stream()
+                .map(item -> item == null ? null : new OrderApplicationService.OrderItemInput(
+                    item.getProductId(),
+                    item.getQuantity()
+                ))
+                .toList();
+        return new OrderApplicationService.OrderInput(order.getCustomerId(), items);
+    }
+
     /**
      * 注文作成時の入力DTO
      */
@@ -143,4 +194,28 @@ public class OrderController {
             this.quantity = quantity;
         }
     }
+
+    /**
+     * 一括注文の1件分の入力DTO
+     */
+    public static class CreateOrderRequest {
+        private Long customerId;
+        private List<CreateOrderItemRequest> items;
+
+        public Long getCustomerId() {
+            return customerId;
+        }
+
+        public void setCustomerId(Long customerId) {
+            this.customerId = customerId;
+        }
+
+        public List<CreateOrderItemRequest> getItems() {
+            return items;
+        }
+
+        public void setItems(List<CreateOrderItemRequest> items) {
+            this.items = items;
+        }
+    }
 }
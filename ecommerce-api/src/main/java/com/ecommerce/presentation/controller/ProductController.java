@@ -1,14 +1,29 @@
 package com.ecommerce.presentation.controller;
 
+import com.ecommerce.application.dto.PageDTO;
 import com.ecommerce.application.dto.ProductDTO;
+import com.ecommerce.application.dto.ProductSearchResultDTO;
 import com.ecommerce.application.service.ProductApplicationService;
+import com.ecommerce.domain.repository.PageQuery;
+import com.ecommerce.domain.repository.ProductFacetQuery;
+import com.ecommerce.domain.repository.ProductFacetResult;
+import com.ecommerce.domain.repository.ProductSearchQuery;
+import com.ecommerce.infrastructure.export.NdjsonExporter;
+import com.ecommerce.infrastructure.importer.ProductFeedFormat;
+import com.ecommerce.infrastructure.importer.ProductFeedImporter;
+import com.ecommerce.infrastructure.importer.ProductFeedReader;
 import com.ecommerce.infrastructure.mapper.ProductMapper;
-import com.ecommerce.infrastructure.persistence.jpa.ProductJpaRepository;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -22,32 +37,108 @@ import java.util.List;
 public class ProductController {
     private final ProductApplicationService applicationService;
     private final ProductMapper mapper;
-    private final ProductJpaRepository jpaRepository;
+    private final NdjsonExporter exporter;
+    private final ProductFeedImporter importer;
 
+    /**
+     * 商品一覧（ID 昇順）
+     * カテゴリ・価格帯・在庫ありのいずれかを指定した場合は絞り込み索引で絞り込み、
+     * 条件に一致した件数と絞り込み項目ごとの件数を加えて返す（キーセット方式のみ）
+     */
     @GetMapping
-    public ResponseEntity<List<ProductDTO>> getAllProducts() {
-        return ResponseEntity.ok(
-            jpaRepository.findAll().stream()
-                .map(mapper::toDTOWithCategory)
-                .toList()
-        );
+    public ResponseEntity<PageDTO<ProductDTO>> getAllProducts(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Boolean inStock) {
+        try {
+            if (categoryId != null || minPrice != null || maxPrice != null || inStock != null) {
+                if (page != null) {
+                    throw new IllegalArgumentException("Page is not supported with filters; use after");
+                }
+                ProductFacetQuery facetQuery = ProductFacetQuery.of(categoryId, minPrice, maxPrice, inStock, after, limit);
+                ProductFacetResult result = applicationService.filterProducts(facetQuery);
+                List<ProductDTO> items = applicationService.getProductDTOs(result.getIds());
+                return ResponseEntity.ok(mapper.toDTO(result, items));
+            }
+
+            PageQuery query = PageQuery.of(after, page, limit);
+            return ResponseEntity.ok(PageDTO.from(applicationService.getProductDTOsPage(query)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 商品名・説明の全文検索（関連度順、最後の語は前方一致）
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ProductSearchResultDTO> searchProducts(
+            @RequestParam String q,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Integer offset,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            ProductSearchQuery query = ProductSearchQuery.of(q, categoryId, offset, limit);
+            return ResponseEntity.ok(mapper.toDTO(applicationService.searchProducts(query)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportProducts() {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(exporter::exportProducts);
+    }
+
+    /**
+     * 商品フィード（CSV / NDJSON）の取り込み
+     * 行ごとのエラー・進捗・集計を NDJSON で逐次返す
+     */
+    @PostMapping(value = "/import",
+        consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE},
+        produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importProducts(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            HttpServletRequest request) throws IOException {
+        try {
+            ProductFeedFormat format = ProductFeedFormat.fromMediaType(MediaType.parseMediaType(contentType));
+            ProductFeedReader reader = importer.open(request.getInputStream(), format);
+            return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> importer.importFeed(reader, out));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<ProductDTO> getProductById(@PathVariable Long id) {
-        return jpaRepository.findById(id)
-            .map(mapper::toDTOWithCategory)
+        return applicationService.getProductDTO(id)
             .map(ResponseEntity::ok)
             .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * カテゴリ別の商品一覧（ID 昇順、ページング）
+     */
     @GetMapping("/category/{categoryId}")
-    public ResponseEntity<List<ProductDTO>> getProductsByCategory(@PathVariable Long categoryId) {
-        return ResponseEntity.ok(
-            jpaRepository.findByCategoryId(categoryId).stream()
-                .map(mapper::toDTOWithCategory)
-                .toList()
-        );
+    public ResponseEntity<PageDTO<ProductDTO>> getProductsByCategory(
+            @PathVariable Long categoryId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            PageQuery query = PageQuery.of(after, page, limit);
+            return ResponseEntity.ok(PageDTO.from(applicationService.getProductDTOsPageByCategory(categoryId, query)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @PostMapping
@@ -79,8 +170,7 @@ public class ProductController {
             applicationService.updateProduct(id, productDTO.getName(),
                 productDTO.getDescription(), productDTO.getPrice());
 
-            return jpaRepository.findById(id)
-                .map(mapper::toDTOWithCategory)
+            return applicationService.getProductDTO(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
         } catch (IllegalArgumentException e) {
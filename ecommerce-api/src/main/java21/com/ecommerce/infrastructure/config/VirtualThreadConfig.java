@@ -0,0 +1,33 @@
+package com.ecommerce.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.Executors;
+
+/**
+ * VirtualThreadConfig - リクエスト処理を仮想スレッドで行う構成（Java 21 ビルド専用）
+ *
+ * src/main/java21 にあり、mvn -Pjava21 でビルドした場合のみ含まれる。
+ * ecommerce.virtual-threads.enabled=true で Tomcat のリクエスト処理と MVC の非同期処理（エクスポート）を
+ * 仮想スレッドで実行する。DB の同時実行数は DbConcurrencyLimiterConfig のセマフォで接続プールの大きさに抑える。
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "ecommerce.virtual-threads", name = "enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    @Bean(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+    }
+}
@@ -0,0 +1,12 @@
+-- テーブル採番（PooledTableIdGenerator）の採番テーブルと、商品名の検索用の索引
+-- baseline-on-migrate で V1 を適用済みとした既存の DB にも作成されるよう、V1 とは分けて適用する
+-- 採番テーブルの値は起動時に IdGeneratorAligner が既存の最大 ID に合わせる
+
+CREATE TABLE id_generators (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val BIGINT,
+    PRIMARY KEY (sequence_name)
+);
+
+-- ProductJpaRepository.findByName
+CREATE INDEX idx_products_name ON products (name);
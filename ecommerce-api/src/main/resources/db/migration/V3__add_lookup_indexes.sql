@@ -0,0 +1,21 @@
+-- リポジトリの検索条件に合わせた索引
+-- InnoDB の二次索引は主キー（id）を含むため、(列, id) の索引は「WHERE 列 = ? ORDER BY id」をソートなしで返す。
+-- 外部キー列を先頭に持つ索引を作ると、MySQL が外部キー用に自動作成した索引はこれに置き換えられる
+
+-- ProductJpaRepository.findByCategoryId / findDTOsByCategoryId
+CREATE INDEX idx_products_category_id ON products (category_id, id);
+
+-- OrderJpaRepository.findByCustomerId / findViewPageByCustomerId
+CREATE INDEX idx_orders_customer_id ON orders (customer_id, id);
+
+-- OrderJpaRepository.findByStatus / findViewPageByStatus
+CREATE INDEX idx_orders_status ON orders (status, id);
+
+-- 期間指定での注文の絞り込み・新しい順の一覧
+CREATE INDEX idx_orders_created_at ON orders (created_at);
+
+-- OrderJpaRepository.findItemViewsByOrderIds と明細コレクションのバッチフェッチ（order_id IN (...)）
+CREATE INDEX idx_order_items_order_id ON order_items (order_id, id);
+
+-- 商品を参照する明細の検索（商品削除時の外部キー検査を含む）
+CREATE INDEX idx_order_items_product_id ON order_items (product_id);
@@ -0,0 +1,28 @@
+-- 顧客ごとの注文履歴の集計（読み取りモデル）
+-- 注文の保存・キャンセル・削除と同じトランザクションで OrderRepositoryImpl が更新する
+-- order_count はキャンセルを含む注文数、lifetime_spend はキャンセルを除く注文の合計金額
+
+CREATE TABLE customer_order_summaries (
+    customer_id BIGINT NOT NULL,
+    order_count BIGINT NOT NULL,
+    cancelled_count BIGINT NOT NULL,
+    lifetime_spend DECIMAL(38, 2) NOT NULL,
+    last_ordered_at DATETIME(6),
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (customer_id),
+    CONSTRAINT fk_customer_order_summaries_customer FOREIGN KEY (customer_id) REFERENCES customers (id) ON DELETE CASCADE
+);
+
+-- 既存の注文から作成
+INSERT INTO customer_order_summaries (customer_id, order_count, cancelled_count, lifetime_spend, last_ordered_at, updated_at)
+SELECT customer_id,
+       COUNT(*),
+       SUM(CASE WHEN status = 'CANCELLED' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN status = 'CANCELLED' THEN 0 ELSE total_price END),
+       MAX(created_at),
+       CURRENT_TIMESTAMP(6)
+FROM orders
+GROUP BY customer_id;
+
+-- 顧客ごとの新しい順の注文（直近の注文一覧と、注文の削除時の最終注文日時の再計算）
+CREATE INDEX idx_orders_customer_created_at ON orders (customer_id, created_at);
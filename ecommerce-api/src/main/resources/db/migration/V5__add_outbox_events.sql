@@ -0,0 +1,13 @@
+-- 送信待ちのドメインイベント（トランザクショナルアウトボックス）
+-- 集約の保存と同じトランザクションで OutboxWriter が書き込み、OutboxRelay が ID 順に配信してから削除する
+-- ID はテーブル採番ではなく AUTO_INCREMENT（集約の行ロックを取った後の INSERT 時に決まるため、同じ集約ではコミット順になる）
+
+CREATE TABLE outbox_events (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    occurred_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
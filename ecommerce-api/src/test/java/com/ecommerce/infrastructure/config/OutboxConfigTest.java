@@ -0,0 +1,72 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.infrastructure.outbox.FileOutboxEventSink;
+import com.ecommerce.infrastructure.outbox.OutboxEventSink;
+import com.ecommerce.infrastructure.outbox.OutboxRelay;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+/**
+ * OutboxConfig の配信先の選択のテスト
+ * 設定がなくても既定の配信先で起動し、none の場合は定義された OutboxEventSink の Bean を使うことを確認する
+ */
+class OutboxConfigTest {
+    @TempDir
+    Path dir;
+
+    private ApplicationContextRunner runner() {
+        return new ApplicationContextRunner()
+            .withUserConfiguration(OutboxConfig.class)
+            .withBean(JdbcTemplate.class, () -> mock(JdbcTemplate.class))
+            .withBean(PlatformTransactionManager.class, () -> mock(PlatformTransactionManager.class))
+            .withBean(ObjectMapper.class, ObjectMapper::new)
+            .withPropertyValues("ecommerce.outbox.poll-interval=0",
+                "ecommerce.outbox.file-path=" + dir.resolve("outbox-events.ndjson"));
+    }
+
+    @Test
+    void startsWithTheFileSinkByDefault() {
+        runner().run(context -> {
+            assertInstanceOf(FileOutboxEventSink.class, context.getBean(OutboxEventSink.class));
+            assertNotNull(context.getBean(OutboxRelay.class));
+        });
+    }
+
+    @Test
+    void usesTheDefinedSinkWhenBuiltInSinksAreDisabled() {
+        OutboxEventSink custom = events -> { };
+        runner()
+            .withPropertyValues("ecommerce.outbox.sink=none")
+            .withBean(OutboxEventSink.class, () -> custom)
+            .run(context -> {
+                assertSame(custom, context.getBean(OutboxEventSink.class));
+                assertNotNull(context.getBean(OutboxRelay.class));
+            });
+    }
+
+    @Test
+    void failsWithoutAnySink() {
+        runner()
+            .withPropertyValues("ecommerce.outbox.sink=none")
+            .run(context -> assertInstanceOf(IllegalStateException.class, rootCause(context.getStartupFailure())));
+    }
+
+    private static Throwable rootCause(Throwable failure) {
+        Throwable cause = failure;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
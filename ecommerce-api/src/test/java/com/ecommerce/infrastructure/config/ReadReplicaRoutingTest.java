@@ -0,0 +1,181 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.application.service.CategoryApplicationService;
+import com.ecommerce.application.service.CustomerApplicationService;
+import com.ecommerce.application.service.ProductApplicationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 読み取りレプリカへのルーティングのテスト
+ * プライマリとレプリカは同じ H2 の DB を指し、文を実行した接続プールの名前で振り分けを確認する
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.open-in-view=false",
+    "ecommerce.datasource.replica.enabled=true",
+    "ecommerce.datasource.replica.jdbc-url=jdbc:h2:mem:ecommerce_test;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+    "ecommerce.datasource.replica.username=sa",
+    "ecommerce.datasource.replica.password=",
+    "ecommerce.datasource.replica.driver-class-name=org.h2.Driver"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReadReplicaRoutingTest {
+    private static final String PRIMARY = "primaryDataSource";
+    private static final String REPLICA = "replicaDataSource";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RecordingListener statements;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CategoryApplicationService categoryService;
+
+    @Autowired
+    private ProductApplicationService productService;
+
+    @Autowired
+    private CustomerApplicationService customerService;
+
+    private Long customerId;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = Long.toString(System.nanoTime());
+        categoryService.createCategory("Routing " + suffix, "routing test");
+        Long categoryId = categoryService.getCategoryByName("Routing " + suffix).orElseThrow().getId().getValue();
+        productService.createProduct("Routing item " + suffix, "routing test", new BigDecimal("3.00"), 10, categoryId);
+        productId = productService.getProductByName("Routing item " + suffix).orElseThrow().getId().getValue();
+        customerService.createCustomer("Routing", "Test", "routing" + suffix + "@example.com", "tel-" + suffix,
+            "1-1", "Chiyoda", "Tokyo", "100-0001");
+        customerId = customerService.getCustomerByEmail("routing" + suffix + "@example.com").orElseThrow().getId().getValue();
+        statements.clear();
+    }
+
+    @Test
+    void writeRequestRunsItsReadsAndWritesOnThePrimary() throws Exception {
+        mockMvc.perform(post("/api/orders")
+                .param("customerId", customerId.toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"productId\": " + productId + ", \"quantity\": 1}]"))
+            .andExpect(status().isCreated());
+
+        List<String> primary = statements.on(PRIMARY);
+        assertTrue(primary.stream().anyMatch(sql -> sql.startsWith("select")), "existence checks: " + primary);
+        assertTrue(primary.stream().anyMatch(sql -> sql.startsWith("insert into orders")), "order insert: " + primary);
+        assertTrue(primary.stream().anyMatch(sql -> sql.startsWith("update products")), "stock update: " + primary);
+        assertEquals(List.of(), statements.on(REPLICA));
+    }
+
+    @Test
+    void readRequestRunsOnTheReplica() throws Exception {
+        MvcResult created = mockMvc.perform(post("/api/orders")
+                .param("customerId", customerId.toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"productId\": " + productId + ", \"quantity\": 1}]"))
+            .andExpect(status().isCreated())
+            .andReturn();
+        long orderId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+        statements.clear();
+
+        mockMvc.perform(get("/api/orders/{id}", orderId))
+            .andExpect(status().isOk());
+
+        assertFalse(statements.on(REPLICA).isEmpty());
+        assertEquals(List.of(), statements.on(PRIMARY));
+    }
+
+    @Test
+    void routingRefusesOpenInView() {
+        assertThrows(IllegalStateException.class, () -> new ReadReplicaDataSourceConfig(true));
+    }
+
+    /**
+     * 実行された文を接続プールの名前とともに記録する
+     */
+    static class RecordingListener implements QueryExecutionListener {
+        private final List<String[]> executed = new ArrayList<>();
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public synchronized void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            for (QueryInfo query : queryInfoList) {
+                executed.add(new String[] {execInfo.getDataSourceName(), query.getQuery().trim().toLowerCase()});
+            }
+        }
+
+        synchronized List<String> on(String dataSourceName) {
+            return executed.stream()
+                .filter(entry -> entry[0].equals(dataSourceName))
+                .map(entry -> entry[1])
+                .toList();
+        }
+
+        synchronized void clear() {
+            executed.clear();
+        }
+    }
+
+    @TestConfiguration
+    static class RecordingConfig {
+        private static final RecordingListener LISTENER = new RecordingListener();
+
+        @Bean
+        RecordingListener recordingListener() {
+            return LISTENER;
+        }
+
+        @Bean
+        static BeanPostProcessor recordingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)
+                            || !(PRIMARY.equals(beanName) || REPLICA.equals(beanName))) {
+                        return bean;
+                    }
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                        .listener(LISTENER)
+                        .build();
+                }
+            };
+        }
+    }
+}
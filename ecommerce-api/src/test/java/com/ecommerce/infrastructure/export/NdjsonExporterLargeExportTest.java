@@ -0,0 +1,110 @@
+package com.ecommerce.infrastructure.export;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 全件エクスポートのメモリ使用量のテスト
+ * 小さなヒープ（pom.xml の large-export 実行で -Xmx128m）で、ヒープに収まらない件数の商品を
+ * 最後まで書き出せることを確認する。データはヒープの外に置くため H2 のファイル DB を使う
+ */
+@Tag("large-export")
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:file:./target/large-export;MODE=MySQL;DATABASE_TO_LOWER=TRUE"
+})
+@ActiveProfiles("test")
+class NdjsonExporterLargeExportTest {
+    private static final int PRODUCTS = 200_000;
+    private static final long FIRST_ID = 1_000_000L;
+    private static final String DESCRIPTION = "x".repeat(1000);
+
+    static {
+        // 前回の実行で作った DB は使わない（コンテキストの起動前に削除する）
+        try {
+            Files.deleteIfExists(Path.of("target", "large-export.mv.db"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Autowired
+    private NdjsonExporter exporter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void exportsMoreProductsThanFitInTheHeap() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO categories (id, name, description, created_at) VALUES (?, ?, ?, ?)",
+            FIRST_ID, "Large export", "large export test", now);
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            long id = FIRST_ID + i;
+            batch.add(new Object[] {id, "Large export item " + id, id + DESCRIPTION, "19.99", 10, FIRST_ID, now});
+            if (batch.size() == 5_000) {
+                insertProducts(batch);
+                batch.clear();
+            }
+        }
+        insertProducts(batch);
+
+        LineCounter out = new LineCounter();
+        exporter.exportProducts(out);
+
+        assertEquals(PRODUCTS, out.lines);
+        // 書き出した量がヒープの上限を超えていなければ、全件をメモリに載せても通ってしまうため確認にならない
+        long maxHeap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getMax();
+        assertTrue(out.bytes > maxHeap,
+            "exported " + (out.bytes >> 20) + " MB, which must exceed the " + (maxHeap >> 20) + " MB heap");
+    }
+
+    private void insertProducts(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("INSERT INTO products (id, name, description, price, stock, category_id, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    /**
+     * 書き出された内容を保持せず、行数とバイト数だけを数える
+     */
+    private static class LineCounter extends OutputStream {
+        private long lines;
+        private long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.ecommerce.infrastructure.metrics;
+
+import com.ecommerce.application.service.CategoryApplicationService;
+import com.ecommerce.application.service.CustomerApplicationService;
+import com.ecommerce.application.service.OrderApplicationService;
+import com.ecommerce.application.service.ProductApplicationService;
+import com.ecommerce.infrastructure.config.SqlMetricsProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SQL 文の上限の検査のテスト
+ * fail-on-budget-exceeded が有効な場合に上限を超えたリクエストが失敗すること、
+ * 非同期処理（エクスポート）の SQL もリクエストの集計に含まれることを確認する
+ */
+@SpringBootTest(properties = {
+    "ecommerce.sql-metrics.response-headers=true",
+    "ecommerce.sql-metrics.fail-on-budget-exceeded=true"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QueryStatsBudgetTest {
+    private static final String ORDER_BY_ID = "GET /api/orders/{id}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SqlMetricsProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CategoryApplicationService categoryService;
+
+    @Autowired
+    private ProductApplicationService productService;
+
+    @Autowired
+    private CustomerApplicationService customerService;
+
+    @Autowired
+    private OrderApplicationService orderService;
+
+    private Long orderId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = Long.toString(System.nanoTime());
+        categoryService.createCategory("Budget " + suffix, "budget test");
+        Long categoryId = categoryService.getCategoryByName("Budget " + suffix).orElseThrow().getId().getValue();
+        productService.createProduct("Budget item " + suffix, "budget test", new BigDecimal("4.00"), 10, categoryId);
+        Long productId = productService.getProductByName("Budget item " + suffix).orElseThrow().getId().getValue();
+        customerService.createCustomer("Budget", "Test", "budget" + suffix + "@example.com", "tel-" + suffix,
+            "1-1", "Chiyoda", "Tokyo", "100-0001");
+        Long customerId = customerService.getCustomerByEmail("budget" + suffix + "@example.com").orElseThrow()
+            .getId().getValue();
+        orderId = orderService.createOrder(customerId, List.of(new OrderApplicationService.OrderItemInput(productId, 1)))
+            .getId().getValue();
+    }
+
+    @Test
+    void orderByIdWithinBudgetSucceeds() throws Exception {
+        mockMvc.perform(get("/api/orders/{id}", orderId))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-SQL-Statements", String.valueOf(properties.getBudgets().get(ORDER_BY_ID))));
+    }
+
+    @Test
+    void orderByIdOverBudgetFails() {
+        Integer budget = properties.getBudgets().get(ORDER_BY_ID);
+        properties.getBudgets().put(ORDER_BY_ID, budget - 1);
+        try {
+            ServletException e = assertThrows(ServletException.class,
+                () -> mockMvc.perform(get("/api/orders/{id}", orderId)));
+            assertTrue(e.getCause() instanceof IllegalStateException);
+            assertEquals(String.format("SQL budget exceeded for %s: %d statements (budget %d)",
+                ORDER_BY_ID, budget, budget - 1), e.getCause().getMessage());
+        } finally {
+            properties.getBudgets().put(ORDER_BY_ID, budget);
+        }
+    }
+
+    @Test
+    void exportStatementsOnTheAsyncThreadAreCounted() throws Exception {
+        DistributionSummary summary = meterRegistry.summary("ecommerce.http.sql.statements",
+            "controller", "OrderController.exportOrders");
+        long before = summary.count();
+        double statementsBefore = summary.totalAmount();
+
+        MvcResult started = mockMvc.perform(get("/api/orders/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk());
+
+        assertEquals(before + 1, summary.count());
+        assertTrue(summary.totalAmount() - statementsBefore >= 1, "export statements were not counted");
+    }
+}
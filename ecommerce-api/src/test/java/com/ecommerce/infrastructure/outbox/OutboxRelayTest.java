@@ -0,0 +1,207 @@
+package com.ecommerce.infrastructure.outbox;
+
+import com.ecommerce.application.service.CategoryApplicationService;
+import com.ecommerce.application.service.CustomerApplicationService;
+import com.ecommerce.application.service.OrderApplicationService;
+import com.ecommerce.application.service.ProductApplicationService;
+import com.ecommerce.domain.model.OrderStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * OutboxRelay のテスト
+ * 集約ごとの配信順序と、配信先の失敗後に同じイベントから送り直すこと（少なくとも1回の配信）を確認する
+ */
+@SpringBootTest(properties = {
+    "ecommerce.outbox.sink=recording",
+    "ecommerce.outbox.batch-size=2"
+})
+@ActiveProfiles("test")
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private RecordingSink sink;
+
+    @Autowired
+    private OrderApplicationService orderService;
+
+    @Autowired
+    private ProductApplicationService productService;
+
+    @Autowired
+    private CategoryApplicationService categoryService;
+
+    @Autowired
+    private CustomerApplicationService customerService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long customerId;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = Long.toString(System.nanoTime());
+        categoryService.createCategory("Outbox " + suffix, "outbox test");
+        Long categoryId = categoryService.getCategoryByName("Outbox " + suffix).orElseThrow().getId().getValue();
+        productService.createProduct("Outbox item " + suffix, "outbox test", new BigDecimal("5.00"), 100, categoryId);
+        productId = productService.getProductByName("Outbox item " + suffix).orElseThrow().getId().getValue();
+        customerService.createCustomer("Outbox", "Test", "outbox" + suffix + "@example.com", "tel-" + suffix,
+            "1-1", "Chiyoda", "Tokyo", "100-0001");
+        customerId = customerService.getCustomerByEmail("outbox" + suffix + "@example.com").orElseThrow().getId().getValue();
+
+        relay.drain();
+        sink.reset();
+    }
+
+    @Test
+    void eventsOfEachAggregateAreDeliveredInCommitOrder() {
+        Long first = placeOrder();
+        Long second = placeOrder();
+        Long third = placeOrder();
+
+        // 集約をまたいで変更を交互に行う
+        orderService.updateOrderStatus(first, OrderStatus.CONFIRMED);
+        orderService.updateOrderStatus(second, OrderStatus.CONFIRMED);
+        orderService.updateOrderStatus(first, OrderStatus.SHIPPED);
+        orderService.cancelOrder(third);
+        orderService.updateOrderStatus(second, OrderStatus.SHIPPED);
+        orderService.updateOrderStatus(first, OrderStatus.DELIVERED);
+
+        relay.drain();
+
+        List<OutboxEvent> delivered = sink.delivered();
+        for (int i = 1; i < delivered.size(); i++) {
+            assertTrue(delivered.get(i - 1).getId() < delivered.get(i).getId(), "events must be relayed in id order");
+        }
+
+        Map<Long, List<String>> byOrder = new HashMap<>();
+        for (OutboxEvent event : delivered) {
+            if (OutboxWriter.ORDER.equals(event.getAggregateType())) {
+                byOrder.computeIfAbsent(event.getAggregateId(), id -> new ArrayList<>()).add(describe(event));
+            }
+        }
+        assertEquals(List.of("OrderCreated", "OrderStatusChanged:CONFIRMED", "OrderStatusChanged:SHIPPED",
+            "OrderStatusChanged:DELIVERED"), byOrder.get(first));
+        assertEquals(List.of("OrderCreated", "OrderStatusChanged:CONFIRMED", "OrderStatusChanged:SHIPPED"),
+            byOrder.get(second));
+        assertEquals(List.of("OrderCreated", "OrderCancelled"), byOrder.get(third));
+    }
+
+    @Test
+    void failedBatchIsRedeliveredFromTheSameEvent() {
+        placeOrder();
+        placeOrder();
+        int pending = outboxSize();
+        assertTrue(pending > 2, "expected more than one batch of events");
+
+        sink.failNext();
+        assertThrows(IllegalStateException.class, () -> relay.relayBatch());
+
+        // 失敗したバッチは削除されずに残る
+        assertEquals(pending, outboxSize());
+        List<Long> attempted = sink.attemptedIds();
+        assertEquals(2, attempted.size());
+        assertTrue(sink.delivered().isEmpty());
+
+        relay.drain();
+
+        assertEquals(0, outboxSize());
+        List<Long> delivered = sink.delivered().stream().map(OutboxEvent::getId).toList();
+        assertEquals(pending, delivered.size());
+        assertEquals(attempted, delivered.subList(0, attempted.size()));
+        assertFalse(delivered.stream().collect(Collectors.groupingBy(id -> id, Collectors.counting()))
+            .values().stream().anyMatch(count -> count > 1));
+    }
+
+    private Long placeOrder() {
+        return orderService.createOrder(customerId, List.of(new OrderApplicationService.OrderItemInput(productId, 1)))
+            .getId().getValue();
+    }
+
+    private int outboxSize() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Integer.class);
+    }
+
+    private String describe(OutboxEvent event) {
+        if (!"OrderStatusChanged".equals(event.getEventType())) {
+            return event.getEventType();
+        }
+        try {
+            return event.getEventType() + ":" + objectMapper.readTree(event.getPayload()).get("status").asText();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 渡されたバッチを記録し、指定された回だけ失敗する配信先
+     */
+    static class RecordingSink implements OutboxEventSink {
+        private final List<OutboxEvent> delivered = new ArrayList<>();
+        private final List<Long> attemptedIds = new ArrayList<>();
+        private boolean failNext;
+
+        @Override
+        public synchronized void publish(List<OutboxEvent> events) {
+            if (failNext) {
+                failNext = false;
+                events.forEach(event -> attemptedIds.add(event.getId()));
+                throw new IllegalStateException("Sink unavailable");
+            }
+            delivered.addAll(events);
+        }
+
+        synchronized void failNext() {
+            failNext = true;
+        }
+
+        synchronized List<OutboxEvent> delivered() {
+            return List.copyOf(delivered);
+        }
+
+        synchronized List<Long> attemptedIds() {
+            return List.copyOf(attemptedIds);
+        }
+
+        synchronized void reset() {
+            delivered.clear();
+            attemptedIds.clear();
+            failNext = false;
+        }
+    }
+
+    @TestConfiguration
+    static class SinkConfig {
+        @Bean
+        RecordingSink recordingSink() {
+            return new RecordingSink();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.ecommerce.infrastructure.persistence;
+
+import com.ecommerce.application.service.CategoryApplicationService;
+import com.ecommerce.application.service.ProductApplicationService;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductId;
+import com.ecommerce.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 商品キャッシュの無効化のテスト
+ * 更新したトランザクションのコミット後に無効化され、コミット前に古い行で埋め直されたエントリが残らないこと、
+ * ロールバック時は無効化されないこと、他のトランザクションでの削除が exists に反映されることを確認する
+ */
+@SpringBootTest(properties = {
+    "ecommerce.catalog-cache.products.enabled=true",
+    "ecommerce.catalog-cache.products.stock-ttl=5m"
+})
+@ActiveProfiles("test")
+class CachingProductRepositoryTest {
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductApplicationService productService;
+
+    @Autowired
+    private CategoryApplicationService categoryService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String name;
+    private ProductId productId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = Long.toString(System.nanoTime());
+        categoryService.createCategory("Cache " + suffix, "cache test");
+        Long categoryId = categoryService.getCategoryByName("Cache " + suffix).orElseThrow().getId().getValue();
+        name = "Cache item " + suffix;
+        productService.createProduct(name, "cache test", new BigDecimal("3.00"), 10, categoryId);
+        productId = productService.getProductByName(name).orElseThrow().getId();
+    }
+
+    @Test
+    void entryReloadedBeforeCommitIsInvalidatedAfterCommit() {
+        assertEquals(name, cachedName());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            productService.updateProduct(productId.getValue(), name + " renamed", null, null);
+            // 更新したトランザクション自身は新しい内容を読む
+            assertEquals(name + " renamed", cachedName());
+            // コミット前に別のスレッドが古い行を読み、キャッシュを埋め直す
+            assertEquals(name, CompletableFuture.supplyAsync(this::cachedName).join());
+        });
+
+        assertEquals(name + " renamed", cachedName());
+    }
+
+    @Test
+    void rolledBackUpdateKeepsTheCachedEntry() {
+        assertEquals(name, cachedName());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            productService.updateProduct(productId.getValue(), name + " renamed", null, null);
+            status.setRollbackOnly();
+        });
+
+        assertTrue(isCached());
+        assertEquals(name, cachedName());
+    }
+
+    @Test
+    void existsReflectsDeletionInAnotherTransaction() {
+        assertEquals(name, cachedName());
+
+        jdbcTemplate.update("DELETE FROM products WHERE id = ?", productId.getValue());
+
+        assertFalse(productRepository.exists(productId));
+    }
+
+    private String cachedName() {
+        return productRepository.findById(productId).map(Product::getName).orElseThrow();
+    }
+
+    private boolean isCached() {
+        return ((CachingProductRepository) productRepository).caches().get("products").asMap().containsKey(productId);
+    }
+}
@@ -0,0 +1,126 @@
+package com.ecommerce.infrastructure.persistence;
+
+import com.ecommerce.application.service.CategoryApplicationService;
+import com.ecommerce.application.service.CustomerApplicationService;
+import com.ecommerce.application.service.OrderApplicationService;
+import com.ecommerce.application.service.ProductApplicationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 関連の読み込みで N+1 が起きないことを、リクエストごとの SQL 文の数（X-SQL-Statements）で確認する
+ * 明細や商品の件数を増やしても文の数が変わらないことを見る
+ */
+@SpringBootTest(properties = {
+    "ecommerce.sql-metrics.response-headers=true",
+    "ecommerce.sql-metrics.fail-on-budget-exceeded=true"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class FetchQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CategoryApplicationService categoryService;
+
+    @Autowired
+    private ProductApplicationService productService;
+
+    @Autowired
+    private CustomerApplicationService customerService;
+
+    @Autowired
+    private OrderApplicationService orderService;
+
+    private Long categoryId;
+    private Long customerId;
+    private final List<Long> productIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        String suffix = Long.toString(System.nanoTime());
+        categoryService.createCategory("Fetch " + suffix, "fetch test");
+        categoryId = categoryService.getCategoryByName("Fetch " + suffix).orElseThrow().getId().getValue();
+        for (int i = 0; i < 5; i++) {
+            String name = "Fetch item " + suffix + "-" + i;
+            productService.createProduct(name, "fetch test", new BigDecimal("2.50"), 100, categoryId);
+            productIds.add(productService.getProductByName(name).orElseThrow().getId().getValue());
+        }
+        customerService.createCustomer("Fetch", "Test", "fetch" + suffix + "@example.com", "tel-" + suffix,
+            "1-1", "Chiyoda", "Tokyo", "100-0001");
+        customerId = customerService.getCustomerByEmail("fetch" + suffix + "@example.com").orElseThrow().getId().getValue();
+    }
+
+    @Test
+    void orderByIdLoadsItemsAndCustomerInFixedStatements() throws Exception {
+        long single = placeOrder(1);
+        long many = placeOrder(5);
+
+        assertEquals(2, statements("/api/orders/" + single));
+        assertEquals(2, statements("/api/orders/" + many));
+    }
+
+    @Test
+    void customerAndStatusOrderPagesLoadItemsInFixedStatements() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            placeOrder(5);
+        }
+
+        assertEquals(2, statements("/api/orders/customer/" + customerId + "?limit=1"));
+        assertEquals(2, statements("/api/orders/customer/" + customerId + "?limit=3"));
+        assertEquals(2, statements("/api/orders/status/pending?limit=1"));
+        assertEquals(2, statements("/api/orders/status/pending?limit=3"));
+    }
+
+    @Test
+    void productListLoadsCategoriesWithoutExtraStatements() throws Exception {
+        assertEquals(1, statements("/api/products?limit=1"));
+        assertEquals(1, statements("/api/products?limit=50"));
+    }
+
+    @Test
+    void categoryProductListIsPagedInOneStatement() throws Exception {
+        assertEquals(1, statements("/api/products/category/" + categoryId + "?limit=2"));
+        assertEquals(1, statements("/api/products/category/" + categoryId + "?limit=50"));
+
+        mockMvc.perform(get("/api/products/category/" + categoryId + "?limit=2&after=" + productIds.get(1)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items.length()").value(2))
+            .andExpect(jsonPath("$.items[0].id").value(productIds.get(2)))
+            .andExpect(jsonPath("$.hasNext").value(true))
+            .andExpect(jsonPath("$.nextCursor").value(productIds.get(3)));
+    }
+
+    private long placeOrder(int items) {
+        List<OrderApplicationService.OrderItemInput> inputs = new ArrayList<>();
+        for (int i = 0; i < items; i++) {
+            inputs.add(new OrderApplicationService.OrderItemInput(productIds.get(i), 1));
+        }
+        return orderService.createOrder(customerId, inputs).getId().getValue();
+    }
+
+    private int statements(String uri) throws Exception {
+        String header = mockMvc.perform(get(uri))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader("X-SQL-Statements");
+        return Integer.parseInt(header);
+    }
+}
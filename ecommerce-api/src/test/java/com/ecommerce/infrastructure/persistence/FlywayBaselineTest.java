@@ -0,0 +1,75 @@
+package com.ecommerce.infrastructure.persistence;
+
+import com.ecommerce.application.service.CategoryApplicationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Flyway の導入前に作成された DB のマイグレーションのテスト
+ * V1 のスキーマと IDENTITY 採番の行だけがある DB を baseline-on-migrate で V1 として扱い、
+ * V2 以降の適用後にエンティティの検証（ddl-auto: validate）を通って起動し、テーブル採番で保存できることを確認する
+ * 検証は本番と同じ MySQL の方言で行う（H2Dialect は列挙型の列に ENUM ではなく VARCHAR を期待する）
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=" + FlywayBaselineTest.URL,
+    "spring.jpa.hibernate.ddl-auto=validate",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect"
+})
+@ActiveProfiles("test")
+class FlywayBaselineTest {
+    static final String URL = "jdbc:h2:mem:ecommerce_baseline;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final long EXISTING_CATEGORY_ID = 42;
+
+    static {
+        // コンテキストの起動前に、Flyway の導入前の DB を再現する
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/V1__baseline_schema.sql"));
+            statement.execute("INSERT INTO categories (id, name, description, created_at) "
+                + "VALUES (" + EXISTING_CATEGORY_ID + ", 'Existing', 'created before Flyway', CURRENT_TIMESTAMP)");
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CategoryApplicationService categoryService;
+
+    @Test
+    void existingDatabaseIsBaselinedAtV1AndMigratedFromV2() {
+        List<Map<String, Object>> history = jdbcTemplate.queryForList(
+            "SELECT version, type, success FROM flyway_schema_history "
+                + "WHERE version IS NOT NULL ORDER BY installed_rank");
+
+        assertEquals(List.of("1", "2", "3", "4", "5"), history.stream().map(row -> row.get("version")).toList());
+        assertEquals("BASELINE", history.get(0).get("type"));
+        assertTrue(history.stream().skip(1).allMatch(row -> "SQL".equals(row.get("type"))));
+        assertTrue(history.stream().allMatch(row -> Boolean.TRUE.equals(row.get("success"))));
+    }
+
+    @Test
+    void tableGeneratedIdsFollowExistingRows() {
+        categoryService.createCategory("Migrated", "created after the migration");
+
+        Long id = categoryService.getCategoryByName("Migrated").orElseThrow().getId().getValue();
+        assertTrue(id > EXISTING_CATEGORY_ID, "id " + id + " must not collide with existing rows");
+    }
+}
@@ -0,0 +1,61 @@
+package com.ecommerce.infrastructure.persistence;
+
+import com.ecommerce.application.service.CategoryApplicationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * テーブル採番の接続のテスト
+ * 接続プールの接続がすべて使用中でも、採番テーブルからの ID の確保が
+ * 専用の接続で行われ、接続の空き待ちで止まらないことを確認する
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.hikari.maximum-pool-size=2",
+    "spring.datasource.hikari.connection-timeout=1000",
+    "ecommerce.id-generator.allocation-size=1"
+})
+@ActiveProfiles("test")
+class PooledTableIdGeneratorTest {
+    @Autowired
+    private CategoryApplicationService categoryService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void allocatesIdsWhileTransactionsHoldEveryPooledConnection() throws SQLException {
+        String prefix = "Id block " + System.nanoTime() + " ";
+
+        // プールの2つの接続のうち1つを別の利用者として保持し、残りをトランザクションが使う
+        // 確保件数 1 のため、保存のたびに採番テーブルから ID を確保する
+        try (Connection held = dataSource.getConnection()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = 0; i < 3; i++) {
+                    categoryService.createCategory(prefix + i, "id generator test");
+                }
+            });
+        }
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(categoryService.getCategoryByName(prefix + i).orElseThrow().getId().getValue());
+        }
+        assertEquals(3, ids.stream().distinct().count());
+        assertTrue(ids.get(0) < ids.get(1) && ids.get(1) < ids.get(2), "ids " + ids + " must increase");
+    }
+}
@@ -0,0 +1,114 @@
+package com.ecommerce.infrastructure.persistence;
+
+import com.ecommerce.application.service.CategoryApplicationService;
+import com.ecommerce.application.service.ProductApplicationService;
+import com.ecommerce.domain.model.ProductId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 在庫予約台帳の並行性テスト
+ * 並行する確保・解放と商品の保存が混ざっても、DB の最終在庫が確保・解放の結果と一致し、売り越さないことを確認する
+ */
+@SpringBootTest(properties = {
+    "ecommerce.stock-ledger.enabled=true",
+    "ecommerce.stock-ledger.flush-interval=5ms",
+    "ecommerce.stock-ledger.write-behind-window=10ms",
+    "ecommerce.stock-ledger.idle-timeout=20ms"
+})
+@ActiveProfiles("test")
+class StockReservationLedgerStressTest {
+    private static final int INITIAL_STOCK = 1_000;
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS_PER_THREAD = 200;
+
+    @Autowired
+    private StockReservationLedger ledger;
+
+    @Autowired
+    private ProductApplicationService productService;
+
+    @Autowired
+    private CategoryApplicationService categoryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentReservationsNeverOversellAndMatchFinalDatabaseStock() throws Exception {
+        categoryService.createCategory("Ledger stress", "stress test");
+        Long categoryId = categoryService.getCategoryByName("Ledger stress").orElseThrow().getId().getValue();
+        productService.createProduct("Ledger stress item", "hot SKU", new BigDecimal("10.00"), INITIAL_STOCK, categoryId);
+        Long productId = productService.getProductByName("Ledger stress item").orElseThrow().getId().getValue();
+        ProductId id = new ProductId(productId);
+
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger released = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                    int quantity = 1 + random.nextInt(3);
+                    if (ledger.tryDecreaseStock(id, quantity)) {
+                        reserved.addAndGet(quantity);
+                        // 一部はキャンセルとして解放する
+                        if (random.nextInt(10) == 0) {
+                            ledger.increaseStock(id, quantity);
+                            released.addAndGet(quantity);
+                        }
+                    }
+                    // セルの破棄と読み直しを挟む
+                    if (random.nextInt(50) == 0) {
+                        Thread.sleep(25);
+                    }
+                }
+                return null;
+            }));
+        }
+        // 確保と並行して商品情報を保存する
+        futures.add(executor.submit(() -> {
+            start.await();
+            for (int i = 0; i < 50; i++) {
+                productService.updateProduct(productId, null, "updated " + i, null);
+                Thread.sleep(2);
+            }
+            return null;
+        }));
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        ledger.flushAll();
+
+        Integer dbStock = jdbcTemplate.queryForObject("SELECT stock FROM products WHERE id = ?", Integer.class, productId);
+        int net = reserved.get() - released.get();
+        assertTrue(net <= INITIAL_STOCK, "oversold: net reserved " + net);
+        assertEquals(INITIAL_STOCK - net, dbStock);
+        assertTrue(dbStock >= 0);
+        // 需要が在庫を上回るため、在庫はほぼ使い切られる（解放分は後続の確保で再利用される）
+        assertTrue(reserved.get() >= INITIAL_STOCK);
+    }
+}
@@ -0,0 +1,148 @@
+package com.ecommerce.infrastructure.persistence;
+
+import com.ecommerce.application.service.CategoryApplicationService;
+import com.ecommerce.application.service.CustomerApplicationService;
+import com.ecommerce.application.service.OrderApplicationService;
+import com.ecommerce.application.service.ProductApplicationService;
+import com.ecommerce.domain.model.ProductId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 在庫予約台帳とトランザクションのテスト
+ * 注文のトランザクションがロールバックされた場合に確保・解放が取り消され、
+ * コミットされるまで DB に反映されないこと、減算が拒否された差分が捨てられないことを確認する
+ */
+@SpringBootTest(properties = {
+    "ecommerce.stock-ledger.enabled=true",
+    "ecommerce.stock-ledger.flush-interval=5ms",
+    "ecommerce.stock-ledger.write-behind-window=10ms",
+    "ecommerce.stock-ledger.idle-timeout=20ms"
+})
+@ActiveProfiles("test")
+class StockReservationLedgerTransactionTest {
+    private static final int INITIAL_STOCK = 10;
+
+    @Autowired
+    private StockReservationLedger ledger;
+
+    @Autowired
+    private OrderApplicationService orderService;
+
+    @Autowired
+    private ProductApplicationService productService;
+
+    @Autowired
+    private CategoryApplicationService categoryService;
+
+    @Autowired
+    private CustomerApplicationService customerService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long customerId;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = Long.toString(System.nanoTime());
+        categoryService.createCategory("Ledger tx " + suffix, "ledger transaction test");
+        Long categoryId = categoryService.getCategoryByName("Ledger tx " + suffix).orElseThrow().getId().getValue();
+        productService.createProduct("Ledger tx item " + suffix, "ledger transaction test", new BigDecimal("6.00"),
+            INITIAL_STOCK, categoryId);
+        productId = productService.getProductByName("Ledger tx item " + suffix).orElseThrow().getId().getValue();
+        customerService.createCustomer("Ledger", "Test", "ledger" + suffix + "@example.com", "tel-" + suffix,
+            "1-1", "Chiyoda", "Tokyo", "100-0001");
+        customerId = customerService.getCustomerByEmail("ledger" + suffix + "@example.com").orElseThrow()
+            .getId().getValue();
+    }
+
+    @Test
+    void rolledBackOrderReturnsItsReservation() {
+        transactionTemplate.executeWithoutResult(status -> {
+            placeOrder(3);
+            assertEquals(INITIAL_STOCK - 3, ledgerStock());
+            status.setRollbackOnly();
+        });
+
+        assertEquals(INITIAL_STOCK, ledgerStock());
+        ledger.flushAll();
+        assertEquals(INITIAL_STOCK, databaseStock());
+        assertEquals(0, orderCount());
+    }
+
+    @Test
+    void reservationIsFlushedOnlyAfterCommit() {
+        transactionTemplate.executeWithoutResult(status -> {
+            placeOrder(4);
+            ledger.flushAll();
+            assertEquals(INITIAL_STOCK, databaseStock());
+        });
+
+        ledger.flushAll();
+        assertEquals(INITIAL_STOCK - 4, databaseStock());
+        assertEquals(1, orderCount());
+    }
+
+    @Test
+    void rolledBackCancellationKeepsTheStockReserved() {
+        Long orderId = placeOrder(2);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            orderService.cancelOrder(orderId);
+            status.setRollbackOnly();
+        });
+
+        assertEquals(INITIAL_STOCK - 2, ledgerStock());
+        ledger.flushAll();
+        assertEquals(INITIAL_STOCK - 2, databaseStock());
+    }
+
+    @Test
+    void rejectedDeltaStaysPendingUntilItCanBeApplied() {
+        assertTrue(ledger.tryDecreaseStock(new ProductId(productId), 5));
+        // 台帳を経由せずに DB の在庫を減らし、台帳の減算を拒否させる
+        jdbcTemplate.update("UPDATE products SET stock = 0 WHERE id = ?", productId);
+        for (int i = 0; i < 5; i++) {
+            ledger.flushAll();
+        }
+        assertEquals(0, databaseStock());
+
+        jdbcTemplate.update("UPDATE products SET stock = ? WHERE id = ?", INITIAL_STOCK, productId);
+        ledger.flushAll();
+        assertEquals(INITIAL_STOCK - 5, databaseStock());
+    }
+
+    private Long placeOrder(int quantity) {
+        return orderService.createOrder(customerId,
+            List.of(new OrderApplicationService.OrderItemInput(productId, quantity))).getId().getValue();
+    }
+
+    private int ledgerStock() {
+        return ledger.findById(new ProductId(productId)).orElseThrow().getStock();
+    }
+
+    private int databaseStock() {
+        return jdbcTemplate.queryForObject("SELECT stock FROM products WHERE id = ?", Integer.class, productId);
+    }
+
+    private int orderCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders WHERE customer_id = ?", Integer.class,
+            customerId);
+    }
+}
@@ -0,0 +1,242 @@
+package com.ecommerce.infrastructure.search;
+
+import com.ecommerce.domain.model.CategoryId;
+import com.ecommerce.domain.model.Money;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductId;
+import com.ecommerce.domain.repository.CategoryProductCount;
+import com.ecommerce.domain.repository.ProductFacetQuery;
+import com.ecommerce.domain.repository.ProductFacetResult;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 絞り込み用ビットマップのテスト
+ * 小さな商品の集合に追加・更新・削除・在庫の増減を加えながら、一致する商品と各項目の件数を
+ * 商品を1件ずつ確かめる総当たりの絞り込みの結果と比較する
+ */
+class FacetBitmapsTest {
+    /**
+     * 価格帯の境界（最小単位）：10.00 / 50.00 / 200.00 / 1,000.00
+     */
+    private static final long[] BOUNDARIES = {1_000, 5_000, 20_000, 100_000};
+    private static final long[] CATEGORIES = {3, 5, 8, 13};
+
+    @Test
+    void searchMatchesBruteForceAcrossUpdates() {
+        Random random = new Random(11);
+        FacetBitmaps bitmaps = new FacetBitmaps(BOUNDARIES);
+        TreeMap<Long, Item> items = new TreeMap<>();
+        for (long id = 1; id <= 500; id++) {
+            put(bitmaps, items, randomItem(random, id));
+        }
+        bitmaps.trim();
+        assertFacetsMatch(random, bitmaps, items);
+
+        // 更新（カテゴリ・価格・在庫の変更）・削除・在庫の増減を加えてから再度比較する
+        for (int i = 0; i < 300; i++) {
+            long id = 1 + random.nextInt(600);
+            switch (random.nextInt(3)) {
+                case 0 -> put(bitmaps, items, randomItem(random, id));
+                case 1 -> assertEquals(items.remove(id) != null, bitmaps.remove(id));
+                default -> {
+                    int delta = random.nextInt(7) - 3;
+                    bitmaps.adjustStock(id, delta);
+                    items.computeIfPresent(id, (key, item) -> item.withStock(Math.max(0, item.stock + delta)));
+                }
+            }
+        }
+        assertEquals(items.size(), bitmaps.size());
+        assertFacetsMatch(random, bitmaps, items);
+    }
+
+    @Test
+    void countsSingleCategoryPriceAndStockFacets() {
+        FacetBitmaps bitmaps = new FacetBitmaps(BOUNDARIES);
+        bitmaps.add(product(1, 3, 999, 1));
+        bitmaps.add(product(2, 3, 1_000, 0));
+        bitmaps.add(product(3, 5, 5_000, 2));
+        bitmaps.add(product(4, 5, 250_000, 0));
+
+        ProductFacetResult result = bitmaps.search(query(null, 1_000L, 5_000L, false, 0, 10));
+        assertEquals(List.of(2L, 3L), ids(result));
+        assertEquals(Map.of(new CategoryId(3L), 1L, new CategoryId(5L), 1L), result.getCategoryCounts());
+        assertEquals(List.of(1L, 1L, 1L, 0L, 1L), rangeCounts(result));
+        assertEquals(1, result.getInStockCount());
+        assertEquals(1, result.getOutOfStockCount());
+
+        ProductFacetResult unknown = bitmaps.search(query(99L, null, null, false, 0, 10));
+        assertEquals(0, unknown.getTotal());
+        assertEquals(List.of(0L, 0L, 0L, 0L, 0L), rangeCounts(unknown));
+        assertEquals(2, unknown.getCategoryCounts().size());
+
+        bitmaps.adjustStock(2, 5);
+        bitmaps.adjustStock(1, -5);
+        assertEquals(List.of(2L, 3L), ids(bitmaps.search(query(null, null, null, true, 0, 10))));
+        assertTrue(bitmaps.remove(3));
+        assertFalse(bitmaps.remove(3));
+        assertEquals("3=2/1 5=1/0 ", countsToString(bitmaps.countByCategory()));
+    }
+
+    @Test
+    void narrowFilterOverManyProductsMatchesBruteForce() {
+        // 一致する割合が低いため、ビットマップの走査ではなく積集合から取り出す経路を通る
+        Random random = new Random(5);
+        FacetBitmaps bitmaps = new FacetBitmaps(BOUNDARIES);
+        TreeMap<Long, Item> items = new TreeMap<>();
+        for (long id = 1; id <= 100_000; id++) {
+            put(bitmaps, items, randomItem(random, id));
+        }
+        bitmaps.trim();
+
+        for (Long category : new Long[]{null, CATEGORIES[1]}) {
+            for (boolean inStockOnly : new boolean[]{false, true}) {
+                assertQueryMatches(bitmaps, items, category, 4_321L, 4_400L, inStockOnly, 100);
+            }
+        }
+    }
+
+    private static void assertFacetsMatch(Random random, FacetBitmaps bitmaps, TreeMap<Long, Item> items) {
+        assertEquals(expectedCountsByCategory(items), countsToString(bitmaps.countByCategory()));
+        for (int i = 0; i < 200; i++) {
+            Long category = random.nextInt(4) == 0 ? null
+                : random.nextInt(10) == 0 ? 99L : CATEGORIES[random.nextInt(CATEGORIES.length)];
+            Long min = random.nextBoolean() ? null : randomPrice(random);
+            Long max = random.nextBoolean() ? null : randomPrice(random);
+            if (min != null && max != null && min > max) {
+                Long swap = min;
+                min = max;
+                max = swap;
+            }
+            assertQueryMatches(bitmaps, items, category, min, max, random.nextBoolean(), 1 + random.nextInt(40));
+        }
+    }
+
+    /**
+     * 一致する商品（カーソルで全ページを辿る）と各項目の件数を総当たりの結果と比較する
+     */
+    private static void assertQueryMatches(FacetBitmaps bitmaps, TreeMap<Long, Item> items, Long category,
+                                           Long min, Long max, boolean inStockOnly, int limit) {
+        String label = "category=" + category + " min=" + min + " max=" + max + " inStock=" + inStockOnly;
+        Predicate<Item> inCategory = item -> category == null || item.category == category;
+        Predicate<Item> inPrice = item -> (min == null || item.price >= min) && (max == null || item.price <= max);
+        Predicate<Item> inStock = item -> !inStockOnly || item.stock > 0;
+
+        List<Long> expectedIds = items.values().stream()
+            .filter(inCategory.and(inPrice).and(inStock)).map(item -> item.id).toList();
+        TreeMap<Long, Long> expectedCategories = new TreeMap<>();
+        items.values().stream().filter(inPrice.and(inStock))
+            .forEach(item -> expectedCategories.merge(item.category, 1L, Long::sum));
+        List<Long> expectedRanges = new ArrayList<>();
+        for (int range = 0; range <= BOUNDARIES.length; range++) {
+            long lower = range == 0 ? 0 : BOUNDARIES[range - 1];
+            long upper = range < BOUNDARIES.length ? BOUNDARIES[range] : Long.MAX_VALUE;
+            expectedRanges.add(items.values().stream().filter(inCategory.and(inStock))
+                .filter(item -> item.price >= lower && item.price < upper).count());
+        }
+        long expectedInStock = items.values().stream()
+            .filter(inCategory.and(inPrice)).filter(item -> item.stock > 0).count();
+        long expectedOutOfStock = items.values().stream()
+            .filter(inCategory.and(inPrice)).filter(item -> item.stock == 0).count();
+
+        ProductFacetResult first = bitmaps.search(query(category, min, max, inStockOnly, 0, limit));
+        assertEquals(expectedIds.size(), first.getTotal(), label);
+        // カテゴリは ID 昇順に並ぶ
+        List<String> categoryCounts = new ArrayList<>();
+        first.getCategoryCounts().forEach((id, count) -> categoryCounts.add(id.getValue() + "=" + count));
+        assertEquals(expectedCategories.entrySet().stream().map(Object::toString).toList(), categoryCounts, label);
+        assertEquals(expectedRanges, rangeCounts(first), label);
+        assertEquals(expectedInStock, first.getInStockCount(), label);
+        assertEquals(expectedOutOfStock, first.getOutOfStockCount(), label);
+
+        List<Long> pagedIds = new ArrayList<>(ids(first));
+        ProductFacetResult page = first;
+        while (page.hasNext()) {
+            assertEquals(limit, page.getIds().size(), label);
+            page = bitmaps.search(query(category, min, max, inStockOnly, page.getNextCursor(), limit));
+            pagedIds.addAll(ids(page));
+        }
+        assertEquals(expectedIds, pagedIds, label);
+    }
+
+    private static String expectedCountsByCategory(TreeMap<Long, Item> items) {
+        TreeMap<Long, long[]> counts = new TreeMap<>();
+        for (Item item : items.values()) {
+            long[] count = counts.computeIfAbsent(item.category, key -> new long[2]);
+            count[0]++;
+            if (item.stock > 0) {
+                count[1]++;
+            }
+        }
+        StringBuilder builder = new StringBuilder();
+        counts.forEach((category, count) -> builder.append(category).append('=')
+            .append(count[0]).append('/').append(count[1]).append(' '));
+        return builder.toString();
+    }
+
+    private static String countsToString(Map<CategoryId, CategoryProductCount> counts) {
+        StringBuilder builder = new StringBuilder();
+        counts.forEach((category, count) -> builder.append(category.getValue()).append('=')
+            .append(count.getProductCount()).append('/').append(count.getInStockCount()).append(' '));
+        return builder.toString();
+    }
+
+    private static void put(FacetBitmaps bitmaps, TreeMap<Long, Item> items, Item item) {
+        bitmaps.add(product(item.id, item.category, item.price, item.stock));
+        items.put(item.id, item);
+    }
+
+    private static Item randomItem(Random random, long id) {
+        return new Item(id, CATEGORIES[random.nextInt(CATEGORIES.length)], randomPrice(random),
+            random.nextInt(3) == 0 ? 0 : 1 + random.nextInt(3));
+    }
+
+    /**
+     * 価格帯の境界ちょうど・その前後を多めに含む価格（最小単位）
+     */
+    private static long randomPrice(Random random) {
+        if (random.nextInt(4) == 0) {
+            return Math.max(0, BOUNDARIES[random.nextInt(BOUNDARIES.length)] + random.nextInt(3) - 1);
+        }
+        return (long) Math.pow(10, random.nextDouble() * 6);
+    }
+
+    private static Product product(long id, long categoryId, long price, int stock) {
+        return Product.restore(id, "Product " + id, null, Money.ofMinorUnits(price), stock,
+            new CategoryId(categoryId), null, null);
+    }
+
+    private static ProductFacetQuery query(Long categoryId, Long minPrice, Long maxPrice, boolean inStockOnly,
+                                           long afterId, int limit) {
+        return ProductFacetQuery.of(categoryId, amount(minPrice), amount(maxPrice), inStockOnly, afterId, limit);
+    }
+
+    private static BigDecimal amount(Long minorUnits) {
+        return minorUnits != null ? Money.ofMinorUnits(minorUnits).getAmount() : null;
+    }
+
+    private static List<Long> ids(ProductFacetResult result) {
+        return result.getIds().stream().map(ProductId::getValue).toList();
+    }
+
+    private static List<Long> rangeCounts(ProductFacetResult result) {
+        return result.getPriceRangeCounts().stream().map(ProductFacetResult.PriceRangeCount::getCount).toList();
+    }
+
+    private record Item(long id, long category, long price, int stock) {
+        Item withStock(int stock) {
+            return new Item(id, category, price, stock);
+        }
+    }
+}
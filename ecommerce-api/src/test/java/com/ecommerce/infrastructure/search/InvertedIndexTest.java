@@ -0,0 +1,292 @@
+package com.ecommerce.infrastructure.search;
+
+import com.ecommerce.domain.model.CategoryId;
+import com.ecommerce.domain.model.Money;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductId;
+import com.ecommerce.domain.repository.ProductSearchQuery;
+import com.ecommerce.domain.repository.ProductSearchResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 転置索引のテスト
+ * 語の切り出し、BM25 の得点と並び順（総当たりの計算との比較）、前方一致、
+ * 更新・削除・詰め直し、再構築中の検索を確認する
+ */
+class InvertedIndexTest {
+    /**
+     * 前方一致を無効にする（最後の語も完全一致で照合する）
+     */
+    private static final int NO_PREFIX = 100;
+    private static final int MAX_EXPANSIONS = 8;
+
+    @Test
+    void tokenizesWidthCaseAndCjkRuns() {
+        assertEquals(List.of("abc123", "widget"), SearchTokenizer.tokenize("ＡＢＣ１２３ Widget!"));
+        assertEquals(List.of("usb", "ケー", "ーブ", "ブル"), SearchTokenizer.tokenize("USBケーブル"));
+        assertEquals(List.of("カメ", "メラ"), SearchTokenizer.tokenize("ｶﾒﾗ"));
+        assertEquals(List.of("本", "x"), SearchTokenizer.tokenize("本 x"));
+        assertEquals(List.of("ok"), SearchTokenizer.tokenize("a".repeat(SearchTokenizer.MAX_TOKEN_LENGTH + 1) + " ok"));
+        assertTrue(SearchTokenizer.tokenize(null).isEmpty());
+    }
+
+    @Test
+    void scoresMatchBm25ComputedByBruteForce() {
+        List<Product> fixture = randomFixture(new Random(42), 200);
+        InvertedIndex index = new InvertedIndex();
+        fixture.forEach(index::add);
+
+        for (String text : List.of("red", "lamp", "red lamp", "steel desk", "oak", "blue chair oak", "missing")) {
+            assertMatchesBruteForce(fixture, index, text);
+        }
+    }
+
+    @Test
+    void nameMatchesAndShorterDocumentsRankHigher() {
+        InvertedIndex index = new InvertedIndex();
+        index.add(product(1, "Desk", "walnut finish", 1));
+        index.add(product(2, "Table", "walnut finish", 1));
+        index.add(product(3, "Walnut", "finish", 1));
+        index.add(product(4, "Walnut", "finish with a long description of the product", 1));
+
+        assertEquals(List.of(3L, 4L, 1L, 2L), ids(index.search(query("walnut", null, 0, 10), NO_PREFIX, MAX_EXPANSIONS)));
+    }
+
+    @Test
+    void lastTermIsExpandedByPrefixWithTheExactTermFirst() {
+        InvertedIndex index = new InvertedIndex();
+        index.add(product(1, "Lampshade", null, 1));
+        index.add(product(2, "Lamp", null, 1));
+        index.add(product(3, "Desk", null, 1));
+
+        assertEquals(List.of(2L, 1L), ids(index.search(query("lamp", null, 0, 10), 3, MAX_EXPANSIONS)));
+        assertEquals(List.of(1L), ids(index.search(query("lamps", null, 0, 10), 3, MAX_EXPANSIONS)));
+        // 最小文字数より短い語は完全一致
+        assertEquals(List.of(2L), ids(index.search(query("lamp", null, 0, 10), 5, MAX_EXPANSIONS)));
+    }
+
+    @Test
+    void filtersByCategoryAndPages() {
+        InvertedIndex index = new InvertedIndex();
+        for (long id = 1; id <= 10; id++) {
+            index.add(product(id, "Chair " + id, null, id % 2 == 0 ? 2 : 1));
+        }
+
+        ProductSearchResult evens = index.search(query("chair", 2L, 0, 10), NO_PREFIX, MAX_EXPANSIONS);
+        assertEquals(5, evens.getTotal());
+        assertEquals(List.of(2L, 4L, 6L, 8L, 10L), ids(evens));
+
+        // 同点は商品IDの小さい順に並ぶ
+        ProductSearchResult page = index.search(query("chair", null, 3, 4), NO_PREFIX, MAX_EXPANSIONS);
+        assertEquals(10, page.getTotal());
+        assertEquals(List.of(4L, 5L, 6L, 7L), ids(page));
+    }
+
+    @Test
+    void updateReplacesTermsAndRemoveDropsTheProduct() {
+        InvertedIndex index = new InvertedIndex();
+        index.add(product(1, "Oak desk", null, 1));
+        index.add(product(2, "Oak chair", null, 1));
+
+        index.add(product(1, "Pine desk", null, 1));
+        assertEquals(2, index.size());
+        assertEquals(List.of(2L), ids(index.search(query("oak", null, 0, 10), NO_PREFIX, MAX_EXPANSIONS)));
+        assertEquals(List.of(1L), ids(index.search(query("pine", null, 0, 10), NO_PREFIX, MAX_EXPANSIONS)));
+
+        assertTrue(index.remove(2));
+        assertFalse(index.remove(2));
+        assertEquals(1, index.size());
+        assertEquals(0, index.search(query("oak", null, 0, 10), NO_PREFIX, MAX_EXPANSIONS).getTotal());
+        assertEquals(List.of(1L), ids(index.search(query("desk", null, 0, 10), NO_PREFIX, MAX_EXPANSIONS)));
+    }
+
+    @Test
+    void compactionKeepsResultsAndDropsUnusedTerms() {
+        Random random = new Random(7);
+        List<Product> fixture = randomFixture(random, 3000);
+        InvertedIndex index = new InvertedIndex();
+        fixture.forEach(index::add);
+        int initialTerms = index.termCount();
+
+        // 一意な語を持つ商品を追加してから削除し、残りの半分を更新する
+        for (long id = 10_001; id <= 12_000; id++) {
+            index.add(product(id, "Unique" + id, null, 1));
+            assertTrue(index.remove(id));
+        }
+        List<Product> current = new ArrayList<>();
+        for (Product product : fixture) {
+            Product updated = random.nextBoolean()
+                ? product(product.getId().getValue(), product.getName() + " Oak", product.getDescription(),
+                    product.getCategoryId().getValue())
+                : product;
+            if (updated != product) {
+                index.add(updated);
+            }
+            current.add(updated);
+        }
+        index.compactIfNeeded();
+
+        assertEquals(current.size(), index.size());
+        assertEquals(initialTerms, index.termCount());
+        for (String text : List.of("oak", "red lamp", "steel desk", "unique10001")) {
+            assertMatchesBruteForce(current, index, text);
+        }
+    }
+
+    @Test
+    void searchesDuringRebuildSeeEitherTheOldOrTheNewIndex() throws Exception {
+        InMemoryProductSearchIndex index = new InMemoryProductSearchIndex(3, MAX_EXPANSIONS);
+        List<Product> first = catalog(1, 50);
+        List<Product> second = catalog(1001, 50);
+        Set<Long> firstIds = first.stream().map(product -> product.getId().getValue()).collect(Collectors.toSet());
+        Set<Long> secondIds = second.stream().map(product -> product.getId().getValue()).collect(Collectors.toSet());
+        index.rebuild(first::forEach);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<CompletableFuture<Integer>> readers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            readers.add(CompletableFuture.supplyAsync(() -> {
+                int searches = 0;
+                while (running.get() || searches == 0) {
+                    ProductSearchResult result = index.search(query("catalog item", null, 0, 100));
+                    Set<Long> found = new HashSet<>(ids(result));
+                    assertEquals(50, result.getTotal());
+                    assertTrue(found.equals(firstIds) || found.equals(secondIds), "mixed result: " + found);
+                    searches++;
+                }
+                return searches;
+            }));
+        }
+        for (int i = 0; i < 200; i++) {
+            index.rebuild((i % 2 == 0 ? second : first)::forEach);
+        }
+        running.set(false);
+
+        for (CompletableFuture<Integer> reader : readers) {
+            assertTrue(reader.get() > 0);
+        }
+        assertEquals(50, index.size());
+    }
+
+    /**
+     * 総当たりで BM25 を計算し、一致件数・商品ごとの得点・並び順を比較する（前方一致なし）
+     */
+    private static void assertMatchesBruteForce(List<Product> products, InvertedIndex index, String text) {
+        List<String> queryTerms = SearchTokenizer.tokenize(text).stream().distinct().toList();
+        List<Map<String, Integer>> frequencies = new ArrayList<>();
+        Map<String, Integer> documentFrequencies = new HashMap<>();
+        long totalLength = 0;
+        for (Product product : products) {
+            Map<String, Integer> frequency = new HashMap<>();
+            for (String token : SearchTokenizer.tokenize(product.getName())) {
+                frequency.merge(token, InvertedIndex.NAME_WEIGHT, Integer::sum);
+            }
+            for (String token : SearchTokenizer.tokenize(product.getDescription())) {
+                frequency.merge(token, 1, Integer::sum);
+            }
+            frequencies.add(frequency);
+            frequency.keySet().forEach(term -> documentFrequencies.merge(term, 1, Integer::sum));
+            totalLength += frequency.values().stream().mapToInt(Integer::intValue).sum();
+        }
+
+        int documents = products.size();
+        double averageLength = (double) totalLength / documents;
+        Map<Long, Double> expected = new HashMap<>();
+        for (int i = 0; i < documents; i++) {
+            Map<String, Integer> frequency = frequencies.get(i);
+            if (!frequency.keySet().containsAll(queryTerms)) {
+                continue;
+            }
+            int length = frequency.values().stream().mapToInt(Integer::intValue).sum();
+            double norm = 1.2 * (1 - 0.75 + 0.75 * length / averageLength);
+            double score = 0;
+            for (String term : queryTerms) {
+                int df = documentFrequencies.get(term);
+                double idf = Math.log(1 + (documents - df + 0.5) / (df + 0.5));
+                int tf = frequency.get(term);
+                score += idf * tf * 2.2 / (tf + norm);
+            }
+            expected.put(products.get(i).getId().getValue(), score);
+        }
+
+        ProductSearchResult result = index.search(query(text, null, 0, ProductSearchQuery.MAX_LIMIT),
+            NO_PREFIX, MAX_EXPANSIONS);
+        assertEquals(expected.size(), result.getTotal(), text);
+
+        List<Long> expectedTop = expected.entrySet().stream()
+            .sorted(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+            .limit(ProductSearchQuery.MAX_LIMIT)
+            .map(Map.Entry::getKey)
+            .toList();
+        assertEquals(expectedTop.size(), result.getHits().size(), text);
+        double previous = Double.MAX_VALUE;
+        for (ProductSearchResult.Hit hit : result.getHits()) {
+            assertEquals(expected.get(hit.getId().getValue()), hit.getScore(), 1e-4, text);
+            assertTrue(hit.getScore() <= previous, text);
+            previous = hit.getScore();
+        }
+        // 得点の誤差で順位が入れ替わる同点付近を除き、上位の顔ぶれは総当たりと一致する
+        double lowest = previous;
+        assertEquals(
+            expectedTop.stream().filter(id -> expected.get(id) > lowest + 1e-4).collect(Collectors.toSet()),
+            ids(result).stream().filter(id -> expected.get(id) > lowest + 1e-4).collect(Collectors.toSet()),
+            text);
+    }
+
+    private static List<Product> randomFixture(Random random, int count) {
+        String[] colors = {"Red", "Blue", "Green", "Black", "White"};
+        String[] materials = {"Oak", "Steel", "Pine", "Walnut", "Glass"};
+        String[] kinds = {"Lamp", "Desk", "Chair", "Shelf", "Table"};
+        List<Product> products = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            String name = pick(random, colors) + " " + pick(random, kinds);
+            StringBuilder description = new StringBuilder();
+            int words = random.nextInt(6);
+            for (int i = 0; i < words; i++) {
+                description.append(pick(random, random.nextBoolean() ? materials : colors)).append(' ');
+            }
+            products.add(product(id, name, description.toString(), 1 + random.nextInt(3)));
+        }
+        return products;
+    }
+
+    private static List<Product> catalog(long firstId, int count) {
+        return LongStream.range(firstId, firstId + count)
+            .mapToObj(id -> product(id, "Catalog item " + id, "catalog", 1))
+            .toList();
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static Product product(long id, String name, String description, long categoryId) {
+        return Product.restore(id, name, description, Money.ofMinorUnits(1000 + id), 10,
+            new CategoryId(categoryId), null, null);
+    }
+
+    private static ProductSearchQuery query(String text, Long categoryId, int offset, int limit) {
+        return ProductSearchQuery.of(text, categoryId, offset, limit);
+    }
+
+    private static List<Long> ids(ProductSearchResult result) {
+        return result.getHits().stream().map(hit -> hit.getId().getValue()).toList();
+    }
+}
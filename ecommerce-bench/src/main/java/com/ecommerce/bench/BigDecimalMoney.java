@@ -0,0 +1,34 @@
+package com.ecommerce.bench;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * BigDecimalMoney - 比較用の旧 Money 実装（BigDecimal 保持、演算ごとに setScale）
+ */
+public final class BigDecimalMoney {
+    private final BigDecimal amount;
+
+    public BigDecimalMoney(BigDecimal amount) {
+        if (amount == null || amount.compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalArgumentException("Amount must be non-negative");
+        }
+        this.amount = amount.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    public static BigDecimalMoney zero() {
+        return new BigDecimalMoney(BigDecimal.ZERO);
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public BigDecimalMoney add(BigDecimalMoney other) {
+        return new BigDecimalMoney(this.amount.add(other.amount));
+    }
+
+    public BigDecimalMoney multiply(int quantity) {
+        return new BigDecimalMoney(this.amount.multiply(BigDecimal.valueOf(quantity)));
+    }
+}
@@ -0,0 +1,85 @@
+package com.ecommerce.bench;
+
+import com.ecommerce.domain.model.Customer;
+import com.ecommerce.domain.model.CustomerId;
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.model.OrderItem;
+import com.ecommerce.domain.model.OrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DomainBenchmark - ドメインモデルの生成・検証処理
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DomainBenchmark {
+    @Param({"1", "10", "100"})
+    public int lines;
+
+    private final CustomerId customerId = new CustomerId(1L);
+    private List<OrderItem> items;
+    private Customer customer;
+
+    @Setup
+    public void setUp() {
+        items = Fixtures.newOrderItems(lines);
+        customer = Fixtures.customer();
+    }
+
+    /**
+     * 注文の作成（合計金額の計算を含む）
+     */
+    @Benchmark
+    public Order createOrder() {
+        return Order.create(customerId, items);
+    }
+
+    @Benchmark
+    public OrderStatus statusFromStringFirst() {
+        return OrderStatus.fromString("pending");
+    }
+
+    @Benchmark
+    public OrderStatus statusFromStringLast() {
+        return OrderStatus.fromString("CANCELLED");
+    }
+
+    @Benchmark
+    public Customer createCustomer() {
+        return Customer.create("Taro", "Yamada", "taro.yamada@example.com", "090-1234-5678",
+            "1-2-3 Chiyoda", "Tokyo", "Tokyo", "100-0001");
+    }
+
+    @Benchmark
+    public Customer updateEmail() {
+        customer.updateEmail("hanako.suzuki@mail.example.co.jp");
+        return customer;
+    }
+
+    @Benchmark
+    public boolean rejectInvalidEmail() {
+        try {
+            customer.updateEmail("not-an-email@");
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.ecommerce.bench;
+
+import com.ecommerce.domain.model.Category;
+import com.ecommerce.domain.model.CategoryId;
+import com.ecommerce.domain.model.Customer;
+import com.ecommerce.domain.model.CustomerId;
+import com.ecommerce.domain.model.Money;
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.model.OrderItem;
+import com.ecommerce.domain.model.OrderStatus;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductId;
+import com.ecommerce.infrastructure.persistence.jpa.CategoryJpaEntity;
+import com.ecommerce.infrastructure.persistence.jpa.CustomerJpaEntity;
+import com.ecommerce.infrastructure.persistence.jpa.OrderItemJpaEntity;
+import com.ecommerce.infrastructure.persistence.jpa.OrderJpaEntity;
+import com.ecommerce.infrastructure.persistence.jpa.ProductJpaEntity;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongFunction;
+
+/**
+ * Fixtures - ベンチマーク用のテストデータ
+ * 値は固定し、実行ごとの結果を比較できるようにする
+ */
+public final class Fixtures {
+    public static final LocalDateTime TIMESTAMP = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private Fixtures() {
+    }
+
+    public static Money price(int line) {
+        return Money.ofMinorUnits(1_000L + line * 37L);
+    }
+
+    public static List<OrderItem> newOrderItems(int lines) {
+        List<OrderItem> items = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            items.add(OrderItem.create(new ProductId(i + 1L), 1 + i % 5, price(i)));
+        }
+        return items;
+    }
+
+    public static Order order(int lines) {
+        List<OrderItem> items = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            items.add(OrderItem.restore(i + 1L, new ProductId(i + 1L), 1 + i % 5, price(i), TIMESTAMP));
+        }
+        Order created = Order.create(new CustomerId(1L), items);
+        return Order.restore(1L, created.getCustomerId(), OrderStatus.PENDING,
+            created.getTotalPrice(), items, TIMESTAMP, TIMESTAMP);
+    }
+
+    public static Product product() {
+        return Product.restore(1L, "Mechanical Keyboard", "Tenkeyless, brown switches",
+            Money.of("129.99"), 42, new CategoryId(1L), TIMESTAMP, TIMESTAMP);
+    }
+
+    public static Category category() {
+        return Category.restore(1L, "Peripherals", "Keyboards, mice and headsets", TIMESTAMP, TIMESTAMP);
+    }
+
+    public static Customer customer() {
+        return Customer.restore(1L, "Taro", "Yamada", "taro.yamada@example.com", "090-1234-5678",
+            "1-2-3 Chiyoda", "Tokyo", "Tokyo", "100-0001", TIMESTAMP, TIMESTAMP);
+    }
+
+    public static CategoryJpaEntity categoryEntity() {
+        CategoryJpaEntity entity = new CategoryJpaEntity();
+        entity.setId(1L);
+        entity.setName("Peripherals");
+        entity.setDescription("Keyboards, mice and headsets");
+        entity.setCreatedAt(TIMESTAMP);
+        entity.setUpdatedAt(TIMESTAMP);
+        return entity;
+    }
+
+    public static ProductJpaEntity productEntity() {
+        ProductJpaEntity entity = new ProductJpaEntity();
+        entity.setId(1L);
+        entity.setName("Mechanical Keyboard");
+        entity.setDescription("Tenkeyless, brown switches");
+        entity.setPrice(new BigDecimal("129.99"));
+        entity.setStock(42);
+        entity.setCategory(categoryEntity());
+        entity.setCreatedAt(TIMESTAMP);
+        entity.setUpdatedAt(TIMESTAMP);
+        return entity;
+    }
+
+    public static CustomerJpaEntity customerEntity() {
+        CustomerJpaEntity entity = new CustomerJpaEntity();
+        entity.setId(1L);
+        entity.setFirstName("Taro");
+        entity.setLastName("Yamada");
+        entity.setEmail("taro.yamada@example.com");
+        entity.setPhoneNumber("090-1234-5678");
+        entity.setAddress("1-2-3 Chiyoda");
+        entity.setCity("Tokyo");
+        entity.setState("Tokyo");
+        entity.setZipCode("100-0001");
+        entity.setCreatedAt(TIMESTAMP);
+        entity.setUpdatedAt(TIMESTAMP);
+        return entity;
+    }
+
+    public static OrderJpaEntity orderEntity(int lines) {
+        OrderJpaEntity entity = new OrderJpaEntity();
+        entity.setId(1L);
+        entity.setCustomer(customerEntity());
+        entity.setStatus(OrderJpaEntity.OrderStatusJpa.PENDING);
+        entity.setCreatedAt(TIMESTAMP);
+        entity.setUpdatedAt(TIMESTAMP);
+
+        long total = 0;
+        for (int i = 0; i < lines; i++) {
+            OrderItemJpaEntity item = new OrderItemJpaEntity();
+            item.setId(i + 1L);
+            item.setOrder(entity);
+            ProductJpaEntity product = productEntity();
+            product.setId(i + 1L);
+            item.setProduct(product);
+            item.setQuantity(1 + i % 5);
+            item.setPriceAtPurchase(price(i).getAmount());
+            item.setCreatedAt(TIMESTAMP);
+            entity.getItems().add(item);
+            total += price(i).getMinorUnits() * item.getQuantity();
+        }
+        entity.setTotalPrice(BigDecimal.valueOf(total, 2));
+        return entity;
+    }
+
+    /**
+     * JPA リポジトリのスタブ（他のメソッドは呼ばれない前提）
+     * getReferenceById と ID による検索は entity の値を返し、save は渡されたエンティティをそのまま返す
+     */
+    @SuppressWarnings("unchecked")
+    public static <R> R stubRepository(Class<R> type, LongFunction<Object> entity) {
+        return (R) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+            switch (method.getName()) {
+                case "getReferenceById" -> entity.apply((Long) args[0]);
+                case "findById", "findWithDetailsById", "findForUpdateById" ->
+                    Optional.ofNullable(entity.apply((Long) args[0]));
+                case "save" -> args[0];
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+}
@@ -0,0 +1,95 @@
+package com.ecommerce.bench;
+
+import com.ecommerce.application.dto.CategoryDTO;
+import com.ecommerce.application.dto.CustomerDTO;
+import com.ecommerce.application.dto.OrderDTO;
+import com.ecommerce.application.dto.ProductDTO;
+import com.ecommerce.domain.model.Category;
+import com.ecommerce.domain.model.Customer;
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.infrastructure.mapper.CategoryMapper;
+import com.ecommerce.infrastructure.mapper.CustomerMapper;
+import com.ecommerce.infrastructure.mapper.OrderMapper;
+import com.ecommerce.infrastructure.mapper.ProductMapper;
+import com.ecommerce.infrastructure.persistence.jpa.OrderJpaEntity;
+import com.ecommerce.infrastructure.persistence.jpa.ProductJpaEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapperBenchmark - ドメインモデル／JPA エンティティから DTO への変換
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MapperBenchmark {
+    @Param({"1", "10", "100"})
+    public int lines;
+
+    private final CategoryMapper categoryMapper = new CategoryMapper();
+    private final CustomerMapper customerMapper = new CustomerMapper();
+    private final OrderMapper orderMapper = new OrderMapper();
+    private final ProductMapper productMapper = new ProductMapper();
+
+    private Category category;
+    private Customer customer;
+    private Order order;
+    private OrderJpaEntity orderEntity;
+    private Product product;
+    private ProductJpaEntity productEntity;
+
+    @Setup
+    public void setUp() {
+        category = Fixtures.category();
+        customer = Fixtures.customer();
+        order = Fixtures.order(lines);
+        orderEntity = Fixtures.orderEntity(lines);
+        product = Fixtures.product();
+        productEntity = Fixtures.productEntity();
+    }
+
+    @Benchmark
+    public CategoryDTO category() {
+        return categoryMapper.toDTO(category);
+    }
+
+    @Benchmark
+    public CustomerDTO customer() {
+        return customerMapper.toDTO(customer);
+    }
+
+    @Benchmark
+    public OrderDTO order() {
+        return orderMapper.toDTO(order);
+    }
+
+    @Benchmark
+    public OrderDTO orderWithCustomer() {
+        return orderMapper.toDTOWithCustomer(orderEntity);
+    }
+
+    @Benchmark
+    public ProductDTO product() {
+        return productMapper.toDTO(product);
+    }
+
+    @Benchmark
+    public ProductDTO productWithCategory() {
+        return productMapper.toDTOWithCategory(productEntity);
+    }
+}
@@ -0,0 +1,88 @@
+package com.ecommerce.bench;
+
+import com.ecommerce.domain.model.Money;
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.model.OrderItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MoneyBenchmark - 金額計算（明細小計の合計）を long 固定小数点版と BigDecimal 版で比較
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoneyBenchmark {
+    @Param({"1", "10", "100"})
+    public int lines;
+
+    private Money[] prices;
+    private BigDecimalMoney[] baselinePrices;
+    private int[] quantities;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        prices = new Money[lines];
+        baselinePrices = new BigDecimalMoney[lines];
+        quantities = new int[lines];
+        for (int i = 0; i < lines; i++) {
+            prices[i] = Fixtures.price(i);
+            baselinePrices[i] = new BigDecimalMoney(prices[i].getAmount());
+            quantities[i] = 1 + i % 5;
+        }
+        order = Fixtures.order(lines);
+    }
+
+    @Benchmark
+    public Money total() {
+        Money total = Money.zero();
+        for (int i = 0; i < lines; i++) {
+            total = total.add(prices[i].multiply(quantities[i]));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public BigDecimalMoney totalBaseline() {
+        BigDecimalMoney total = BigDecimalMoney.zero();
+        for (int i = 0; i < lines; i++) {
+            total = total.add(baselinePrices[i].multiply(quantities[i]));
+        }
+        return total;
+    }
+
+    /**
+     * 注文読み出し時と同じく、明細ごとに小計を求めて BigDecimal に変換
+     */
+    @Benchmark
+    public BigDecimal subtotalsToAmount() {
+        BigDecimal last = null;
+        List<OrderItem> items = order.getItems();
+        for (OrderItem item : items) {
+            last = item.getSubtotal().getAmount();
+        }
+        return last;
+    }
+
+    @Benchmark
+    public Money fromBigDecimal() {
+        return new Money(baselinePrices[lines - 1].getAmount());
+    }
+}
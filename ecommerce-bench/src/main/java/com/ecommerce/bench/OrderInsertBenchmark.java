@@ -0,0 +1,154 @@
+package com.ecommerce.bench;
+
+import com.ecommerce.infrastructure.persistence.jpa.CategoryJpaEntity;
+import com.ecommerce.infrastructure.persistence.jpa.CustomerJpaEntity;
+import com.ecommerce.infrastructure.persistence.jpa.IdGenerators;
+import com.ecommerce.infrastructure.persistence.jpa.OrderItemJpaEntity;
+import com.ecommerce.infrastructure.persistence.jpa.OrderJpaEntity;
+import com.ecommerce.infrastructure.persistence.jpa.ProductJpaEntity;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderInsertBenchmark - 明細の多い注文の挿入スループット
+ * 変更前の IDENTITY 採番（orm-identity.xml で上書き）とテーブル採番（pooled）を、
+ * 同じ JDBC バッチ設定の Hibernate で比較する。1 操作 = ORDERS_PER_TRANSACTION 件の注文を1トランザクションで挿入。
+ * DB は H2 インメモリのため往復遅延は含まれず、ネットワーク越しの MySQL では差がさらに大きくなる
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderInsertBenchmark {
+    private static final int ORDERS_PER_TRANSACTION = 10;
+    private static final int PRODUCTS = 100;
+
+    @Param({"identity", "pooled"})
+    public String idGeneration;
+
+    @Param({"50"})
+    public int itemsPerOrder;
+
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+            .applySetting(AvailableSettings.URL,
+                "jdbc:h2:mem:bench_" + idGeneration + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+            .applySetting(AvailableSettings.USER, "sa")
+            .applySetting(AvailableSettings.PASS, "")
+            .applySetting(AvailableSettings.HBM2DDL_AUTO, "create")
+            // Spring Boot と同じ列名（スネークケース）にする
+            .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class)
+            // アプリケーションと同じバッチ設定（application.yml）
+            .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, 50)
+            .applySetting(AvailableSettings.ORDER_INSERTS, true)
+            .applySetting(AvailableSettings.ORDER_UPDATES, true)
+            .applySetting(IdGenerators.ALLOCATION_SIZE_SETTING, IdGenerators.DEFAULT_ALLOCATION_SIZE)
+            .build();
+        MetadataSources sources = new MetadataSources(registry)
+            .addAnnotatedClass(CategoryJpaEntity.class)
+            .addAnnotatedClass(ProductJpaEntity.class)
+            .addAnnotatedClass(CustomerJpaEntity.class)
+            .addAnnotatedClass(OrderJpaEntity.class)
+            .addAnnotatedClass(OrderItemJpaEntity.class);
+        if ("identity".equals(idGeneration)) {
+            sources.addResource("META-INF/orm-identity.xml");
+        }
+        sessionFactory = sources.buildMetadata().buildSessionFactory();
+
+        sessionFactory.inTransaction(session -> {
+            // 上書きが効いていることを確認（IDENTITY の場合のみ自動採番列になる）
+            String identity = session.createNativeQuery(
+                    "SELECT is_identity FROM information_schema.columns "
+                        + "WHERE table_name = 'orders' AND column_name = 'id'", String.class)
+                .getSingleResult();
+            if ("YES".equals(identity) != "identity".equals(idGeneration)) {
+                throw new IllegalStateException("Unexpected id generation for orders: " + identity);
+            }
+
+            session.createNativeMutationQuery(
+                    "INSERT INTO categories (id, name, created_at, updated_at) "
+                        + "VALUES (1, 'Bench', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)")
+                .executeUpdate();
+            session.createNativeMutationQuery(
+                    "INSERT INTO customers (id, first_name, last_name, email, phone_number, created_at, updated_at) "
+                        + "VALUES (1, 'Bench', 'Customer', 'bench@example.com', '090-0000-0000', "
+                        + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)")
+                .executeUpdate();
+            for (int i = 1; i <= PRODUCTS; i++) {
+                session.createNativeMutationQuery(
+                        "INSERT INTO products (id, name, price, stock, category_id, created_at, updated_at) "
+                            + "VALUES (?1, ?2, 10.00, 1000000, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)")
+                    .setParameter(1, i)
+                    .setParameter(2, "Product " + i)
+                    .executeUpdate();
+            }
+        });
+    }
+
+    /**
+     * 計測ごとに挿入した注文を消し、表の大きさを揃える
+     */
+    @TearDown(Level.Iteration)
+    public void clearOrders() {
+        sessionFactory.inTransaction(session -> {
+            session.createNativeMutationQuery("DELETE FROM order_items").executeUpdate();
+            session.createNativeMutationQuery("DELETE FROM orders").executeUpdate();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    /**
+     * 明細 itemsPerOrder 件の注文を ORDERS_PER_TRANSACTION 件挿入
+     */
+    @Benchmark
+    public void insertOrders() {
+        sessionFactory.inTransaction(session -> {
+            CustomerJpaEntity customer = session.getReference(CustomerJpaEntity.class, 1L);
+            for (int o = 0; o < ORDERS_PER_TRANSACTION; o++) {
+                OrderJpaEntity order = new OrderJpaEntity();
+                order.setCustomer(customer);
+                BigDecimal total = BigDecimal.ZERO;
+                for (int line = 0; line < itemsPerOrder; line++) {
+                    OrderItemJpaEntity item = new OrderItemJpaEntity();
+                    item.setOrder(order);
+                    item.setProduct(session.getReference(ProductJpaEntity.class, (long) (line % PRODUCTS) + 1));
+                    item.setQuantity(1);
+                    item.setPriceAtPurchase(Fixtures.price(line).getAmount());
+                    order.getItems().add(item);
+                    total = total.add(item.getPriceAtPurchase());
+                }
+                order.setTotalPrice(total);
+                session.persist(order);
+            }
+        });
+    }
+}
@@ -0,0 +1,130 @@
+package com.ecommerce.bench;
+
+import com.ecommerce.domain.model.CategoryId;
+import com.ecommerce.domain.model.Money;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductId;
+import com.ecommerce.domain.repository.CategoryProductCount;
+import com.ecommerce.domain.repository.ProductFacetQuery;
+import com.ecommerce.domain.repository.ProductFacetResult;
+import com.ecommerce.infrastructure.search.InMemoryProductFacetIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProductFacetBenchmark - 圧縮ビットマップによる商品の絞り込みと項目ごとの件数の応答時間
+ * 価格は対数一様（1〜10000）、在庫は 1 割が在庫切れ、カテゴリは一様に割り当てる（乱数の種は固定）。
+ * 価格帯の境界は application.yml の既定値と同じ。
+ * - unfiltered: 条件なし（全カテゴリ・全価格帯の件数）
+ * - category: カテゴリのみ
+ * - categoryInStock: カテゴリと在庫あり
+ * - priceRange: 価格帯の境界をまたぐ範囲指定と在庫あり
+ * - allFilters: カテゴリ・価格の範囲・在庫あり
+ * - adjustStock: 在庫の増減（在庫の有無が切り替わる）
+ * - countByCategory: カテゴリごとの商品数と在庫のある商品数（カテゴリ一覧の withCounts）
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class ProductFacetBenchmark {
+    private static final long[] PRICE_BOUNDARIES = {1_000, 5_000, 10_000, 50_000, 100_000, 500_000};
+    private static final int CATEGORIES = 50;
+    private static final int QUERIES = 1024;
+
+    @Param({"100000", "1000000"})
+    public int products;
+
+    private InMemoryProductFacetIndex index;
+    private ProductFacetQuery unfiltered;
+    private ProductFacetQuery[] category;
+    private ProductFacetQuery[] categoryInStock;
+    private ProductFacetQuery[] priceRange;
+    private ProductFacetQuery[] allFilters;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        index = new InMemoryProductFacetIndex(PRICE_BOUNDARIES);
+        Random random = new Random(42);
+        index.rebuild(sink -> {
+            for (int i = 1; i <= products; i++) {
+                long price = (long) (100 * Math.pow(10_000, random.nextDouble()));
+                int stock = random.nextInt(10) == 0 ? 0 : 1 + random.nextInt(100);
+                sink.accept(Product.restore((long) i, "p" + i, null, Money.ofMinorUnits(price), stock,
+                    new CategoryId(1L + random.nextInt(CATEGORIES)), null, null));
+            }
+        });
+
+        unfiltered = ProductFacetQuery.of(null, null, null, null, null, 20);
+        category = new ProductFacetQuery[QUERIES];
+        categoryInStock = new ProductFacetQuery[QUERIES];
+        priceRange = new ProductFacetQuery[QUERIES];
+        allFilters = new ProductFacetQuery[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            long categoryId = 1L + random.nextInt(CATEGORIES);
+            BigDecimal min = BigDecimal.valueOf(20 + random.nextInt(60));
+            BigDecimal max = BigDecimal.valueOf(200 + random.nextInt(600));
+            category[i] = ProductFacetQuery.of(categoryId, null, null, null, null, 20);
+            categoryInStock[i] = ProductFacetQuery.of(categoryId, null, null, true, null, 20);
+            priceRange[i] = ProductFacetQuery.of(null, min, max, true, null, 20);
+            allFilters[i] = ProductFacetQuery.of(categoryId, min, max, true, null, 20);
+        }
+
+        // 構築時の一時オブジェクトを計測前に回収する
+        System.gc();
+    }
+
+    @Benchmark
+    public ProductFacetResult unfiltered() {
+        return index.search(unfiltered);
+    }
+
+    @Benchmark
+    public ProductFacetResult category() {
+        return index.search(category[next++ & (QUERIES - 1)]);
+    }
+
+    @Benchmark
+    public ProductFacetResult categoryInStock() {
+        return index.search(categoryInStock[next++ & (QUERIES - 1)]);
+    }
+
+    @Benchmark
+    public ProductFacetResult priceRange() {
+        return index.search(priceRange[next++ & (QUERIES - 1)]);
+    }
+
+    @Benchmark
+    public ProductFacetResult allFilters() {
+        return index.search(allFilters[next++ & (QUERIES - 1)]);
+    }
+
+    @Benchmark
+    public void adjustStock() {
+        // 増減を交互に行い、在庫を 0 と 1 の間で切り替える
+        ProductId id = new ProductId(1L + (next & (QUERIES - 1)));
+        index.adjustStock(id, (next++ & QUERIES) == 0 ? -1_000 : 1);
+    }
+
+    @Benchmark
+    public Map<CategoryId, CategoryProductCount> countByCategory() {
+        return index.countByCategory();
+    }
+}
@@ -0,0 +1,121 @@
+package com.ecommerce.bench;
+
+import com.ecommerce.domain.model.CategoryId;
+import com.ecommerce.domain.model.Money;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.repository.ProductSearchQuery;
+import com.ecommerce.domain.repository.ProductSearchResult;
+import com.ecommerce.infrastructure.search.InMemoryProductSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProductSearchBenchmark - プロセス内の転置索引による商品検索の応答時間
+ * 商品名は「ブランド 形容詞 品名 型番」、説明は語彙から偏りを付けて選んだ語で合成する（乱数の種は固定）。
+ * - twoTerms: ブランドと品名の完全一致（数件〜数十件に絞られる典型的な検索）
+ * - prefix: ブランドと品名の末尾1文字を除いたもの（入力途中の検索、品名10語に展開される）
+ * - commonTerm: 品名のみ（一致件数が多く、上位の選択が支配的になる検索）
+ * - categoryFilter: twoTerms にカテゴリの絞り込みを加えたもの
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class ProductSearchBenchmark {
+    private static final int BRANDS = 200;
+    private static final int ADJECTIVES = 100;
+    private static final int NOUNS = 500;
+    private static final int VOCABULARY = 20_000;
+    private static final int DESCRIPTION_WORDS = 12;
+    private static final int CATEGORIES = 50;
+    private static final int QUERIES = 1024;
+
+    @Param({"1000000"})
+    public int products;
+
+    private InMemoryProductSearchIndex index;
+    private ProductSearchQuery[] twoTerms;
+    private ProductSearchQuery[] prefix;
+    private ProductSearchQuery[] commonTerm;
+    private ProductSearchQuery[] categoryFilter;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        index = new InMemoryProductSearchIndex(2, 50);
+        Random random = new Random(42);
+        index.rebuild(sink -> {
+            for (int i = 1; i <= products; i++) {
+                String name = word("b", random.nextInt(BRANDS)) + " " + word("a", random.nextInt(ADJECTIVES)) + " "
+                    + word("n", random.nextInt(NOUNS)) + " " + word("m", random.nextInt(products));
+                StringBuilder description = new StringBuilder();
+                for (int w = 0; w < DESCRIPTION_WORDS; w++) {
+                    // 小さい番号ほど頻出する偏った分布
+                    int rank = (int) Math.pow(VOCABULARY, random.nextDouble());
+                    description.append(word("v", rank)).append(' ');
+                }
+                sink.accept(Product.restore((long) i, name, description.toString(),
+                    Money.ofMinorUnits(100 + random.nextInt(100_000)), 10,
+                    new CategoryId(1L + random.nextInt(CATEGORIES)), null, null));
+            }
+        });
+
+        twoTerms = new ProductSearchQuery[QUERIES];
+        prefix = new ProductSearchQuery[QUERIES];
+        commonTerm = new ProductSearchQuery[QUERIES];
+        categoryFilter = new ProductSearchQuery[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String brand = word("b", random.nextInt(BRANDS));
+            String noun = word("n", random.nextInt(NOUNS));
+            long category = 1L + random.nextInt(CATEGORIES);
+            twoTerms[i] = ProductSearchQuery.of(brand + " " + noun, null, null, 20);
+            prefix[i] = ProductSearchQuery.of(brand + " " + noun.substring(0, noun.length() - 1), null, null, 20);
+            commonTerm[i] = ProductSearchQuery.of(noun, null, null, 20);
+            categoryFilter[i] = ProductSearchQuery.of(brand + " " + noun, category, null, 20);
+        }
+
+        // 構築時の一時オブジェクトを計測前に回収する
+        System.gc();
+    }
+
+    @Benchmark
+    public ProductSearchResult twoTerms() {
+        return index.search(twoTerms[next++ & (QUERIES - 1)]);
+    }
+
+    @Benchmark
+    public ProductSearchResult prefix() {
+        return index.search(prefix[next++ & (QUERIES - 1)]);
+    }
+
+    @Benchmark
+    public ProductSearchResult commonTerm() {
+        return index.search(commonTerm[next++ & (QUERIES - 1)]);
+    }
+
+    @Benchmark
+    public ProductSearchResult categoryFilter() {
+        return index.search(categoryFilter[next++ & (QUERIES - 1)]);
+    }
+
+    /**
+     * 合成語（例: n0042）
+     */
+    private static String word(String prefix, int n) {
+        return prefix + String.format("%04d", n);
+    }
+}
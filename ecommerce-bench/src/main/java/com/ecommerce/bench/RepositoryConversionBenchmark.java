@@ -0,0 +1,138 @@
+package com.ecommerce.bench;
+
+import com.ecommerce.domain.model.Category;
+import com.ecommerce.domain.model.CategoryId;
+import com.ecommerce.domain.model.Customer;
+import com.ecommerce.domain.model.CustomerId;
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.model.OrderId;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductId;
+import com.ecommerce.infrastructure.outbox.OutboxWriter;
+import com.ecommerce.infrastructure.persistence.CategoryRepositoryImpl;
+import com.ecommerce.infrastructure.persistence.CustomerRepositoryImpl;
+import com.ecommerce.infrastructure.persistence.OrderRepositoryImpl;
+import com.ecommerce.infrastructure.persistence.ProductRepositoryImpl;
+import com.ecommerce.infrastructure.persistence.jpa.CategoryJpaEntity;
+import com.ecommerce.infrastructure.persistence.jpa.CategoryJpaRepository;
+import com.ecommerce.infrastructure.persistence.jpa.CustomerJpaEntity;
+import com.ecommerce.infrastructure.persistence.jpa.CustomerJpaRepository;
+import com.ecommerce.infrastructure.persistence.jpa.CustomerOrderSummaryJpaRepository;
+import com.ecommerce.infrastructure.persistence.jpa.OrderJpaEntity;
+import com.ecommerce.infrastructure.persistence.jpa.OrderJpaRepository;
+import com.ecommerce.infrastructure.persistence.jpa.ProductJpaEntity;
+import com.ecommerce.infrastructure.persistence.jpa.ProductJpaRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RepositoryConversionBenchmark - *RepositoryImpl のエンティティ変換
+ * 公開 API から計測する（findById は toDomain、save は toJpa を通る。注文の save は戻り値の toDomain も含む）
+ * JPA リポジトリは Fixtures のエンティティを返すスタブで置き換え、DB には触れない
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RepositoryConversionBenchmark {
+    @Param({"1", "10", "100"})
+    public int lines;
+
+    private CategoryRepositoryImpl categoryRepository;
+    private CustomerRepositoryImpl customerRepository;
+    private OrderRepositoryImpl orderRepository;
+    private ProductRepositoryImpl productRepository;
+
+    private Category category;
+    private Customer customer;
+    private Order order;
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        // エンティティは事前に作っておき、計測にエンティティの生成を含めない
+        CategoryJpaEntity categoryEntity = Fixtures.categoryEntity();
+        CustomerJpaEntity customerEntity = Fixtures.customerEntity();
+        ProductJpaEntity productEntity = Fixtures.productEntity();
+        OrderJpaEntity orderEntity = Fixtures.orderEntity(lines);
+
+        CategoryJpaRepository categoryJpaRepository = Fixtures.stubRepository(
+            CategoryJpaRepository.class, id -> categoryEntity);
+        CustomerJpaRepository customerJpaRepository = Fixtures.stubRepository(
+            CustomerJpaRepository.class, id -> customerEntity);
+        ProductJpaRepository productJpaRepository = Fixtures.stubRepository(
+            ProductJpaRepository.class, id -> productEntity);
+        OrderJpaRepository orderJpaRepository = Fixtures.stubRepository(
+            OrderJpaRepository.class, id -> orderEntity);
+        // 注文履歴の集計は新規注文とキャンセルでだけ更新されるため、保存済みの注文の保存では呼ばれない
+        CustomerOrderSummaryJpaRepository summaryJpaRepository = Fixtures.stubRepository(
+            CustomerOrderSummaryJpaRepository.class, id -> null);
+        // 復元した集約はドメインイベントを持たないため、OutboxWriter は何も書き込まない
+        OutboxWriter outboxWriter = new OutboxWriter(null, null, null);
+
+        categoryRepository = new CategoryRepositoryImpl(categoryJpaRepository);
+        customerRepository = new CustomerRepositoryImpl(customerJpaRepository);
+        orderRepository = new OrderRepositoryImpl(orderJpaRepository, customerJpaRepository, productJpaRepository,
+            summaryJpaRepository, outboxWriter);
+        productRepository = new ProductRepositoryImpl(productJpaRepository, categoryJpaRepository, outboxWriter);
+
+        category = Fixtures.category();
+        customer = Fixtures.customer();
+        order = Fixtures.order(lines);
+        product = Fixtures.product();
+    }
+
+    @Benchmark
+    public Optional<Category> categoryFindById() {
+        return categoryRepository.findById(new CategoryId(1L));
+    }
+
+    @Benchmark
+    public void categorySave() {
+        categoryRepository.save(category);
+    }
+
+    @Benchmark
+    public Optional<Customer> customerFindById() {
+        return customerRepository.findById(new CustomerId(1L));
+    }
+
+    @Benchmark
+    public void customerSave() {
+        customerRepository.save(customer);
+    }
+
+    @Benchmark
+    public Optional<Order> orderFindById() {
+        return orderRepository.findById(new OrderId(1L));
+    }
+
+    @Benchmark
+    public Order orderSave() {
+        return orderRepository.save(order);
+    }
+
+    @Benchmark
+    public Optional<Product> productFindById() {
+        return productRepository.findById(new ProductId(1L));
+    }
+
+    @Benchmark
+    public void productSave() {
+        productRepository.save(product);
+    }
+}
@@ -0,0 +1,140 @@
+package com.ecommerce.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * DataSeeder - 初期データの投入
+ * 件数が多くても短時間で終わるよう、アプリケーション層を通さず JDBC のバッチで直接挿入する
+ * 乱数の種は固定し、実行ごとに同じデータになるようにする
+ */
+public class DataSeeder {
+    private static final Logger log = LoggerFactory.getLogger(DataSeeder.class);
+    private static final int BATCH_SIZE = 1000;
+    private static final int INITIAL_STOCK = 1_000_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadTestProperties properties;
+    private final Random random = new Random(42);
+
+    public DataSeeder(JdbcTemplate jdbcTemplate, LoadTestProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * 初期データを投入し、以降の操作で使う ID を返す
+     */
+    public SeededData seed() {
+        long started = System.nanoTime();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        // ID はテーブル採番のため、各テーブルとも既存の最大 ID の後ろから割り当てる
+        long categoryId = nextId("categories");
+        List<Object[]> categories = new ArrayList<>();
+        for (int i = 0; i < properties.getCategories(); i++) {
+            categories.add(new Object[]{categoryId++, "Category " + i, "Seeded category " + i, now, now});
+        }
+        insert("INSERT INTO categories (id, name, description, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+            categories);
+        long[] categoryIds = ids("categories");
+
+        long productId = nextId("products");
+        List<Object[]> products = new ArrayList<>();
+        BigDecimal[] prices = new BigDecimal[properties.getProducts()];
+        for (int i = 0; i < properties.getProducts(); i++) {
+            prices[i] = BigDecimal.valueOf(100 + random.nextInt(100_000), 2);
+            long productCategoryId = categoryIds[random.nextInt(categoryIds.length)];
+            products.add(new Object[]{productId++, "Product " + i, "Seeded product " + i, prices[i], INITIAL_STOCK,
+                productCategoryId, now, now});
+        }
+        insert("INSERT INTO products (id, name, description, price, stock, category_id, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", products);
+        long[] productIds = ids("products");
+
+        long customerId = nextId("customers");
+        List<Object[]> customers = new ArrayList<>();
+        for (int i = 0; i < properties.getCustomers(); i++) {
+            customers.add(new Object[]{customerId++, "First" + i, "Last" + i, "customer" + i + "@example.com",
+                String.format("090-%08d", i), "Address " + i, "City", "State", "100-0001", now, now});
+        }
+        insert("INSERT INTO customers (id, first_name, last_name, email, phone_number, address, city, state, "
+            + "zip_code, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", customers);
+        long[] customerIds = ids("customers");
+
+        // 明細を先に決めて合計金額を求め、注文 → 明細の順に挿入する
+        long orderId = nextId("orders");
+        List<Object[]> orders = new ArrayList<>();
+        List<List<int[]>> orderLines = new ArrayList<>();
+        for (int i = 0; i < properties.getOrders(); i++) {
+            List<int[]> lines = new ArrayList<>();
+            BigDecimal total = BigDecimal.ZERO;
+            int count = 1 + random.nextInt(properties.getMaxItemsPerOrder());
+            for (int j = 0; j < count; j++) {
+                int productIndex = random.nextInt(productIds.length);
+                int quantity = 1 + random.nextInt(3);
+                lines.add(new int[]{productIndex, quantity});
+                total = total.add(prices[productIndex].multiply(BigDecimal.valueOf(quantity)));
+            }
+            orderLines.add(lines);
+            orders.add(new Object[]{orderId++, customerIds[random.nextInt(customerIds.length)], "PENDING", total,
+                now, now});
+        }
+        insert("INSERT INTO orders (id, customer_id, status, total_price, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?)", orders);
+        long[] orderIds = ids("orders");
+
+        long itemId = nextId("order_items");
+        List<Object[]> items = new ArrayList<>();
+        for (int i = 0; i < orderIds.length; i++) {
+            for (int[] line : orderLines.get(i)) {
+                items.add(new Object[]{itemId++, orderIds[i], productIds[line[0]], line[1], prices[line[0]], now});
+            }
+        }
+        insert("INSERT INTO order_items (id, order_id, product_id, quantity, price_at_purchase, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?)", items);
+
+        // 注文を直接挿入したため、顧客ごとの注文履歴の集計は注文から作り直す
+        jdbcTemplate.update("DELETE FROM customer_order_summaries");
+        jdbcTemplate.update("INSERT INTO customer_order_summaries "
+            + "(customer_id, order_count, cancelled_count, lifetime_spend, last_ordered_at, updated_at) "
+            + "SELECT customer_id, COUNT(*), SUM(CASE WHEN status = 'CANCELLED' THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN status = 'CANCELLED' THEN 0 ELSE total_price END), MAX(created_at), CURRENT_TIMESTAMP(6) "
+            + "FROM orders GROUP BY customer_id");
+
+        log.info("Seeded {} categories, {} products, {} customers, {} orders ({} items) in {} ms",
+            categoryIds.length, productIds.length, customerIds.length, orderIds.length, items.size(),
+            (System.nanoTime() - started) / 1_000_000);
+        return new SeededData(categoryIds, productIds, customerIds, orderIds);
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+
+    private long nextId(String table) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table, Long.class);
+    }
+
+    private long[] ids(String table) {
+        return jdbcTemplate.queryForList("SELECT id FROM " + table + " ORDER BY id", Long.class).stream()
+            .mapToLong(Long::longValue)
+            .toArray();
+    }
+
+    /**
+     * 投入したデータの ID（ID 昇順）
+     */
+    public record SeededData(long[] categoryIds, long[] productIds, long[] customerIds, long[] orderIds) {
+    }
+}
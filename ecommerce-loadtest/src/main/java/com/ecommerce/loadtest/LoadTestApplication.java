@@ -0,0 +1,56 @@
+package com.ecommerce.loadtest;
+
+import com.ecommerce.EcommerceApiApplication;
+import com.ecommerce.infrastructure.persistence.IdGeneratorAligner;
+import com.ecommerce.infrastructure.search.ProductSearchIndexLoader;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.StringUtils;
+
+import java.nio.file.Path;
+
+/**
+ * LoadTestApplication - 負荷試験のエントリポイント
+ *
+ * EcommerceApiApplication を loadtest プロファイル（H2 インメモリ DB）で起動し、
+ * 初期データを投入してから混在ワークロードを実行し、結果を出力して終了する。
+ * 外部の DB やコンテナは不要。
+ */
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(EcommerceApiApplication.class)
+            .web(WebApplicationType.SERVLET)
+            .profiles("loadtest")
+            .run(args);
+        try {
+            Environment environment = context.getEnvironment();
+            LoadTestProperties properties = Binder.get(environment)
+                .bindOrCreate("loadtest", LoadTestProperties.class);
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String contextPath = environment.getProperty("server.servlet.context-path", "");
+            String baseUrl = "http://localhost:" + port + contextPath;
+
+            DataSeeder.SeededData data = new DataSeeder(context.getBean(JdbcTemplate.class), properties).seed();
+            // 採番を経由せずに投入した行の後ろから採番されるようにする
+            context.getBean(IdGeneratorAligner.class).align();
+            // JDBC で直接投入した商品を検索索引に含める
+            context.getBean(ProductSearchIndexLoader.class).load();
+            LoadTestReport report = new WorkloadDriver(baseUrl, properties, data).run();
+
+            report.print(System.out);
+            if (StringUtils.hasText(properties.getReport())) {
+                report.writeJson(Path.of(properties.getReport()));
+                System.out.println("Result is saved to " + properties.getReport());
+            }
+        } finally {
+            context.close();
+        }
+    }
+}
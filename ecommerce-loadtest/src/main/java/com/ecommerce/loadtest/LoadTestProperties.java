@@ -0,0 +1,73 @@
+package com.ecommerce.loadtest;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * LoadTestProperties - 負荷試験の設定
+ * loadtest.* にバインドされる
+ */
+@Data
+public class LoadTestProperties {
+    /**
+     * 初期データのカテゴリ数
+     */
+    private int categories = 20;
+
+    /**
+     * 初期データの商品数
+     */
+    private int products = 5000;
+
+    /**
+     * 初期データの顧客数
+     */
+    private int customers = 2000;
+
+    /**
+     * 初期データの注文数
+     */
+    private int orders = 10000;
+
+    /**
+     * 1注文あたりの最大明細数
+     */
+    private int maxItemsPerOrder = 5;
+
+    /**
+     * 同時にリクエストを送るスレッド数
+     */
+    private int threads = 16;
+
+    /**
+     * 計測前のウォームアップ時間
+     */
+    private Duration warmup = Duration.ofSeconds(10);
+
+    /**
+     * 計測時間
+     */
+    private Duration duration = Duration.ofSeconds(60);
+
+    /**
+     * 操作ごとの比率
+     */
+    private Mix mix = new Mix();
+
+    /**
+     * 結果（JSON）の出力先（空の場合は出力しない）
+     */
+    private String report;
+
+    /**
+     * 操作ごとの比率（重み）
+     */
+    @Data
+    public static class Mix {
+        private int browseProducts = 50;
+        private int browseCategory = 30;
+        private int createOrder = 15;
+        private int updateStatus = 5;
+    }
+}
@@ -0,0 +1,96 @@
+package com.ecommerce.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LoadTestReport - 操作ごとのスループットとレイテンシ分位点
+ */
+public class LoadTestReport {
+    private final LoadTestProperties properties;
+    private final Map<Operation, Histogram> latencies;
+    private final Map<Operation, LongAdder> errors;
+
+    public LoadTestReport(LoadTestProperties properties, Map<Operation, Histogram> latencies,
+                          Map<Operation, LongAdder> errors) {
+        this.properties = properties;
+        this.latencies = latencies;
+        this.errors = errors;
+    }
+
+    public void print(PrintStream out) {
+        double seconds = properties.getDuration().toMillis() / 1000.0;
+        out.printf("%n%-32s %10s %10s %8s %10s %10s %10s %10s%n",
+            "operation", "requests", "req/s", "errors", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        Histogram total = null;
+        long totalErrors = 0;
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = latencies.get(operation);
+            long errorCount = errors.get(operation).sum();
+            printRow(out, operation.getLabel(), histogram, errorCount, seconds);
+            if (total == null) {
+                total = histogram.copy();
+            } else {
+                total.add(histogram);
+            }
+            totalErrors += errorCount;
+        }
+        printRow(out, "total", total, totalErrors, seconds);
+    }
+
+    public void writeJson(Path path) throws IOException {
+        double seconds = properties.getDuration().toMillis() / 1000.0;
+        Map<String, Object> operations = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = latencies.get(operation);
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("requests", histogram.getTotalCount());
+            row.put("throughput", histogram.getTotalCount() / seconds);
+            row.put("errors", errors.get(operation).sum());
+            row.put("p50Ms", millis(histogram.getValueAtPercentile(50)));
+            row.put("p99Ms", millis(histogram.getValueAtPercentile(99)));
+            row.put("p999Ms", millis(histogram.getValueAtPercentile(99.9)));
+            row.put("maxMs", millis(histogram.getMaxValue()));
+            operations.put(operation.name(), row);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("threads", properties.getThreads());
+        result.put("durationSeconds", seconds);
+        Map<String, Object> seed = new LinkedHashMap<>();
+        seed.put("categories", properties.getCategories());
+        seed.put("products", properties.getProducts());
+        seed.put("customers", properties.getCustomers());
+        seed.put("orders", properties.getOrders());
+        result.put("seed", seed);
+        result.put("operations", operations);
+
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), result);
+    }
+
+    private static void printRow(PrintStream out, String label, Histogram histogram, long errorCount, double seconds) {
+        out.printf("%-32s %10d %10.1f %8d %10.2f %10.2f %10.2f %10.2f%n",
+            label,
+            histogram.getTotalCount(),
+            histogram.getTotalCount() / seconds,
+            errorCount,
+            millis(histogram.getValueAtPercentile(50)),
+            millis(histogram.getValueAtPercentile(99)),
+            millis(histogram.getValueAtPercentile(99.9)),
+            millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,33 @@
+package com.ecommerce.loadtest;
+
+/**
+ * Operation - 負荷試験で実行する操作
+ */
+public enum Operation {
+    BROWSE_PRODUCTS("GET /api/products"),
+    BROWSE_CATEGORY("GET /api/products/category/{id}"),
+    CREATE_ORDER("POST /api/orders"),
+    UPDATE_STATUS("PUT /api/orders/{id}/status");
+
+    private final String label;
+
+    Operation(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * 設定された比率を操作の順に配列で取得
+     */
+    static int[] weights(LoadTestProperties.Mix mix) {
+        return new int[]{
+            mix.getBrowseProducts(),
+            mix.getBrowseCategory(),
+            mix.getCreateOrder(),
+            mix.getUpdateStatus()
+        };
+    }
+}
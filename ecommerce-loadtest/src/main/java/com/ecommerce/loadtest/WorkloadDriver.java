@@ -0,0 +1,214 @@
+package com.ecommerce.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * WorkloadDriver - 設定された比率で操作を混在させて API にリクエストを送る
+ * ウォームアップ中の結果は捨て、計測時間中のレイテンシを操作ごとのヒストグラムに記録する
+ */
+public class WorkloadDriver {
+    private static final Logger log = LoggerFactory.getLogger(WorkloadDriver.class);
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final String baseUrl;
+    private final LoadTestProperties properties;
+    private final DataSeeder.SeededData data;
+    private final HttpClient client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // PENDING のまま残っている注文（ステータス更新の対象）
+    private final Queue<Long> pendingOrders = new ConcurrentLinkedQueue<>();
+
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+    public WorkloadDriver(String baseUrl, LoadTestProperties properties, DataSeeder.SeededData data) {
+        this.baseUrl = baseUrl;
+        this.properties = properties;
+        this.data = data;
+        for (long orderId : data.orderIds()) {
+            pendingOrders.add(orderId);
+        }
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new ConcurrentHistogram(MAX_LATENCY_NANOS, 3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    public LoadTestReport run() throws InterruptedException {
+        int[] weights = Operation.weights(properties.getMix());
+        int totalWeight = 0;
+        for (int weight : weights) {
+            totalWeight += weight;
+        }
+        if (totalWeight <= 0) {
+            throw new IllegalArgumentException("At least one operation must have a positive weight");
+        }
+
+        long measureFrom = System.nanoTime() + properties.getWarmup().toNanos();
+        long measureUntil = measureFrom + properties.getDuration().toNanos();
+        log.info("Running {} threads: warmup {}, duration {}",
+            properties.getThreads(), properties.getWarmup(), properties.getDuration());
+
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getThreads());
+        List<Future<?>> workers = new ArrayList<>();
+        int finalTotalWeight = totalWeight;
+        for (int i = 0; i < properties.getThreads(); i++) {
+            workers.add(executor.submit(() -> work(weights, finalTotalWeight, measureFrom, measureUntil)));
+        }
+        executor.shutdown();
+        executor.awaitTermination(properties.getWarmup().plus(properties.getDuration()).toMillis() + 60_000,
+            TimeUnit.MILLISECONDS);
+        for (Future<?> worker : workers) {
+            worker.cancel(true);
+        }
+
+        return new LoadTestReport(properties, latencies, errors);
+    }
+
+    private void work(int[] weights, int totalWeight, long measureFrom, long measureUntil) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now;
+        while ((now = System.nanoTime()) < measureUntil) {
+            Operation operation = pick(weights, totalWeight, random.nextInt(totalWeight));
+            boolean ok;
+            try {
+                ok = execute(operation, random);
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (now < measureFrom) {
+                continue;
+            }
+
+            long elapsed = System.nanoTime() - now;
+            latencies.get(operation).recordValue(Math.min(elapsed, MAX_LATENCY_NANOS));
+            if (!ok) {
+                errors.get(operation).increment();
+            }
+        }
+    }
+
+    private static Operation pick(int[] weights, int totalWeight, int roll) {
+        Operation[] operations = Operation.values();
+        for (int i = 0; i < operations.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private boolean execute(Operation operation, ThreadLocalRandom random) throws IOException, InterruptedException {
+        return switch (operation) {
+            case BROWSE_PRODUCTS -> browseProducts(random);
+            case BROWSE_CATEGORY -> get("/api/products/category/" + randomId(data.categoryIds(), random));
+            case CREATE_ORDER -> createOrder(random);
+            case UPDATE_STATUS -> updateStatus(random);
+        };
+    }
+
+    /**
+     * 商品一覧：先頭ページかランダムなカーソル以降のページを取得
+     */
+    private boolean browseProducts(ThreadLocalRandom random) throws IOException, InterruptedException {
+        if (random.nextInt(4) == 0) {
+            return get("/api/products?limit=20");
+        }
+        return get("/api/products?limit=20&after=" + randomId(data.productIds(), random));
+    }
+
+    private boolean createOrder(ThreadLocalRandom random) throws IOException, InterruptedException {
+        int count = 1 + random.nextInt(properties.getMaxItemsPerOrder());
+        Set<Long> productIds = new LinkedHashSet<>();
+        while (productIds.size() < Math.min(count, data.productIds().length)) {
+            productIds.add(randomId(data.productIds(), random));
+        }
+        StringBuilder body = new StringBuilder("[");
+        for (Long productId : productIds) {
+            if (body.length() > 1) {
+                body.append(',');
+            }
+            body.append("{\"productId\":").append(productId)
+                .append(",\"quantity\":").append(1 + random.nextInt(3)).append('}');
+        }
+        body.append(']');
+
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/orders?customerId=" + randomId(data.customerIds(), random)))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+            .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 201) {
+            return false;
+        }
+        JsonNode created = objectMapper.readTree(response.body());
+        pendingOrders.add(created.get("id").asLong());
+        return true;
+    }
+
+    /**
+     * PENDING の注文を1件確定させる（対象がなければ商品一覧の取得で代替）
+     */
+    private boolean updateStatus(ThreadLocalRandom random) throws IOException, InterruptedException {
+        Long orderId = pendingOrders.poll();
+        if (orderId == null) {
+            return browseProducts(random);
+        }
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/orders/" + orderId + "/status"))
+            .header("Content-Type", "application/json")
+            .PUT(HttpRequest.BodyPublishers.ofString("{\"status\":\"confirmed\"}"))
+            .build();
+        return isSuccess(client.send(request, HttpResponse.BodyHandlers.discarding()));
+    }
+
+    private boolean get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri(path)).GET().build();
+        return isSuccess(client.send(request, HttpResponse.BodyHandlers.discarding()));
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private static boolean isSuccess(HttpResponse<?> response) {
+        return response.statusCode() / 100 == 2;
+    }
+
+    private static long randomId(long[] ids, ThreadLocalRandom random) {
+        return ids[random.nextInt(ids.length)];
+    }
+}